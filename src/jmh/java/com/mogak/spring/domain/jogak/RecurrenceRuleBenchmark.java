@@ -0,0 +1,98 @@
+package com.mogak.spring.domain.jogak;
+
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 규칙 루틴 1년치 펼치기 - 날짜마다 전체 규칙 isDueOn 확인, 규칙별 다음 반복일로 건너뛰기, RoutineProjection 비교
+ * ./gradlew jmh (gc 프로파일러로 호출당 할당량도 같이 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurrenceRuleBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 2, 12);
+    private static final int RANGE_DAYS = 365;
+
+    @Param({"1000", "5000"})
+    private int ruleCount;
+
+    private List<Jogak> routines;
+    private List<RecurrenceRule> rules;
+    private RoutineProjection projection;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        routines = new ArrayList<>();
+        rules = new ArrayList<>();
+        for (int i = 0; i < ruleCount; i++) {
+            int interval = 2 + random.nextInt(3);
+            Recurrence recurrence;
+            switch (random.nextInt(3)) {
+                case 0:
+                    recurrence = Recurrence.of(RecurrenceType.DAILY, interval, null, null);
+                    break;
+                case 1:
+                    recurrence = Recurrence.of(RecurrenceType.WEEKLY, interval, 1 + random.nextInt(127), null);
+                    break;
+                default:
+                    recurrence = Recurrence.of(RecurrenceType.MONTHLY, interval, null, 1 << random.nextInt(31));
+            }
+            Jogak routine = Jogak.builder()
+                    .title("routine" + i)
+                    .isRoutine(true)
+                    .startAt(TODAY.minusDays(random.nextInt(60)))
+                    .endAt(random.nextInt(4) == 0 ? null : TODAY.plusDays(random.nextInt(400)))
+                    .build();
+            routine.updateRecurrence(recurrence);
+            routines.add(routine);
+            rules.add(routine.getRecurrenceRule());
+        }
+        projection = RoutineProjection.of(routines);
+        endDate = TODAY.plusDays(RANGE_DAYS);
+    }
+
+    @Benchmark
+    public int dayByDayIsDueOn() {
+        int count = 0;
+        for (LocalDate date = TODAY; date.isBefore(endDate); date = date.plusDays(1)) {
+            for (RecurrenceRule rule : rules) {
+                if (rule.isDueOn(date)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int nextEpochDayJumps() {
+        int count = 0;
+        long endEpochDay = endDate.toEpochDay();
+        for (RecurrenceRule rule : rules) {
+            for (long day = rule.nextEpochDay(TODAY.toEpochDay()); day < endEpochDay; day = rule.nextEpochDay(day + 1)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<JogakResponseDto.GetRoutineJogakDto> routineProjection() {
+        List<JogakResponseDto.GetRoutineJogakDto> routineJogaks = new ArrayList<>();
+        projection.expandInto(TODAY, endDate, routineJogaks);
+        return routineJogaks;
+    }
+}
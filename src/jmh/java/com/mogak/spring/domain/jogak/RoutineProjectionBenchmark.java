@@ -0,0 +1,86 @@
+package com.mogak.spring.domain.jogak;
+
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미래 루틴 조각 펼치기 - 기존 방식(날짜 목록 생성 후 날짜마다 전체 루틴 stream 필터)과 RoutineProjection 비교
+ * ./gradlew jmh (gc 프로파일러로 호출당 할당량도 같이 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutineProjectionBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 2, 12);
+
+    // 주간, 월간, 연간 조회
+    @Param({"7", "31", "365"})
+    private int rangeDays;
+
+    // 조각 많은 유저 기준 (모각 8개 * 조각 8개)
+    @Param({"64"})
+    private int routineCount;
+
+    private List<Jogak> routines;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        routines = new ArrayList<>();
+        for (int i = 0; i < routineCount; i++) {
+            List<DayOfWeek> days = new ArrayList<>();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (random.nextBoolean()) {
+                    days.add(day);
+                }
+            }
+            LocalDate endAt = random.nextInt(4) == 0 ? null : TODAY.plusDays(random.nextInt(400));
+            routines.add(Jogak.builder()
+                    .title("routine" + i)
+                    .isRoutine(true)
+                    .weekdays(Weekdays.of(days))
+                    .endAt(endAt)
+                    .build());
+        }
+        startDate = TODAY.plusDays(1);
+        endDate = startDate.plusDays(rangeDays);
+    }
+
+    @Benchmark
+    public List<JogakResponseDto.GetRoutineJogakDto> dateListAndStreamFilter() {
+        List<LocalDate> futureDates = new ArrayList<>();
+        for (LocalDate date = startDate; date.isBefore(endDate); date = date.plusDays(1)) {
+            if (date.isAfter(TODAY)) {
+                futureDates.add(date);
+            }
+        }
+        List<JogakResponseDto.GetRoutineJogakDto> routineJogaks = new ArrayList<>();
+        for (LocalDate date : futureDates) {
+            routines.stream()
+                    .filter(jogak -> jogak.isDueOn(date))
+                    .filter(jogak -> jogak.getEndAt() == null || jogak.getEndAt().isAfter(date))
+                    .forEach(jogak -> routineJogaks.add(DailyJogak.getFutureRoutineJogakDto(date, jogak.getTitle())));
+        }
+        return routineJogaks;
+    }
+
+    @Benchmark
+    public List<JogakResponseDto.GetRoutineJogakDto> routineProjection() {
+        List<JogakResponseDto.GetRoutineJogakDto> routineJogaks = new ArrayList<>();
+        RoutineProjection.of(routines).expandInto(startDate, endDate, routineJogaks);
+        return routineJogaks;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mogak.spring.batch;
+
+import com.mogak.spring.domain.stat.StatScope;
+import com.mogak.spring.repository.AchievementStatRepository;
+import com.mogak.spring.service.AchievementStatRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 달성 비트맵 백필 배치
+ * 조각 id 순 청크로 나눠서 조각마다 기존 daily_jogak 이력으로 월 비트맵을 다시 만듦 (다시 실행해도 같은 결과)
+ */
+@RequiredArgsConstructor
+@Component
+public class AchievementBitmapBackfillJob implements BatchJob {
+
+    public static final String NAME = "backfillAchievementBitmap";
+
+    private final AchievementStatRepository achievementStatRepository;
+    private final AchievementStatRecorder achievementStatRecorder;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ChunkStep open(String runKey) {
+        return new ChunkStep() {
+            @Override
+            public List<Long> read(long afterId, int chunkSize) {
+                return achievementStatRepository.findTargetIds(StatScope.JOGAK, afterId, chunkSize);
+            }
+
+            @Override
+            public int write(List<Long> jogakIds) {
+                return achievementStatRecorder.rebuildBitmaps(jogakIds);
+            }
+        };
+    }
+}
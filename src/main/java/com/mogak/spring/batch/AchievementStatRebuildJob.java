@@ -0,0 +1,50 @@
+package com.mogak.spring.batch;
+
+import com.mogak.spring.domain.stat.StatScope;
+import com.mogak.spring.repository.AchievementStatRepository;
+import com.mogak.spring.service.AchievementStatRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 달성 통계 재계산 배치
+ * runKey는 {StatScope}@{실행 시각}이고, 해당 단위(조각/모각/모다라트) id 순 청크로 나눠서 데일리 조각 이력으로 다시 계산
+ */
+@RequiredArgsConstructor
+@Component
+public class AchievementStatRebuildJob implements BatchJob {
+
+    public static final String NAME = "rebuildAchievementStat";
+    private static final String RUN_KEY_DELIMITER = "@";
+
+    private final AchievementStatRepository achievementStatRepository;
+    private final AchievementStatRecorder achievementStatRecorder;
+
+    public static String runKey(StatScope scope, String runKey) {
+        return scope.name() + RUN_KEY_DELIMITER + runKey;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ChunkStep open(String runKey) {
+        StatScope scope = StatScope.valueOf(runKey.substring(0, runKey.indexOf(RUN_KEY_DELIMITER)));
+
+        return new ChunkStep() {
+            @Override
+            public List<Long> read(long afterId, int chunkSize) {
+                return achievementStatRepository.findTargetIds(scope, afterId, chunkSize);
+            }
+
+            @Override
+            public int write(List<Long> targetIds) {
+                return achievementStatRecorder.rebuild(scope, targetIds);
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.mogak.spring.batch;
+
+/**
+ * BatchJobRunner로 실행하는 청크 단위 배치 작업
+ * 같은 runKey로 다시 열면 같은 대상을 처리하는 ChunkStep을 반환해야 이어서 실행할 수 있다
+ */
+public interface BatchJob {
+
+    String getName();
+
+    ChunkStep open(String runKey);
+}
@@ -0,0 +1,163 @@
+package com.mogak.spring.batch;
+
+import com.mogak.spring.domain.batch.BatchStatus;
+import com.mogak.spring.domain.batch.JobExecution;
+import com.mogak.spring.repository.JobExecutionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 배치 작업 실행기
+ * 청크마다 별도 트랜잭션으로 처리/체크포인트를 함께 커밋하고,
+ * 실패한 실행은 같은 runKey로 다시 실행하면 마지막 체크포인트부터 이어서 처리한다
+ */
+@Slf4j
+@Component
+public class BatchJobRunner {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JobExecutionRepository jobExecutionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int chunkSize;
+    private final long resumeWindowHours;
+
+    public BatchJobRunner(JobExecutionRepository jobExecutionRepository,
+                          PlatformTransactionManager transactionManager,
+                          Clock clock,
+                          @Value("${batch.chunk-size:500}") int chunkSize,
+                          @Value("${batch.resume-window-hours:24}") long resumeWindowHours) {
+        this.jobExecutionRepository = jobExecutionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.resumeWindowHours = resumeWindowHours;
+    }
+
+    /**
+     * runKey 단위로 작업 실행, 이미 완료된 실행이면 바로 반환
+     * */
+    public JobExecution run(BatchJob job, String runKey, long fencingToken) {
+        JobExecution execution = Objects.requireNonNull(
+                transactionTemplate.execute(status -> startExecution(job, runKey, fencingToken)));
+        if (execution.isCompleted()) {
+            return execution;
+        }
+        Long executionId = execution.getId();
+        ChunkStep step = job.open(runKey);
+        long lastProcessedId = execution.getLastProcessedId();
+        try {
+            while (true) {
+                long afterId = lastProcessedId;
+                Long processedId = transactionTemplate.execute(status ->
+                        processChunk(executionId, fencingToken, step, afterId));
+                if (processedId == null) {
+                    break;
+                }
+                lastProcessedId = processedId;
+            }
+        } catch (RuntimeException e) {
+            transactionTemplate.execute(status ->
+                    jobExecutionRepository.markFailed(executionId, fencingToken, BatchStatus.FAILED, toErrorMessage(e)));
+            log.error("배치 작업 실패 - job: {}, runKey: {}, checkpoint: {}", job.getName(), runKey, lastProcessedId, e);
+            throw e;
+        }
+
+        JobExecution completed = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            JobExecution result = jobExecutionRepository.findById(executionId).orElseThrow();
+            validateFencingToken(result, fencingToken);
+            result.complete(LocalDateTime.now(clock));
+            return result;
+        }));
+        log.info("배치 작업 완료 - job: {}, runKey: {}, 처리: {}건, 기록: {}건, {}rows/s, 청크 평균 {}ms, 최대 {}ms, 실패 {}회",
+                job.getName(), runKey, completed.getReadCount(), completed.getWriteCount(),
+                String.format("%.1f", completed.getRowsPerSecond()), completed.getAverageChunkMillis(),
+                completed.getMaxChunkMillis(), completed.getFailureCount());
+        return completed;
+    }
+
+    /**
+     * 최근에 완료되지 못한 실행들을 체크포인트부터 다시 실행
+     * 하나가 다시 실패해도 나머지 실행은 계속 진행
+     * */
+    public List<JobExecution> resumeIncomplete(BatchJob job, String exceptRunKey, long fencingToken) {
+        LocalDateTime since = LocalDateTime.now(clock).minusHours(resumeWindowHours);
+        List<JobExecution> resumed = new ArrayList<>();
+        for (JobExecution execution : jobExecutionRepository.findIncomplete(job.getName(), BatchStatus.COMPLETED, since)) {
+            if (execution.getRunKey().equals(exceptRunKey)) {
+                continue;
+            }
+            try {
+                log.info("배치 작업 재개 - job: {}, runKey: {}, checkpoint: {}",
+                        job.getName(), execution.getRunKey(), execution.getLastProcessedId());
+                resumed.add(run(job, execution.getRunKey(), fencingToken));
+            } catch (RuntimeException e) {
+                log.warn("배치 작업 재개 실패 - job: {}, runKey: {}", job.getName(), execution.getRunKey());
+            }
+        }
+        return resumed;
+    }
+
+    private JobExecution startExecution(BatchJob job, String runKey, long fencingToken) {
+        JobExecution execution = jobExecutionRepository.findByJobNameAndRunKey(job.getName(), runKey)
+                .orElseGet(() -> jobExecutionRepository.save(JobExecution.builder()
+                        .jobName(job.getName())
+                        .runKey(runKey)
+                        .status(BatchStatus.STARTED)
+                        .build()));
+        if (execution.isCompleted()) {
+            return execution;
+        }
+        Long executionId = execution.getId();
+        if (jobExecutionRepository.claim(executionId, fencingToken, BatchStatus.STARTED, LocalDateTime.now(clock)) == 0) {
+            // 이미 더 크거나 같은 fencing token으로 다른 서버가 이어받은 실행
+            throw staleExecution(executionId);
+        }
+        return jobExecutionRepository.findById(executionId).orElseThrow();
+    }
+
+    // 처리할 대상이 없으면 null 반환
+    private Long processChunk(Long executionId, long fencingToken, ChunkStep step, long afterId) {
+        long chunkStart = System.nanoTime();
+        List<Long> ids = step.read(afterId, chunkSize);
+        if (ids.isEmpty()) {
+            return null;
+        }
+        int written = step.write(ids);
+        long lastId = ids.get(ids.size() - 1);
+        long chunkMillis = (System.nanoTime() - chunkStart) / 1_000_000;
+        int updated = jobExecutionRepository.checkpoint(executionId, fencingToken, lastId, ids.size(), written, chunkMillis);
+        if (updated == 0) {
+            // 다른 서버가 더 큰 fencing token으로 작업을 이어받음 -> 이 청크는 롤백
+            throw staleExecution(executionId);
+        }
+        return lastId;
+    }
+
+    private static void validateFencingToken(JobExecution execution, long fencingToken) {
+        if (execution.getFencingToken() == null || execution.getFencingToken() != fencingToken) {
+            throw staleExecution(execution.getId());
+        }
+    }
+
+    private static IllegalStateException staleExecution(Long executionId) {
+        return new IllegalStateException("fencing token이 만료된 배치 실행입니다. executionId: " + executionId);
+    }
+
+    private static String toErrorMessage(RuntimeException e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.mogak.spring.batch;
+
+import java.util.List;
+
+public interface ChunkStep {
+
+    /**
+     * afterId 보다 큰 id를 오름차순으로 최대 chunkSize개 조회 (keyset)
+     * */
+    List<Long> read(long afterId, int chunkSize);
+
+    /**
+     * 조회한 id 청크를 처리하고 기록한 row 수를 반환
+     * */
+    int write(List<Long> ids);
+}
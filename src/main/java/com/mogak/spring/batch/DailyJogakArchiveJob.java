@@ -0,0 +1,85 @@
+package com.mogak.spring.batch;
+
+import com.mogak.spring.domain.jogak.DailyJogakArchive;
+import com.mogak.spring.repository.AchievementRollupRepository;
+import com.mogak.spring.repository.DailyJogakArchivePartitions;
+import com.mogak.spring.repository.DailyJogakArchiveRepository;
+import com.mogak.spring.repository.DailyJogakRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 데일리 조각 보관 배치
+ * runKey(보관 기준일, 월 첫날) 이전 데일리 조각을 id 순 청크로 나눠서
+ * 조각별 월 rollup에 개수를 더하고 보관 테이블로 옮긴 뒤 daily_jogak에서 지움 (청크 하나가 한 트랜잭션)
+ * daily_jogak에는 이번 달과 지난 달(hotMonths)만 남아서 인덱스가 작게 유지됨
+ */
+@Component
+public class DailyJogakArchiveJob implements BatchJob {
+
+    public static final String NAME = "archiveDailyJogak";
+
+    private final DailyJogakRepository dailyJogakRepository;
+    private final DailyJogakArchiveRepository dailyJogakArchiveRepository;
+    private final AchievementRollupRepository achievementRollupRepository;
+    private final DailyJogakArchivePartitions dailyJogakArchivePartitions;
+    private final Clock clock;
+    private final int hotMonths;
+
+    public DailyJogakArchiveJob(DailyJogakRepository dailyJogakRepository,
+                                DailyJogakArchiveRepository dailyJogakArchiveRepository,
+                                AchievementRollupRepository achievementRollupRepository,
+                                DailyJogakArchivePartitions dailyJogakArchivePartitions,
+                                Clock clock,
+                                @Value("${daily-jogak.hot-months:2}") int hotMonths) {
+        this.dailyJogakRepository = dailyJogakRepository;
+        this.dailyJogakArchiveRepository = dailyJogakArchiveRepository;
+        this.achievementRollupRepository = achievementRollupRepository;
+        this.dailyJogakArchivePartitions = dailyJogakArchivePartitions;
+        this.clock = clock;
+        this.hotMonths = hotMonths;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * today 기준 보관 기준일 (DailyJogakArchive.archiveBefore)
+     * 한 달 동안 같은 값이라 하루에 여러 번 실행해도 같은 runKey
+     * */
+    public LocalDate archiveBefore(LocalDate today) {
+        return DailyJogakArchive.archiveBefore(today, hotMonths);
+    }
+
+    @Override
+    public ChunkStep open(String runKey) {
+        LocalDate beforeDate = LocalDate.parse(runKey);
+        dailyJogakArchivePartitions.addPartition(beforeDate);
+
+        return new ChunkStep() {
+            @Override
+            public List<Long> read(long afterId, int chunkSize) {
+                return dailyJogakRepository.findIdsBefore(beforeDate, afterId, PageRequest.of(0, chunkSize));
+            }
+
+            @Override
+            public int write(List<Long> dailyJogakIds) {
+                LocalDateTime now = LocalDateTime.now(clock);
+                achievementRollupRepository.insertMissingRollups(dailyJogakIds, now);
+                achievementRollupRepository.addCounts(dailyJogakIds, now);
+                int archived = dailyJogakArchiveRepository.copyFromDailyJogak(dailyJogakIds);
+                dailyJogakRepository.deleteAllByIds(dailyJogakIds);
+                return archived;
+            }
+        };
+    }
+}
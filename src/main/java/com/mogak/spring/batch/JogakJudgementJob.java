@@ -0,0 +1,70 @@
+package com.mogak.spring.batch;
+
+import com.mogak.spring.repository.JogakRepository;
+import com.mogak.spring.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종료된 조각 판정 배치
+ * runKey(정시 instant) 기준으로 새벽 4시가 된 타임존 유저들의 조각 중 종료일이 지난 조각을
+ * 조각 id 순 청크로 나눠서 달성률에 따라 SUCCESS/FAIL로 변경
+ * 자정 전에 시작해서 자정 이후에 끝내는 조각이 있어서 4시에 판정
+ */
+@RequiredArgsConstructor
+@Component
+public class JogakJudgementJob implements BatchJob {
+
+    public static final String NAME = "judgeEndedJogak";
+    private static final int JUDGEMENT_HOUR = 4;
+    private static final int SUCCESS_RATE = 80;
+
+    private final UserRepository userRepository;
+    private final JogakRepository jogakRepository;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ChunkStep open(String runKey) {
+        Instant tick = Instant.parse(runKey);
+        Map<LocalDate, List<String>> judgementTimezones =
+                LocalHourTimezones.group(tick, JUDGEMENT_HOUR, userRepository.findAllTimezones());
+        List<String> timezones = LocalHourTimezones.flatten(judgementTimezones);
+
+        return new ChunkStep() {
+            @Override
+            public List<Long> read(long afterId, int chunkSize) {
+                if (timezones.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                LocalDate latestToday = Collections.max(judgementTimezones.keySet());
+                return jogakRepository.findEndedJogakIds(timezones, latestToday, afterId, PageRequest.of(0, chunkSize));
+            }
+
+            @Override
+            public int write(List<Long> jogakIds) {
+                Long fromJogakId = jogakIds.get(0);
+                Long toJogakId = jogakIds.get(jogakIds.size() - 1);
+                int judged = 0;
+                for (Map.Entry<LocalDate, List<String>> entry : judgementTimezones.entrySet()) {
+                    LocalDateTime localNow = LocalDateTime.ofInstant(tick, ZoneId.of(entry.getValue().get(0)));
+                    judged += jogakRepository.judgeEndedJogaks(
+                            entry.getValue(), entry.getKey(), SUCCESS_RATE, localNow, fromJogakId, toJogakId);
+                }
+                return judged;
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.mogak.spring.batch;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 직전 정시 이후 이번 정시(tick)까지 현지 시각이 hour시를 지난 타임존들을 현지 날짜별로 묶음
+ * 매 정시 실행되는 배치가 타임존별로 하루 한 번씩 처리하기 위해 사용
+ * 현지 시각이 정확히 hour시인지가 아니라 hour시를 지났는지로 보기 때문에
+ * 서머타임으로 hour시가 없는 날(ex. America/Santiago 자정 -> 01시)도 빠지지 않고, hour시가 두 번인 날도 한 번만 선택됨
+ */
+final class LocalHourTimezones {
+
+    private static final Duration TICK = Duration.ofHours(1);
+
+    private LocalHourTimezones() {
+    }
+
+    static Map<LocalDate, List<String>> group(Instant tick, int hour, List<String> timezones) {
+        Instant previousTick = tick.minus(TICK);
+        return timezones.stream()
+                .filter(timezone -> passed(previousTick, tick, hour, ZoneId.of(timezone)))
+                .collect(Collectors.groupingBy(timezone -> LocalDate.ofInstant(tick, ZoneId.of(timezone))));
+    }
+
+    static List<String> flatten(Map<LocalDate, List<String>> timezonesByDate) {
+        return timezonesByDate.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    // (previousTick, tick] 사이에 현지 날짜의 hour시가 있는지
+    private static boolean passed(Instant previousTick, Instant tick, int hour, ZoneId zone) {
+        LocalDateTime now = LocalDateTime.ofInstant(tick, zone);
+        LocalDateTime boundary = now.toLocalDate().atTime(hour, 0);
+        return !now.isBefore(boundary) && LocalDateTime.ofInstant(previousTick, zone).isBefore(boundary);
+    }
+}
@@ -0,0 +1,83 @@
+package com.mogak.spring.batch;
+
+import com.mogak.spring.cache.CalendarCache;
+import com.mogak.spring.domain.jogak.Weekdays;
+import com.mogak.spring.repository.DailyJogakRepository;
+import com.mogak.spring.repository.JogakRepository;
+import com.mogak.spring.repository.UserRepository;
+import com.mogak.spring.repository.query.RecurringJogak;
+import com.mogak.spring.service.AchievementStatRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 루틴 데일리 조각 생성 배치
+ * runKey(정시 instant) 기준으로 자정이 된 타임존의 유저들을 user id 순 청크로 나눠서 INSERT ... SELECT
+ * 매주 반복 루틴은 요일 비트마스크로 SQL에서 거르고, 규칙 루틴은 청크의 후보를 컴파일한 일정으로 거른 뒤 id로 INSERT
+ */
+@RequiredArgsConstructor
+@Component
+public class RoutineJogakJob implements BatchJob {
+
+    public static final String NAME = "createRoutineJogak";
+
+    private final UserRepository userRepository;
+    private final DailyJogakRepository dailyJogakRepository;
+    private final JogakRepository jogakRepository;
+    private final AchievementStatRecorder achievementStatRecorder;
+    private final CalendarCache calendarCache;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ChunkStep open(String runKey) {
+        Instant tick = Instant.parse(runKey);
+        Map<LocalDate, List<String>> midnightTimezones = LocalHourTimezones.group(tick, 0, userRepository.findAllTimezones());
+        List<String> timezones = LocalHourTimezones.flatten(midnightTimezones);
+
+        return new ChunkStep() {
+            @Override
+            public List<Long> read(long afterId, int chunkSize) {
+                if (timezones.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                return userRepository.findIdsByTimezones(timezones, afterId, PageRequest.of(0, chunkSize));
+            }
+
+            @Override
+            public int write(List<Long> userIds) {
+                Long fromUserId = userIds.get(0);
+                Long toUserId = userIds.get(userIds.size() - 1);
+                int created = 0;
+                for (Map.Entry<LocalDate, List<String>> entry : midnightTimezones.entrySet()) {
+                    LocalDateTime localNow = LocalDateTime.ofInstant(tick, ZoneId.of(entry.getValue().get(0)));
+                    LocalDate today = entry.getKey();
+                    created += dailyJogakRepository.insertRoutineDailyJogaks(
+                            today, Weekdays.masksOn(today), entry.getValue(),
+                            localNow, fromUserId, toUserId);
+                    List<Long> dueJogakIds = RecurringJogak.dueOn(
+                            jogakRepository.findRecurringJogaks(entry.getValue(), today, fromUserId, toUserId), today);
+                    if (!dueJogakIds.isEmpty()) {
+                        created += dailyJogakRepository.insertDailyJogaksByIds(dueJogakIds, today, localNow);
+                    }
+                    achievementStatRecorder.onGenerated(today, fromUserId, toUserId);
+                    // 자정 이후 배치 전에 캐시된 오늘 캘린더 무효화 (청크 커밋 후)
+                    calendarCache.evictMonth(userIds, today);
+                }
+                return created;
+            }
+        };
+    }
+}
@@ -0,0 +1,298 @@
+package com.mogak.spring.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mogak.spring.redis.RedisService;
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 유저/월 단위 캘린더 캐시 (주간/월간 루틴 캘린더, 날짜별 데일리 조각)
+ * 유저의 한 달을 redis hash 하나(calendar:{userId}:{yyyy-MM})에 두고 필드로 루틴 캘린더와 날짜별 조회 결과를 저장
+ * 조각이 바뀌면 영향받는 달의 hash만 지우고, 유저별로 캐시된 달 목록(calendar:{userId}:months)으로 지울 달을 찾음
+ * 캐시 값에는 계산한 날의 유저 기준 오늘을 함께 저장해서, 날짜가 바뀌어 오늘/미래 구분이 달라지면 다시 계산
+ * 무효화할 때마다 유저별 세대(calendar:{userId}:generation)를 올리고, 계산 전에 읽은 세대가 그대로일 때만 저장해서
+ * 무효화 전에 읽은 DB 값이 무효화 뒤에 캐시되지 않도록 함
+ * 유저의 키는 모두 {userId} hash tag로 같은 slot에 두고, 스크립트는 유저 하나씩 실행 (접근하는 키는 모두 KEYS로 넘김)
+ */
+@Slf4j
+@Component
+public class CalendarCache {
+
+    private static final String KEY_PREFIX = "calendar:";
+    private static final String MONTHS_SUFFIX = "months";
+    private static final String GENERATION_SUFFIX = "generation";
+    private static final String ROUTINES_FIELD = "routines";
+    private static final String FIRST_MONTH = "0000-01";
+    private static final String LAST_MONTH = "9999-12";
+    private static final String NO_GENERATION = "0";
+    private static final String MONTH_DELIMITER = ",";
+
+    // 세대가 ARGV[5] 그대로일 때만 달 hash에 필드 저장 + 캐시된 달 목록에 추가
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[3]) or '" + NO_GENERATION + "') ~= ARGV[5] then return 0 end " +
+                    "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+                    "redis.call('sadd', KEYS[2], ARGV[4]) " +
+                    "return redis.call('pexpire', KEYS[2], ARGV[3])", Long.class);
+    // 세대(KEYS[1])를 올리고 캐시된 달 목록(KEYS[2])을 ','로 이어서 반환
+    private static final RedisScript<String> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[1]) " +
+                    "redis.call('pexpire', KEYS[1], ARGV[1]) " +
+                    "return table.concat(redis.call('smembers', KEYS[2]), '" + MONTH_DELIMITER + "')", String.class);
+    // 달 hash(KEYS[2..])를 지우고 캐시된 달 목록(KEYS[1])에서 해당 달(ARGV[1..]) 제거
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #KEYS do " +
+                    "redis.call('del', KEYS[i]) " +
+                    "redis.call('srem', KEYS[1], ARGV[i - 1]) " +
+                    "end " +
+                    "return #KEYS - 1", Long.class);
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttl;
+    private final JavaType routinesType;
+    private final JavaType dayType;
+    private final Counter routinesHit;
+    private final Counter routinesMiss;
+    private final Counter dayHit;
+    private final Counter dayMiss;
+    private final Counter routinesBypass;
+    private final Counter dayBypass;
+
+    public CalendarCache(RedisService redisService,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${calendar.cache.enabled:true}") boolean enabled,
+                         @Value("${calendar.cache.ttl:86400000}") long ttl) {
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.routinesType = objectMapper.getTypeFactory().constructParametricType(Entry.class,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, JogakResponseDto.GetRoutineJogakDto.class));
+        this.dayType = objectMapper.getTypeFactory().constructParametricType(Entry.class,
+                JogakResponseDto.GetDailyJogakListDto.class);
+        this.routinesHit = requests(meterRegistry, "routines", "hit");
+        this.routinesMiss = requests(meterRegistry, "routines", "miss");
+        this.dayHit = requests(meterRegistry, "day", "hit");
+        this.dayMiss = requests(meterRegistry, "day", "miss");
+        this.routinesBypass = requests(meterRegistry, "routines", "bypass");
+        this.dayBypass = requests(meterRegistry, "day", "bypass");
+        Gauge.builder("calendar.cache.hit.ratio", this, CalendarCache::hitRatio)
+                .description("캘린더 캐시 적중률 (루틴 캘린더 + 날짜별 조회)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * month 한 달의 루틴 캘린더
+     * 계산 당시 오늘 이후가 포함된 달이면 오늘이 바뀐 뒤에는 다시 계산
+     * */
+    public List<JogakResponseDto.GetRoutineJogakDto> getRoutines(Long userId, YearMonth month, LocalDate today,
+                                                                 Supplier<List<JogakResponseDto.GetRoutineJogakDto>> loader) {
+        if (!enabled) {
+            routinesBypass.increment();
+            return loader.get();
+        }
+        Entry<List<JogakResponseDto.GetRoutineJogakDto>> cached = read(userId, month, ROUTINES_FIELD, routinesType);
+        if (cached != null && (cached.today.equals(today) || month.atEndOfMonth().isBefore(cached.today))) {
+            routinesHit.increment();
+            return cached.payload;
+        }
+        routinesMiss.increment();
+        String generation = generation(userId);
+        List<JogakResponseDto.GetRoutineJogakDto> routines = loader.get();
+        write(userId, month, ROUTINES_FIELD, new Entry<>(today, routines), generation);
+        return routines;
+    }
+
+    /**
+     * day 하루의 데일리 조각
+     * 계산 당시 오늘 또는 미래였던 날짜면 오늘이 바뀐 뒤에는 다시 계산
+     * */
+    public JogakResponseDto.GetDailyJogakListDto getDay(Long userId, LocalDate day, LocalDate today,
+                                                        Supplier<JogakResponseDto.GetDailyJogakListDto> loader) {
+        if (!enabled) {
+            dayBypass.increment();
+            return loader.get();
+        }
+        YearMonth month = YearMonth.from(day);
+        Entry<JogakResponseDto.GetDailyJogakListDto> cached = read(userId, month, day.toString(), dayType);
+        if (cached != null && (cached.today.equals(today) || day.isBefore(cached.today))) {
+            dayHit.increment();
+            return cached.payload;
+        }
+        dayMiss.increment();
+        String generation = generation(userId);
+        JogakResponseDto.GetDailyJogakListDto dailyJogaks = loader.get();
+        write(userId, month, day.toString(), new Entry<>(today, dailyJogaks), generation);
+        return dailyJogaks;
+    }
+
+    /**
+     * date가 속한 달만 무효화 (데일리 조각 달성/시작, 루틴 데일리 조각 생성)
+     * 트랜잭션 안이면 커밋된 뒤에 지워서, 커밋 전 데이터로 다시 캐시되지 않도록 함
+     * */
+    public void evictMonth(Long userId, LocalDate date) {
+        evictMonth(List.of(userId), date);
+    }
+
+    public void evictMonth(Collection<Long> userIds, LocalDate date) {
+        String month = YearMonth.from(date).toString();
+        evictAfterCommit(userIds, month, month);
+    }
+
+    /**
+     * date가 속한 달부터 이후 모든 달 무효화 (루틴 조각 추가 - 지난 기록은 그대로)
+     * */
+    public void evictFrom(Long userId, LocalDate date) {
+        evictAfterCommit(List.of(userId), YearMonth.from(date).toString(), LAST_MONTH);
+    }
+
+    /**
+     * 유저의 모든 달 무효화 (조각 수정/삭제 - 지난 데일리 조각 제목까지 바뀜)
+     * */
+    public void evictAll(Long userId) {
+        evictAfterCommit(List.of(userId), FIRST_MONTH, LAST_MONTH);
+    }
+
+    private void evictAfterCommit(Collection<Long> userIds, String fromMonth, String toMonth) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userIds, fromMonth, toMonth);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userIds, fromMonth, toMonth);
+            }
+        });
+    }
+
+    /**
+     * 세대를 먼저 올린 뒤 그 시점의 캐시된 달 목록에서 범위 안의 달 hash를 지움
+     * 세대가 바뀐 뒤에는 이전 세대로 계산한 값이 저장되지 않으므로, 목록을 읽은 뒤 지우기 전까지 새로 생긴 달은 최신 값
+     * */
+    private void evict(Collection<Long> userIds, String fromMonth, String toMonth) {
+        for (Long userId : userIds) {
+            try {
+                String cachedMonths = redisService.execute(BUMP_SCRIPT, List.of(generationKey(userId), monthsKey(userId)),
+                        String.valueOf(ttl));
+                List<String> months = Arrays.stream(cachedMonths.split(MONTH_DELIMITER))
+                        .filter(month -> !month.isEmpty() && month.compareTo(fromMonth) >= 0 && month.compareTo(toMonth) <= 0)
+                        .collect(Collectors.toList());
+                if (months.isEmpty()) {
+                    continue;
+                }
+                List<String> keys = new ArrayList<>();
+                keys.add(monthsKey(userId));
+                months.forEach(month -> keys.add(monthKey(userId, YearMonth.parse(month))));
+                redisService.execute(EVICT_SCRIPT, keys, months.toArray(String[]::new));
+            } catch (RuntimeException e) {
+                // ttl이 지나면 다시 계산되므로 조회/수정 요청은 실패시키지 않음
+                log.warn("캘린더 캐시 무효화 실패 - user: {}, {} ~ {}", userId, fromMonth, toMonth, e);
+            }
+        }
+    }
+
+    /**
+     * 계산 전에 읽는 유저의 세대 (읽지 못하면 null -> 저장하지 않음)
+     * */
+    private String generation(Long userId) {
+        try {
+            String generation = redisService.getValues(generationKey(userId));
+            return generation == null ? NO_GENERATION : generation;
+        } catch (RuntimeException e) {
+            log.warn("캘린더 캐시 세대 조회 실패 - user: {}", userId, e);
+            return null;
+        }
+    }
+
+    private <T> Entry<T> read(Long userId, YearMonth month, String field, JavaType type) {
+        try {
+            String value = redisService.getHashValue(monthKey(userId, month), field);
+            return value == null ? null : objectMapper.readValue(value, type);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("캘린더 캐시 조회 실패 - user: {}, {} {}", userId, month, field, e);
+            return null;
+        }
+    }
+
+    private void write(Long userId, YearMonth month, String field, Entry<?> entry, String generation) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            redisService.execute(PUT_SCRIPT, List.of(monthKey(userId, month), monthsKey(userId), generationKey(userId)),
+                    field, objectMapper.writeValueAsString(entry), String.valueOf(ttl), month.toString(), generation);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("캘린더 캐시 저장 실패 - user: {}, {} {}", userId, month, field, e);
+        }
+    }
+
+    private double hitRatio() {
+        double hits = routinesHit.count() + dayHit.count();
+        double total = hits + routinesMiss.count() + dayMiss.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String view, String result) {
+        return Counter.builder("calendar.cache.requests")
+                .tag("view", view).tag("result", result)
+                .description("캘린더 캐시 조회 수")
+                .register(meterRegistry);
+    }
+
+    // calendar:{userId}: - 유저의 키가 모두 같은 slot에 오도록 hash tag
+    private static String userPrefix(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:";
+    }
+
+    private static String monthKey(Long userId, YearMonth month) {
+        return userPrefix(userId) + month;
+    }
+
+    private static String monthsKey(Long userId) {
+        return userPrefix(userId) + MONTHS_SUFFIX;
+    }
+
+    private static String generationKey(Long userId) {
+        return userPrefix(userId) + GENERATION_SUFFIX;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    static class Entry<T> {
+        // 계산한 날의 유저 기준 오늘
+        private LocalDate today;
+        private T payload;
+    }
+}
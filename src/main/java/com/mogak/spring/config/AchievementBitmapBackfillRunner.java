@@ -0,0 +1,38 @@
+package com.mogak.spring.config;
+
+import com.mogak.spring.batch.AchievementBitmapBackfillJob;
+import com.mogak.spring.scheduler.SchedulerLock;
+import com.mogak.spring.service.AchievementStatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 달성 비트맵 백필 명령 (--stats.bitmap-backfill=true 로 기동)
+ * 통계 재계산과 같이 정시 runKey로 한 서버만 실행하고, 실패하면 같은 정시 안에 다시 기동해서 이어서 처리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stats.bitmap-backfill", havingValue = "true")
+@Component
+public class AchievementBitmapBackfillRunner implements ApplicationRunner {
+
+    private final AchievementStatService achievementStatService;
+    private final SchedulerLock schedulerLock;
+    private final Clock clock;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String runKey = clock.instant().truncatedTo(ChronoUnit.HOURS).toString();
+        schedulerLock.runExclusively(AchievementBitmapBackfillJob.NAME, runKey, lease -> {
+            long backfilled = achievementStatService.backfillBitmaps(runKey, lease.getToken());
+            log.info("달성 비트맵 백필 - 조각 {}건", backfilled);
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.mogak.spring.config;
+
+import com.mogak.spring.batch.AchievementStatRebuildJob;
+import com.mogak.spring.scheduler.SchedulerLock;
+import com.mogak.spring.service.AchievementStatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 달성 통계 전체 재계산 명령 (--stats.rebuild=true 로 기동)
+ * 여러 서버가 같이 기동해도 같은 시각(정시) runKey로는 한 서버만 실행하고,
+ * 중간에 실패하면 같은 정시 안에 다시 기동했을 때 체크포인트부터 이어서 처리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stats.rebuild", havingValue = "true")
+@Component
+public class AchievementStatRebuildRunner implements ApplicationRunner {
+
+    private final AchievementStatService achievementStatService;
+    private final SchedulerLock schedulerLock;
+    private final Clock clock;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String runKey = clock.instant().truncatedTo(ChronoUnit.HOURS).toString();
+        schedulerLock.runExclusively(AchievementStatRebuildJob.NAME, runKey, lease -> {
+            long rebuilt = achievementStatService.rebuildAll(runKey, lease.getToken());
+            log.info("달성 통계 재계산 - {}건", rebuilt);
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.mogak.spring.config;
+
+import com.mogak.spring.repository.DailyJogakArchivePartitions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * ddl-auto로 만들어진 데일리 조각 보관 테이블을 MySQL에서 압축 + 월 파티션 테이블로 변경
+ * 이미 파티션이 있으면 아무것도 하지 않음
+ */
+@RequiredArgsConstructor
+@Component
+public class DailyJogakArchivePartitionMigration implements ApplicationRunner {
+
+    private final DailyJogakArchivePartitions dailyJogakArchivePartitions;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        dailyJogakArchivePartitions.partitionByMonth();
+    }
+}
@@ -0,0 +1,31 @@
+package com.mogak.spring.config;
+
+import com.mogak.spring.repository.DailyJogakRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * target_date가 없는 기존 데일리 조각을 created_at 날짜로 채움
+ * 이관할 데이터가 없으면 target_date 인덱스로 바로 끝남
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DailyJogakTargetDateMigration implements ApplicationRunner {
+
+    private final DailyJogakRepository dailyJogakRepository;
+
+    @Transactional
+    @Override
+    public void run(ApplicationArguments args) {
+        int deleted = dailyJogakRepository.deleteDuplicatedLegacyDailyJogaks();
+        int filled = dailyJogakRepository.fillLegacyTargetDates();
+        if (deleted > 0 || filled > 0) {
+            log.info("데일리 조각 target_date 이관 - 중복 삭제: {}건, 이관: {}건", deleted, filled);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.mogak.spring.config;
+
+import com.mogak.spring.repository.DailyJogakRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * user_id가 없는 기존 데일리 조각을 모각의 유저로 채움
+ * 루틴 캘린더가 (user_id, target_date) 인덱스로만 조회하기 때문에 null이 남아있으면 안 됨
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DailyJogakUserMigration implements ApplicationRunner {
+
+    private final DailyJogakRepository dailyJogakRepository;
+
+    @Transactional
+    @Override
+    public void run(ApplicationArguments args) {
+        int filled = dailyJogakRepository.fillLegacyUserIds();
+        if (filled > 0) {
+            log.info("데일리 조각 user_id 이관 - {}건", filled);
+        }
+    }
+}
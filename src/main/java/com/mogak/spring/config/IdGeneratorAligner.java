@@ -0,0 +1,73 @@
+package com.mogak.spring.config;
+
+import com.mogak.spring.global.IdGenerators;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 테이블 기반 id 생성기의 다음 값을 각 테이블의 최대 id 이후로 맞춤
+ * IDENTITY로 저장된 기존 데이터와 id가 겹치지 않게 하기 위해 빈 생성 직후, 웹 서버/스케줄러가 시작되기 전에 실행
+ * (ApplicationRunner는 요청과 @Scheduled 작업이 이미 들어오는 시점이라 그 사이 저장이 기존 id와 겹칠 수 있음)
+ * 값은 올리기만 하므로 여러 서버가 동시에 떠도 안전하다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class IdGeneratorAligner implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        for (EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values()) {
+            if (persister.getIdentifierGenerator() instanceof TableGenerator
+                    && persister instanceof AbstractEntityPersister) {
+                align((TableGenerator) persister.getIdentifierGenerator(), (AbstractEntityPersister) persister);
+            }
+        }
+    }
+
+    private void align(TableGenerator generator, AbstractEntityPersister persister) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + persister.getIdentifierColumnNames()[0] + "), 0) FROM " + persister.getTableName(),
+                Long.class);
+        // pooled 최적화는 저장된 값보다 할당 크기만큼 앞선 구간의 id를 발급하므로 최대 id + 할당 크기로 맞춤
+        long nextValue = maxId + generator.getIncrementSize();
+        String segment = generator.getSegmentValue();
+        int updated = jdbcTemplate.update(
+                "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? " +
+                        "WHERE " + IdGenerators.SEGMENT_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?",
+                nextValue, segment, nextValue);
+        if (updated == 0 && !existsSegment(segment)) {
+            try {
+                jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE +
+                        " (" + IdGenerators.SEGMENT_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                        segment, nextValue);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버가 먼저 추가함
+                align(generator, persister);
+                return;
+            }
+        }
+        log.debug("id 생성기 정렬 - {}: 최대 id {}", segment, maxId);
+    }
+
+    private boolean existsSegment(String segment) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.SEGMENT_COLUMN + " = ?",
+                Integer.class, segment);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mogak.spring.config;
+
+import com.mogak.spring.repository.JogakRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * state가 없는 기존 조각을 ONGOING으로 채움
+ * 조회 쿼리와 종료 조각 판정 배치가 state = 'ONGOING'으로 진행중인 조각만 거르기 때문에 null이 남아있으면 안 됨
+ * 첫 판정 배치보다 먼저 채워지도록 빈 생성 직후, 웹 서버/스케줄러가 시작되기 전에 실행
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class JogakStateMigration implements SmartInitializingSingleton {
+
+    private final JogakRepository jogakRepository;
+
+    @Transactional
+    @Override
+    public void afterSingletonsInstantiated() {
+        int filled = jogakRepository.fillLegacyStates();
+        if (filled > 0) {
+            log.info("조각 state 이관 - {}건", filled);
+        }
+    }
+}
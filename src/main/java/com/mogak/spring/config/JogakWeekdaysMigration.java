@@ -0,0 +1,30 @@
+package com.mogak.spring.config;
+
+import com.mogak.spring.repository.JogakRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 요일 비트마스크가 없는 기존 루틴 조각을 jogak_period로 채움
+ * 이관이 끝난 뒤로는 jogak_period에 새로 쓰지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class JogakWeekdaysMigration implements ApplicationRunner {
+
+    private final JogakRepository jogakRepository;
+
+    @Transactional
+    @Override
+    public void run(ApplicationArguments args) {
+        int filled = jogakRepository.fillLegacyWeekdays();
+        if (filled > 0) {
+            log.info("조각 요일 비트마스크 이관 - {}건", filled);
+        }
+    }
+}
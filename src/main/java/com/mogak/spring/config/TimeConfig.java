@@ -0,0 +1,21 @@
+package com.mogak.spring.config;
+
+import com.mogak.spring.domain.user.User;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * "오늘" 계산에 사용하는 Clock
+ * 테스트/벤치마크에서는 Clock.fixed로 교체해 날짜를 고정할 수 있음
+ */
+@Configuration
+public class TimeConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.system(ZoneId.of(User.DEFAULT_TIMEZONE));
+    }
+}
@@ -2,17 +2,22 @@ package com.mogak.spring.converter;
 
 import com.mogak.spring.domain.jogak.DailyJogak;
 import com.mogak.spring.domain.jogak.Jogak;
+import com.mogak.spring.domain.jogak.JogakPause;
+import com.mogak.spring.domain.jogak.JogakState;
+import com.mogak.spring.domain.jogak.Recurrence;
 import com.mogak.spring.domain.mogak.Mogak;
+import com.mogak.spring.repository.query.DailyJogakAchievementDto;
+import com.mogak.spring.web.dto.jogakdto.JogakRequestDto;
 import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class JogakConverter {
-    public static Jogak toInitialJogak(Mogak mogak, String title, Boolean isRoutine, LocalDate today, LocalDate endAt) {
-        return Jogak.builder()
+    public static Jogak toInitialJogak(Mogak mogak, String title, Boolean isRoutine, LocalDate today, LocalDate endAt, LocalTime reminderTime, Recurrence recurrence) {
+        Jogak jogak = Jogak.builder()
                 .user(mogak.getUser())
                 .mogak(mogak)
                 .category(mogak.getBigCategory())
@@ -21,38 +26,40 @@ public class JogakConverter {
                 .achievements(0)
                 .startAt(today)
                 .endAt(endAt)
+                .state(JogakState.ONGOING.name())
+                .reminderTime(reminderTime)
                 .build();
+        jogak.updateRecurrence(recurrence);
+        return jogak;
     }
 
-    public static Jogak toJogak(DailyJogak dailyJogak) {
-        return Jogak.builder()
-                .mogak(dailyJogak.getMogak())
-                .category(dailyJogak.getCategory())
-                .title(dailyJogak.getTitle())
-                .isRoutine(dailyJogak.getIsRoutine())
+    public static JogakPause toJogakPause(Jogak jogak, LocalDate startAt, LocalDate endAt) {
+        return JogakPause.builder()
+                .jogak(jogak)
+                .startAt(startAt)
+                .endAt(endAt)
                 .build();
     }
 
-    public static DailyJogak toDailyJogakResponseDto(Jogak jogak) {
-        return DailyJogak.builder()
-                .id(-1L)
-                .mogak(jogak.getMogak())
-                .jogak(jogak)
-                .title(jogak.getTitle())
-                .category(jogak.getCategory())
-                .isRoutine(jogak.getIsRoutine())
-                .isAchievement(false)
+    public static JogakResponseDto.JogakPauseListDto toJogakPauseListDto(Long jogakId, List<JogakPause> pauses) {
+        return JogakResponseDto.JogakPauseListDto.builder()
+                .jogakId(jogakId)
+                .size(pauses.size())
+                .pauses(pauses.stream()
+                        .map(pause -> JogakResponseDto.JogakPauseDto.builder()
+                                .startDate(pause.getStartAt())
+                                .endDate(pause.getEndAt().minusDays(1))
+                                .build())
+                        .collect(Collectors.toList()))
                 .build();
     }
 
-    public static DailyJogak toInitialDailyJogak(Jogak jogak) {
-        return DailyJogak.builder()
-                .mogak(jogak.getMogak())
-                .category(jogak.getCategory())
-                .title(jogak.getTitle())
-                .isAchievement(false)
-                .jogak(jogak)
-                .isRoutine(jogak.getIsRoutine())
+    public static Jogak toJogak(DailyJogak dailyJogak) {
+        return Jogak.builder()
+                .mogak(dailyJogak.getMogak())
+                .category(dailyJogak.getCategory())
+                .title(dailyJogak.getTitle())
+                .isRoutine(dailyJogak.getIsRoutine())
                 .build();
     }
 
@@ -66,6 +73,7 @@ public class JogakConverter {
                 .achievements(jogak.getAchievements())
                 .startDate(jogak.getStartAt())
                 .endDate(jogak.getEndAt())
+                .reminderTime(jogak.getReminderTime())
                 .build();
     }
 
@@ -77,92 +85,11 @@ public class JogakConverter {
                 .title(jogak.getTitle())
                 .isRoutine(jogak.getIsRoutine())
                 .days(days)
+                .recurrence(JogakResponseDto.RecurrenceDto.of(jogak.getRecurrenceType(), jogak.getRecurrenceInterval(), jogak.getMonthDays()))
                 .achievements(jogak.getAchievements())
                 .startDate(jogak.getStartAt())
                 .endDate(jogak.getEndAt())
-                .build();
-    }
-
-    public static JogakResponseDto.DetailJogakDto toGetJogakDetailResponseDto(Jogak jogak, String color) {
-        return JogakResponseDto.DetailJogakDto.builder()
-                .jogakId(jogak.getId())
-                .mogakTitle(jogak.getMogak().getTitle())
-                .category(jogak.getCategory().getName())
-                .title(jogak.getTitle())
-                .isRoutine(jogak.getIsRoutine())
-                .achievements(jogak.getAchievements())
-                .color(color)
-                .startDate(jogak.getStartAt())
-                .endDate(jogak.getEndAt())
-                .build();
-    }
-
-    public static JogakResponseDto.DetailJogakDto toGetJogakDetailResponseDto(Jogak jogak, String color, List<String> days) {
-        return JogakResponseDto.DetailJogakDto.builder()
-                .jogakId(jogak.getId())
-                .mogakTitle(jogak.getMogak().getTitle())
-                .category(jogak.getCategory().getName())
-                .title(jogak.getTitle())
-                .isRoutine(jogak.getIsRoutine())
-                .days(days)
-                .achievements(jogak.getAchievements())
-                .color(color)
-                .startDate(jogak.getStartAt())
-                .endDate(jogak.getEndAt())
-                .build();
-    }
-
-    public static JogakResponseDto.GetOneTimeJogakDto toGetOneTimeJogakResponseDto(Jogak jogak, Boolean bool) {
-        return JogakResponseDto.GetOneTimeJogakDto.builder()
-                .jogakId(jogak.getId())
-                .mogakTitle(jogak.getMogak().getTitle())
-                .category(jogak.getCategory().getName())
-                .title(jogak.getTitle())
-                .isRoutine(jogak.getIsRoutine())
-                .isAlreadyAdded(bool)
-                .achievements(jogak.getAchievements())
-                .startDate(jogak.getStartAt())
-                .endDate(jogak.getEndAt())
-                .build();
-    }
-
-    public static JogakResponseDto.GetJogakDto toGetJogakResponseDto(Jogak jogak) {
-        return JogakResponseDto.GetJogakDto.builder()
-                .jogakId(jogak.getId())
-                .mogakTitle(jogak.getMogak().getTitle())
-                .category(jogak.getCategory().getName())
-                .title(jogak.getTitle())
-                .isRoutine(jogak.getIsRoutine())
-                .achievements(jogak.getAchievements())
-                .startDate(jogak.getStartAt())
-                .endDate(jogak.getEndAt())
-                .build();
-    }
-
-    public static JogakResponseDto.GetJogakDto toGetJogakResponseDto(Jogak jogak, Boolean isAlreadyAdded) {
-        return JogakResponseDto.GetJogakDto.builder()
-                .jogakId(jogak.getId())
-                .mogakTitle(jogak.getMogak().getTitle())
-                .category(jogak.getCategory().getName())
-                .title(jogak.getTitle())
-                .isRoutine(jogak.getIsRoutine())
-                .days(jogak.getPeriods())
-                .isAlreadyAdded(isAlreadyAdded)
-                .achievements(jogak.getAchievements())
-                .startDate(jogak.getStartAt())
-                .endDate(jogak.getEndAt())
-                .build();
-    }
-
-    public static JogakResponseDto.GetDailyJogakDto toGetDailyJogakResponseDto(DailyJogak dailyJogak) {
-        return JogakResponseDto.GetDailyJogakDto.builder()
-                .jogakId(dailyJogak.getJogak().getId())
-                .dailyJogakId(dailyJogak.getId())
-                .mogakTitle(dailyJogak.getMogak().getTitle())
-                .category(dailyJogak.getCategory().getName())
-                .title(dailyJogak.getTitle())
-                .isRoutine(dailyJogak.getIsRoutine())
-                .isAchievement(dailyJogak.getIsAchievement())
+                .reminderTime(jogak.getReminderTime())
                 .build();
     }
 
@@ -177,25 +104,16 @@ public class JogakConverter {
                 .build();
     }
 
-    public static JogakResponseDto.GetOneTimeJogakListDto toGetOneTimeJogakListResponseDto(List<Jogak> jogaks, List<DailyJogak> dailyJogaks) {
+    public static JogakResponseDto.GetOneTimeJogakListDto toGetOneTimeJogakListResponseDto(List<JogakResponseDto.GetOneTimeJogakDto> jogaks) {
         return JogakResponseDto.GetOneTimeJogakListDto.builder()
-                .jogaks(jogaks.stream()
-                        .map(jogak -> toGetOneTimeJogakResponseDto(jogak, findCorrespondingDailyJogak(jogak, dailyJogaks)))
-                        .collect(Collectors.toList()))
+                .jogaks(jogaks)
                 .size(jogaks.size())
                 .build();
     }
 
-    private static Boolean findCorrespondingDailyJogak(Jogak jogak, List<DailyJogak> dailyJogaks) {
-        return dailyJogaks.stream()
-                .anyMatch(dailyJogak -> Objects.equals(dailyJogak.getJogak(), jogak));
-    }
-
-    public static JogakResponseDto.GetDailyJogakListDto toGetDailyJogakListResponseDto(List<DailyJogak> dailyJogaks) {
+    public static JogakResponseDto.GetDailyJogakListDto toGetDailyJogakListResponseDto(List<JogakResponseDto.GetDailyJogakDto> dailyJogaks) {
         return JogakResponseDto.GetDailyJogakListDto.builder()
-                .dailyJogaks(dailyJogaks.stream()
-                        .map(JogakConverter::toGetDailyJogakResponseDto)
-                        .collect(Collectors.toList()))
+                .dailyJogaks(dailyJogaks)
                 .size(dailyJogaks.size())
                 .build();
     }
@@ -220,4 +138,32 @@ public class JogakConverter {
                 .achievements(jogak.getAchievements())
                 .build();
     }
+
+    public static JogakResponseDto.JogakDailyJogakDto toJogakDailyJogakDto(DailyJogakAchievementDto dailyJogak) {
+        return JogakResponseDto.JogakDailyJogakDto.builder()
+                .jogakId(dailyJogak.getJogakId())
+                .dailyJogakId(dailyJogak.getDailyJogakId())
+                .title(dailyJogak.getTitle())
+                .mogakTitle(dailyJogak.getMogakTitle())
+                .category(dailyJogak.getCategory())
+                .isRoutine(dailyJogak.getIsRoutine())
+                .isAchievement(dailyJogak.getIsAchievement())
+                .achievements(dailyJogak.getAchievements())
+                .build();
+    }
+
+    public static JogakResponseDto.JogakOperationResultDto toJogakOperationResultDto(int index, JogakRequestDto.OperationType type, Object result) {
+        return JogakResponseDto.JogakOperationResultDto.builder()
+                .index(index)
+                .type(type.name())
+                .result(result)
+                .build();
+    }
+
+    public static JogakResponseDto.BatchJogakDto toBatchJogakResponseDto(List<JogakResponseDto.JogakOperationResultDto> results) {
+        return JogakResponseDto.BatchJogakDto.builder()
+                .results(results)
+                .size(results.size())
+                .build();
+    }
 }
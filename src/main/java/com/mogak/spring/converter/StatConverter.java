@@ -0,0 +1,41 @@
+package com.mogak.spring.converter;
+
+import com.mogak.spring.domain.stat.AchievementBitmap;
+import com.mogak.spring.domain.stat.AchievementStat;
+import com.mogak.spring.web.dto.statdto.StatResponseDto;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class StatConverter {
+    public static StatResponseDto.GetStatDto toGetStatDto(AchievementStat stat, LocalDate today) {
+        return StatResponseDto.GetStatDto.builder()
+                .targetId(stat.getTargetId())
+                .totalCount(stat.getTotalCount())
+                .achievedCount(stat.getAchievedCount())
+                .achievementRate(stat.getAchievementRate())
+                .currentStreak(stat.getCurrentStreak(today))
+                .longestStreak(stat.getLongestStreak())
+                .lastAchievedDate(stat.getLastAchievedDate())
+                .build();
+    }
+
+    public static StatResponseDto.GetHeatmapDto toGetHeatmapDto(int year, List<AchievementBitmap> bitmaps) {
+        int[] scheduled = new int[Year.of(year).length()];
+        int[] achieved = new int[scheduled.length];
+        for (AchievementBitmap bitmap : bitmaps) {
+            bitmap.addTo(year, scheduled, achieved);
+        }
+        return StatResponseDto.GetHeatmapDto.builder()
+                .year(year)
+                .startDate(LocalDate.of(year, 1, 1))
+                .scheduledDays((int) Arrays.stream(scheduled).filter(count -> count > 0).count())
+                .achievedDays((int) Arrays.stream(achieved).filter(count -> count > 0).count())
+                .scheduled(Arrays.stream(scheduled).boxed().collect(Collectors.toList()))
+                .achieved(Arrays.stream(achieved).boxed().collect(Collectors.toList()))
+                .build();
+    }
+}
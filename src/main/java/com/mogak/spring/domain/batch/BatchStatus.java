@@ -0,0 +1,7 @@
+package com.mogak.spring.domain.batch;
+
+public enum BatchStatus {
+    STARTED,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,79 @@
+package com.mogak.spring.domain.batch;
+
+import com.mogak.spring.global.BaseEntity;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 실행 기록
+ * 청크마다 마지막으로 처리한 id를 체크포인트로 남겨서 실패 시 이어서 실행한다
+ */
+@Builder
+@Getter
+@Table(name = "job_execution",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_execution_run", columnNames = {"job_name", "run_key"}))
+@Entity
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobExecution extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_execution_id")
+    private Long id;
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+    @Column(name = "run_key", nullable = false)
+    private String runKey;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BatchStatus status;
+    private Long fencingToken;
+    @Builder.Default
+    private Long lastProcessedId = 0L;
+    @Builder.Default
+    private Long readCount = 0L;
+    @Builder.Default
+    private Long writeCount = 0L;
+    @Builder.Default
+    private Integer chunkCount = 0;
+    @Builder.Default
+    private Integer failureCount = 0;
+    @Builder.Default
+    private Long totalChunkMillis = 0L;
+    @Builder.Default
+    private Long maxChunkMillis = 0L;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+    @Column(length = 1000)
+    private String lastError;
+
+    public boolean isCompleted() {
+        return status == BatchStatus.COMPLETED;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = BatchStatus.COMPLETED;
+        this.endedAt = now;
+    }
+
+    public double getRowsPerSecond() {
+        if (totalChunkMillis == 0) {
+            return 0;
+        }
+        return writeCount * 1000.0 / totalChunkMillis;
+    }
+
+    public long getAverageChunkMillis() {
+        return chunkCount == 0 ? 0 : totalChunkMillis / chunkCount;
+    }
+
+    public Duration getElapsed() {
+        if (startedAt == null || endedAt == null) {
+            return Duration.ZERO;
+        }
+        return Duration.between(startedAt, endedAt);
+    }
+}
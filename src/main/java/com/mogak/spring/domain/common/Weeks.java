@@ -1,8 +1,5 @@
 package com.mogak.spring.domain.common;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-
 public enum Weeks {
     MONDAY("MON", 1),
     TUESDAY("TUE", 2),
@@ -28,10 +25,4 @@ public enum Weeks {
         return this.value;
     }
 
-    public static int getTodayNum() {
-        LocalDate today = LocalDate.now();
-        DayOfWeek dayOfWeek = today.getDayOfWeek();
-        return dayOfWeek.getValue();
-    }
-
 }
@@ -2,6 +2,7 @@ package com.mogak.spring.domain.jogak;
 
 import com.mogak.spring.domain.mogak.Mogak;
 import com.mogak.spring.domain.mogak.MogakCategory;
+import com.mogak.spring.domain.user.User;
 import com.mogak.spring.global.BaseEntity;
 import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
 import lombok.*;
@@ -11,7 +12,12 @@ import java.time.LocalDate;
 
 @Builder
 @Getter
-@Table(name = "daily_jogak")
+@Table(name = "daily_jogak",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_jogak_jogak_target_date", columnNames = {"jogak_id", "target_date"}),
+        indexes = {
+                @Index(name = "idx_daily_jogak_target_date", columnList = "target_date"),
+                @Index(name = "idx_daily_jogak_user_target_date", columnList = "user_id, target_date")
+        })
 @Entity
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -26,6 +32,10 @@ public class DailyJogak extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "jogak_id")
     private Jogak jogak;
+    // 모각 유저와 같음, 유저별 날짜 범위 조회를 인덱스로 처리하기 위해 따로 둠
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "mogak_category")
     private MogakCategory category;
@@ -35,25 +45,9 @@ public class DailyJogak extends BaseEntity {
     private Boolean isAchievement;
     @Column(nullable = false)
     private Boolean isRoutine;
-
-    public void updateAchievement(boolean state) {
-        this.isAchievement = state;
-    }
-
-    public void updateJogak(Jogak jogak) {
-        this.jogak = jogak;
-        this.title = jogak.getTitle();
-        this.isRoutine = jogak.getIsRoutine();
-    }
-
-    public static JogakResponseDto.GetRoutineJogakDto getRoutineJogakDto(DailyJogak dailyJogak) {
-        return JogakResponseDto.GetRoutineJogakDto.builder()
-                .dailyJogakId(dailyJogak.getId())
-                .date(dailyJogak.getCreatedAt().toLocalDate())
-                .isAchievement(dailyJogak.getIsAchievement())
-                .title(dailyJogak.getTitle())
-                .build();
-    }
+    // 조각을 수행하는 유저 기준 날짜 (created_at 범위 대신 날짜로 조회)
+    @Column(name = "target_date")
+    private LocalDate targetDate;
 
     public static JogakResponseDto.GetRoutineJogakDto getFutureRoutineJogakDto(LocalDate date, String title) {
         return JogakResponseDto.GetRoutineJogakDto.builder()
@@ -0,0 +1,54 @@
+package com.mogak.spring.domain.jogak;
+
+import com.mogak.spring.global.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 보관 기간이 지난 달의 데일리 조각 (DailyJogakArchiveJob이 daily_jogak에서 옮김)
+ * id는 daily_jogak에서 쓰던 값 그대로, 외래키 없이 id만 둬서 MySQL에서는 압축 + 월 파티션으로 보관
+ * 지난 달 조회용이라 INSERT ... SELECT로만 쌓고 엔티티로 만들지 않음
+ */
+@Getter
+@Table(name = "daily_jogak_archive",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_jogak_archive_jogak_target_date", columnNames = {"jogak_id", "target_date"}),
+        indexes = {
+                @Index(name = "idx_daily_jogak_archive_target_date", columnList = "target_date"),
+                @Index(name = "idx_daily_jogak_archive_user_target_date", columnList = "user_id, target_date")
+        })
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyJogakArchive extends BaseEntity {
+    @Id
+    @Column(name = "daily_jogak_id")
+    private Long id;
+    @Column(name = "mogak_id")
+    private Long mogakId;
+    @Column(name = "jogak_id")
+    private Long jogakId;
+    @Column(name = "user_id")
+    private Long userId;
+    @Column(name = "mogak_category")
+    private Long categoryId;
+    @Column(nullable = false)
+    private String title;
+    @Column(nullable = false)
+    private Boolean isAchievement;
+    @Column(nullable = false)
+    private Boolean isRoutine;
+    @Column(name = "target_date", nullable = false)
+    private LocalDate targetDate;
+
+    /**
+     * today 기준 보관 기준일 - 이번 달을 포함한 hotMonths 개월 전 달의 첫날
+     * 보관 배치는 이 날짜 이전만 옮기므로 이 날짜 이후 데일리 조각은 항상 daily_jogak에 있음
+     * */
+    public static LocalDate archiveBefore(LocalDate today, int hotMonths) {
+        return YearMonth.from(today).minusMonths(hotMonths - 1).atDay(1);
+    }
+}
@@ -4,23 +4,34 @@ import com.mogak.spring.domain.mogak.Mogak;
 import com.mogak.spring.domain.mogak.MogakCategory;
 import com.mogak.spring.domain.user.User;
 import com.mogak.spring.global.BaseEntity;
+import com.mogak.spring.global.IdGenerators;
 import lombok.*;
 
 import javax.persistence.*;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Builder
 @Getter
-@Table(name = "jogak")
+@Table(name = "jogak", indexes = {
+        @Index(name = "idx_jogak_reminder_time", columnList = "reminder_time"),
+        @Index(name = "idx_jogak_state_end_at", columnList = "state, end_at"),
+        @Index(name = "idx_jogak_user_state", columnList = "user_id, state"),
+        @Index(name = "idx_jogak_mogak_state", columnList = "mogak_id, state"),
+        @Index(name = "idx_jogak_weekdays_state", columnList = "weekdays, state")
+})
 @Entity
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Jogak extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "jogak_id_generator")
+    @TableGenerator(name = "jogak_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "jogak",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "jogak_id")
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,31 +46,76 @@ public class Jogak extends BaseEntity {
     @Column(nullable = false)
     private String title;
     @OneToMany(mappedBy = "jogak")
-    private List<JogakPeriod> jogakPeriods = new ArrayList<>();
-    @OneToMany(mappedBy = "jogak")
     private List<DailyJogak> dailyJogaks = new ArrayList<>();
     @Column(nullable = false)
     private Boolean isRoutine;
+    // 루틴 요일 비트마스크 (Weekdays), 루틴이 아니면 null
+    private Integer weekdays;
+    // 매주 반복이 아닌 루틴의 반복 규칙 (Recurrence), 매주 반복이거나 루틴이 아니면 null
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence_type")
+    private RecurrenceType recurrenceType;
+    @Column(name = "recurrence_interval")
+    private Integer recurrenceInterval;
+    // MONTHLY 반복 날짜 비트마스크 (1일 = 1번째 비트)
+    @Column(name = "month_days")
+    private Integer monthDays;
     @Column(name = "achievement")
     private Integer achievements;
     @Column(name = "start_at")
     private LocalDate startAt;
     @Column(name = "end_at")
     private LocalDate endAt;
+    // ONGOING -> 종료일이 지나면 판정 배치가 SUCCESS/FAIL로 변경
     private String state;
+    // 루틴 조각 알림 시각 (유저 타임존 기준)
+    @Column(name = "reminder_time")
+    private LocalTime reminderTime;
 
     public List<String> getPeriods() {
-        return this.getJogakPeriods()
-                .stream()
-                .map(JogakPeriod::getPeriod)
-                .map(Period::getDays)
-                .collect(Collectors.toList());
+        return Weekdays.toDays(weekdays);
+    }
+
+    public Recurrence getRecurrence() {
+        return Recurrence.of(recurrenceType, recurrenceInterval, weekdays, monthDays);
+    }
+
+    // 시작일 ~ 종료일 전날 사이에서 반복 규칙으로 컴파일한 일정
+    public RecurrenceRule getRecurrenceRule() {
+        return RecurrenceRule.compile(getRecurrence(), startAt, endAt);
+    }
+
+    public boolean isDueOn(LocalDate date) {
+        return getRecurrenceRule().isDueOn(date);
     }
 
-    public void update(String title, Boolean isRoutine, LocalDate endAt) {
+    // null이면 루틴 해제
+    public void updateRecurrence(Recurrence recurrence) {
+        this.weekdays = recurrence == null ? null : recurrence.getWeekdays();
+        this.recurrenceType = recurrence == null ? null : recurrence.getType();
+        this.recurrenceInterval = recurrence == null ? null : recurrence.getInterval();
+        this.monthDays = recurrence == null ? null : recurrence.getMonthDays();
+    }
+
+    /**
+     * 반복 규칙 변경
+     * return 변경 전에는 today에 반복하지 않다가 변경 후 반복하게 됐는지
+     * */
+    public boolean changeRecurrence(Recurrence recurrence, LocalDate today) {
+        boolean wasDue = isDueOn(today);
+        updateRecurrence(recurrence);
+        return !wasDue && isDueOn(today);
+    }
+
+    public void update(String title, Boolean isRoutine, LocalDate endAt, LocalTime reminderTime) {
         Optional.ofNullable(title).ifPresent(updateTitle -> this.title = updateTitle);
         Optional.ofNullable(isRoutine).ifPresent(routine -> this.isRoutine = routine);
-        Optional.ofNullable(endAt).ifPresent(endDate -> this.endAt = endDate);
+        // 종료일이 바뀌면 다시 진행중으로 두고, 이미 지난 날짜면 다음 판정 때 다시 판정
+        Optional.ofNullable(endAt).ifPresent(endDate -> {
+            this.endAt = endDate;
+            this.state = JogakState.ONGOING.name();
+        });
+        Optional.ofNullable(reminderTime).ifPresent(time -> this.reminderTime = time);
     }
 
     public void updateCategory(MogakCategory category) {
@@ -69,12 +125,4 @@ public class Jogak extends BaseEntity {
     public void updateState(JogakState state) {
         this.state = state.toString();
     }
-
-    public void increaseAchievements() {
-        this.achievements += 1;
-    }
-
-    public void decreaseAchievements() {
-        this.achievements -= 1;
-    }
 }
@@ -0,0 +1,43 @@
+package com.mogak.spring.domain.jogak;
+
+import com.mogak.spring.global.BaseEntity;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 루틴 조각을 쉬는 기간 [startAt, endAt) - 하루만 건너뛰는 날짜도 하루짜리 기간으로 저장
+ * 겹치거나 맞닿은 기간은 하나로 합쳐서 조각마다 서로 떨어진 기간만 남김
+ */
+@Builder
+@Getter
+@Table(name = "jogak_pause", indexes = {
+        @Index(name = "idx_jogak_pause_jogak_start_at", columnList = "jogak_id, start_at")
+})
+@Entity
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JogakPause extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "jogak_pause_id")
+    private Long id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "jogak_id", nullable = false)
+    private Jogak jogak;
+    @Column(name = "start_at", nullable = false)
+    private LocalDate startAt;
+    // 이 날짜부터 다시 반복
+    @Column(name = "end_at", nullable = false)
+    private LocalDate endAt;
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startAt) && date.isBefore(endAt);
+    }
+
+    public void updatePeriod(LocalDate startAt, LocalDate endAt) {
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+}
@@ -1,5 +1,6 @@
 package com.mogak.spring.domain.jogak;
 
+import com.mogak.spring.global.IdGenerators;
 import lombok.*;
 
 import javax.persistence.*;
@@ -12,7 +13,11 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class JogakPeriod {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "jogak_period_id_generator")
+    @TableGenerator(name = "jogak_period_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "jogak_period",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "jogak_period_id")
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,74 @@
+package com.mogak.spring.domain.jogak;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조각에 저장하는 루틴 반복 규칙 값
+ * 매주 반복(1주 간격 WEEKLY, 1일 간격 DAILY)은 type 없이 weekdays만 두어서 기존 요일 비트마스크 SQL로 처리하고,
+ * 나머지 규칙만 RecurrenceRule로 컴파일해서 계산
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Recurrence {
+
+    private static final int DAYS_IN_MONTH = 31;
+    private static final int EVERY_DAY = Weekdays.of(List.of(DayOfWeek.values()));
+
+    // null이면 weekdays 요일마다 매주
+    private final RecurrenceType type;
+    // null이면 1
+    private final Integer interval;
+    private final Integer weekdays;
+    private final Integer monthDays;
+
+    public static Recurrence weekly(Integer weekdays) {
+        return new Recurrence(null, null, weekdays, null);
+    }
+
+    public static Recurrence of(RecurrenceType type, Integer interval, Integer weekdays, Integer monthDays) {
+        int every = interval == null ? 1 : interval;
+        if (type == null || (type == RecurrenceType.WEEKLY && every == 1)) {
+            return weekly(weekdays);
+        }
+        if (type == RecurrenceType.DAILY && every == 1) {
+            return weekly(EVERY_DAY);
+        }
+        return new Recurrence(type, every, type == RecurrenceType.WEEKLY ? weekdays : null,
+                type == RecurrenceType.MONTHLY ? monthDays : null);
+    }
+
+    public int getIntervalOrDefault() {
+        return interval == null ? 1 : interval;
+    }
+
+    // 날짜(1 ~ 31) 목록을 날짜 비트마스크로 변환 (1일 = 1번째 비트)
+    public static int toMonthDayMask(List<Integer> days) {
+        int mask = 0;
+        for (Integer day : days) {
+            if (day == null || day < 1 || day > DAYS_IN_MONTH) {
+                throw new IllegalArgumentException("날짜는 1 ~ 31 사이여야 합니다: " + day);
+            }
+            mask |= 1 << (day - 1);
+        }
+        return mask;
+    }
+
+    public static List<Integer> toMonthDays(Integer mask) {
+        List<Integer> days = new ArrayList<>();
+        if (mask == null) {
+            return days;
+        }
+        for (int day = 1; day <= DAYS_IN_MONTH; day++) {
+            if ((mask & (1 << (day - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+}
@@ -0,0 +1,217 @@
+package com.mogak.spring.domain.jogak;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recurrence를 한 번 컴파일한 반복 일정 계산기
+ * 날짜를 epoch day로 다루고, 다음 반복일을 주/일/월 단위 나머지 연산으로 바로 구하므로 하루씩 넘기며 확인하지 않음
+ * 조각 시작일(from) 이전과 종료일(until) 당일부터는 반복하지 않음
+ */
+public abstract class RecurrenceRule {
+
+    // 다음 반복일이 없음
+    public static final long NONE = Long.MAX_VALUE;
+
+    private static final int DAYS_IN_WEEK = 7;
+    // 1970-01-01(목) 기준 월요일 시작 주 계산용
+    private static final int EPOCH_DAY_OF_WEEK = 3;
+    // 월 단위 반복은 윤년(2/29)까지 4년이면 한 바퀴 돌므로 그 안에 없으면 반복일 없음
+    private static final int MAX_MONTH_SCAN = 48;
+
+    private final long fromDay;
+    private final long untilDay;
+
+    private RecurrenceRule(LocalDate from, LocalDate until) {
+        this.fromDay = from == null ? Long.MIN_VALUE : from.toEpochDay();
+        this.untilDay = until == null ? NONE : until.toEpochDay();
+    }
+
+    public static RecurrenceRule compile(Recurrence recurrence, LocalDate from, LocalDate until) {
+        int interval = recurrence.getIntervalOrDefault();
+        // 간격 기준일 (예전 조각은 시작일이 없어서 1970-01-01 기준)
+        long anchor = from == null ? 0 : from.toEpochDay();
+        if (recurrence.getType() == RecurrenceType.DAILY) {
+            return new Daily(from, until, interval, anchor);
+        }
+        if (recurrence.getType() == RecurrenceType.MONTHLY) {
+            return new Monthly(from, until, interval, recurrence.getMonthDays(), LocalDate.ofEpochDay(anchor));
+        }
+        return new Weekly(from, until, interval, recurrence.getWeekdays(), anchor);
+    }
+
+    public boolean isDueOn(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        return epochDay >= fromDay && epochDay < untilDay && matches(epochDay);
+    }
+
+    /**
+     * epochDay 당일 포함 다음 반복일, 없으면 NONE
+     * */
+    public long nextEpochDay(long epochDay) {
+        long next = find(Math.max(epochDay, fromDay));
+        return next >= untilDay ? NONE : next;
+    }
+
+    /**
+     * date 당일 포함 다음 반복일, 없으면 null
+     * */
+    public LocalDate next(LocalDate date) {
+        long next = nextEpochDay(date.toEpochDay());
+        return next == NONE ? null : LocalDate.ofEpochDay(next);
+    }
+
+    /**
+     * date 당일 포함 count개의 반복일 (반복이 끝나면 그만큼만)
+     * */
+    public List<LocalDate> nextOccurrences(LocalDate date, int count) {
+        List<LocalDate> occurrences = new ArrayList<>(count);
+        long epochDay = date.toEpochDay();
+        while (occurrences.size() < count) {
+            long next = nextEpochDay(epochDay);
+            if (next == NONE) {
+                break;
+            }
+            occurrences.add(LocalDate.ofEpochDay(next));
+            epochDay = next + 1;
+        }
+        return occurrences;
+    }
+
+    // 기간은 보지 않고 규칙에만 맞는지
+    protected abstract boolean matches(long epochDay);
+
+    // epochDay 당일 포함 규칙에 맞는 첫 날짜, 없으면 NONE (기간은 보지 않음)
+    protected abstract long find(long epochDay);
+
+    private static long week(long epochDay) {
+        return Math.floorDiv(epochDay + EPOCH_DAY_OF_WEEK, DAYS_IN_WEEK);
+    }
+
+    private static int dayOfWeek(long epochDay) {
+        return Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, DAYS_IN_WEEK);
+    }
+
+    private static long weekStart(long week) {
+        return week * DAYS_IN_WEEK - EPOCH_DAY_OF_WEEK;
+    }
+
+    /**
+     * N일마다 - 기준일과의 차이가 N의 배수
+     * */
+    private static final class Daily extends RecurrenceRule {
+        private final int interval;
+        private final long anchor;
+
+        private Daily(LocalDate from, LocalDate until, int interval, long anchor) {
+            super(from, until);
+            this.interval = interval;
+            this.anchor = anchor;
+        }
+
+        @Override
+        protected boolean matches(long epochDay) {
+            return Math.floorMod(epochDay - anchor, interval) == 0;
+        }
+
+        @Override
+        protected long find(long epochDay) {
+            long remainder = Math.floorMod(epochDay - anchor, interval);
+            return remainder == 0 ? epochDay : epochDay + interval - remainder;
+        }
+    }
+
+    /**
+     * N주마다 요일 - 기준일이 속한 주(월요일 시작)부터 N주 간격인 주의 요일 비트
+     * */
+    private static final class Weekly extends RecurrenceRule {
+        private final int interval;
+        private final int weekdays;
+        private final long anchorWeek;
+
+        private Weekly(LocalDate from, LocalDate until, int interval, Integer weekdays, long anchor) {
+            super(from, until);
+            this.interval = interval;
+            this.weekdays = weekdays == null ? 0 : weekdays;
+            this.anchorWeek = week(anchor);
+        }
+
+        @Override
+        protected boolean matches(long epochDay) {
+            return (weekdays & (1 << dayOfWeek(epochDay))) != 0
+                    && Math.floorMod(week(epochDay) - anchorWeek, interval) == 0;
+        }
+
+        @Override
+        protected long find(long epochDay) {
+            if (weekdays == 0) {
+                return NONE;
+            }
+            long week = week(epochDay);
+            long offset = Math.floorMod(week - anchorWeek, interval);
+            if (offset == 0) {
+                // 이번 주 남은 요일
+                int remaining = weekdays & (-1 << dayOfWeek(epochDay));
+                if (remaining != 0) {
+                    return weekStart(week) + Integer.numberOfTrailingZeros(remaining);
+                }
+                week += interval;
+            } else {
+                week += interval - offset;
+            }
+            return weekStart(week) + Integer.numberOfTrailingZeros(weekdays);
+        }
+    }
+
+    /**
+     * N개월마다 날짜 - 기준일이 속한 달부터 N개월 간격인 달의 날짜 비트 (그 달에 없는 날짜는 건너뜀)
+     * */
+    private static final class Monthly extends RecurrenceRule {
+        private final int interval;
+        private final long monthDays;
+        private final long anchorMonth;
+
+        private Monthly(LocalDate from, LocalDate until, int interval, Integer monthDays, LocalDate anchor) {
+            super(from, until);
+            this.interval = interval;
+            this.monthDays = monthDays == null ? 0 : Integer.toUnsignedLong(monthDays);
+            this.anchorMonth = monthIndex(anchor.getYear(), anchor.getMonthValue());
+        }
+
+        @Override
+        protected boolean matches(long epochDay) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            return (monthDays & (1L << (date.getDayOfMonth() - 1))) != 0
+                    && Math.floorMod(monthIndex(date.getYear(), date.getMonthValue()) - anchorMonth, interval) == 0;
+        }
+
+        @Override
+        protected long find(long epochDay) {
+            if (monthDays == 0) {
+                return NONE;
+            }
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            long month = monthIndex(date.getYear(), date.getMonthValue());
+            int fromDayOfMonth = date.getDayOfMonth();
+            long offset = Math.floorMod(month - anchorMonth, interval);
+            if (offset != 0) {
+                month += interval - offset;
+                fromDayOfMonth = 1;
+            }
+            for (int scanned = 0; scanned <= MAX_MONTH_SCAN; scanned++, month += interval, fromDayOfMonth = 1) {
+                YearMonth yearMonth = YearMonth.of((int) Math.floorDiv(month, 12), Math.floorMod(month, 12) + 1);
+                long candidates = monthDays & (-1L << (fromDayOfMonth - 1)) & ((1L << yearMonth.lengthOfMonth()) - 1);
+                if (candidates != 0) {
+                    return yearMonth.atDay(Long.numberOfTrailingZeros(candidates) + 1).toEpochDay();
+                }
+            }
+            return NONE;
+        }
+
+        private static long monthIndex(int year, int month) {
+            return year * 12L + month - 1;
+        }
+    }
+}
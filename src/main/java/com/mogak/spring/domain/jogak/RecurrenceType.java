@@ -0,0 +1,13 @@
+package com.mogak.spring.domain.jogak;
+
+/**
+ * 루틴 반복 규칙 종류 (간격은 Jogak.recurrenceInterval, 기준일은 조각 시작일)
+ * DAILY - N일마다
+ * WEEKLY - N주마다 weekdays 요일 (1주마다는 type 없이 weekdays만 저장)
+ * MONTHLY - N개월마다 monthDays 날짜 (그 달에 없는 날짜는 건너뜀)
+ */
+public enum RecurrenceType {
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
@@ -0,0 +1,11 @@
+package com.mogak.spring.domain.jogak;
+
+/**
+ * 루틴 데일리 조각 생성 방식
+ * NIGHTLY - 자정 스케줄러가 모든 유저의 루틴 조각을 미리 생성
+ * LAZY - 유저가 오늘 조각을 처음 조회할 때 해당 유저의 루틴 조각만 생성
+ */
+public enum RoutineGenerationMode {
+    NIGHTLY,
+    LAZY
+}
@@ -0,0 +1,218 @@
+package com.mogak.spring.domain.jogak;
+
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 아직 생성되지 않은(미래) 루틴 조각을 날짜 범위로 펼치는 계산기
+ * 매주 반복 루틴은 요일별 인덱스 배열과 종료일(epoch day) 배열로 한 번만 정리해두고,
+ * 날짜를 하루씩 넘기면서 그 요일 인덱스만 확인해 응답 리스트에 바로 추가
+ * 규칙 루틴은 RecurrenceRule로 한 번 컴파일해서 다음 반복일 순 힙에 넣고, 반복일이 된 날에만 꺼내서 다음 반복일로 다시 넣음
+ * 쉬는 기간은 루틴별 시작일 순 배열로 두고 날짜가 커지는 방향으로 커서만 옮기면서 빼고, 규칙 루틴은 쉬는 기간 끝으로 바로 건너뜀
+ */
+public final class RoutineProjection {
+
+    private static final int DAYS_IN_WEEK = 7;
+    private static final long NO_END = Long.MAX_VALUE;
+
+    // 요일(DayOfWeek.ordinal)별로 그 요일에 하는 매주 반복 루틴의 인덱스
+    private final int[][] routinesByDay;
+    private final long[] endDays;
+    private final String[] titles;
+    // 인덱스별 규칙 루틴 일정 (매주 반복 루틴은 null)
+    private final RecurrenceRule[] rules;
+    private final int[] ruleIndexes;
+    // 인덱스별 쉬는 기간 [start, end) epoch day (시작일 순, 없으면 null)
+    private final long[][] pauseStarts;
+    private final long[][] pauseEnds;
+    private final boolean hasPauses;
+
+    private RoutineProjection(int[][] routinesByDay, long[] endDays, String[] titles, RecurrenceRule[] rules, int[] ruleIndexes,
+                              long[][] pauseStarts, long[][] pauseEnds, boolean hasPauses) {
+        this.routinesByDay = routinesByDay;
+        this.endDays = endDays;
+        this.titles = titles;
+        this.rules = rules;
+        this.ruleIndexes = ruleIndexes;
+        this.pauseStarts = pauseStarts;
+        this.pauseEnds = pauseEnds;
+        this.hasPauses = hasPauses;
+    }
+
+    public static RoutineProjection of(List<Jogak> routines) {
+        return of(routines, List.of());
+    }
+
+    /**
+     * pauses는 조각, 시작일 순으로 정렬된 쉬는 기간 (JogakPauseRepository.findOverlapping)
+     * */
+    public static RoutineProjection of(List<Jogak> routines, List<JogakPause> pauses) {
+        int size = routines.size();
+        long[] endDays = new long[size];
+        String[] titles = new String[size];
+        RecurrenceRule[] rules = new RecurrenceRule[size];
+        int[] counts = new int[DAYS_IN_WEEK];
+        int ruleCount = 0;
+        for (int i = 0; i < size; i++) {
+            Jogak routine = routines.get(i);
+            endDays[i] = routine.getEndAt() == null ? NO_END : routine.getEndAt().toEpochDay();
+            titles[i] = routine.getTitle();
+            if (routine.getRecurrenceType() != null) {
+                rules[i] = routine.getRecurrenceRule();
+                ruleCount++;
+                continue;
+            }
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (Weekdays.contains(routine.getWeekdays(), day)) {
+                    counts[day.ordinal()]++;
+                }
+            }
+        }
+        int[][] routinesByDay = new int[DAYS_IN_WEEK][];
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            routinesByDay[day] = new int[counts[day]];
+            counts[day] = 0;
+        }
+        int[] ruleIndexes = new int[ruleCount];
+        ruleCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (rules[i] != null) {
+                ruleIndexes[ruleCount++] = i;
+                continue;
+            }
+            Integer weekdays = routines.get(i).getWeekdays();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (Weekdays.contains(weekdays, day)) {
+                    routinesByDay[day.ordinal()][counts[day.ordinal()]++] = i;
+                }
+            }
+        }
+        long[][] pauseStarts = new long[size][];
+        long[][] pauseEnds = new long[size][];
+        if (!pauses.isEmpty()) {
+            indexPauses(routines, pauses, pauseStarts, pauseEnds);
+        }
+        return new RoutineProjection(routinesByDay, endDays, titles, rules, ruleIndexes, pauseStarts, pauseEnds, !pauses.isEmpty());
+    }
+
+    private static void indexPauses(List<Jogak> routines, List<JogakPause> pauses, long[][] pauseStarts, long[][] pauseEnds) {
+        Map<Long, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < routines.size(); i++) {
+            indexes.put(routines.get(i).getId(), i);
+        }
+        int from = 0;
+        while (from < pauses.size()) {
+            Long jogakId = pauses.get(from).getJogak().getId();
+            int to = from;
+            while (to < pauses.size() && pauses.get(to).getJogak().getId().equals(jogakId)) {
+                to++;
+            }
+            Integer routine = indexes.get(jogakId);
+            if (routine != null) {
+                long[] starts = new long[to - from];
+                long[] ends = new long[to - from];
+                for (int i = from; i < to; i++) {
+                    starts[i - from] = pauses.get(i).getStartAt().toEpochDay();
+                    ends[i - from] = pauses.get(i).getEndAt().toEpochDay();
+                }
+                pauseStarts[routine] = starts;
+                pauseEnds[routine] = ends;
+            }
+            from = to;
+        }
+    }
+
+    /**
+     * [from, to) 날짜의 루틴 조각을 날짜 순으로 out에 추가 (같은 날짜는 루틴 목록 순서)
+     * 종료일 당일부터와 쉬는 기간은 추가하지 않음
+     * */
+    public void expandInto(LocalDate from, LocalDate to, List<JogakResponseDto.GetRoutineJogakDto> out) {
+        int day = from.getDayOfWeek().ordinal();
+        long epochDay = from.toEpochDay();
+        long endEpochDay = to.toEpochDay();
+        // 루틴별로 아직 지나지 않은 첫 쉬는 기간 위치
+        int[] cursors = hasPauses ? new int[titles.length] : null;
+        // 규칙 루틴 (다음 반복일, 인덱스) 순 - 같은 날은 인덱스 순으로 꺼내짐
+        PriorityQueue<long[]> upcoming = new PriorityQueue<>(Math.max(1, ruleIndexes.length),
+                (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        for (int routine : ruleIndexes) {
+            long next = nextActiveDay(routine, epochDay, cursors);
+            if (next < endEpochDay) {
+                upcoming.add(new long[]{next, routine});
+            }
+        }
+        // 하루에 반복하는 규칙 루틴 인덱스 (날마다 재사용)
+        int[] dueRules = new int[ruleIndexes.length];
+        for (; epochDay < endEpochDay; epochDay++, day = day == DAYS_IN_WEEK - 1 ? 0 : day + 1) {
+            int[] routines = routinesByDay[day];
+            int dueRuleCount = 0;
+            while (!upcoming.isEmpty() && upcoming.peek()[0] == epochDay) {
+                long[] due = upcoming.poll();
+                dueRules[dueRuleCount++] = (int) due[1];
+                long next = nextActiveDay((int) due[1], epochDay + 1, cursors);
+                if (next < endEpochDay) {
+                    due[0] = next;
+                    upcoming.add(due);
+                }
+            }
+            LocalDate date = null;
+            // 매주 반복 루틴과 규칙 루틴을 루틴 목록 순서로 합침
+            int weekly = 0;
+            int rule = 0;
+            while (weekly < routines.length || rule < dueRuleCount) {
+                int routine;
+                if (rule == dueRuleCount || (weekly < routines.length && routines[weekly] < dueRules[rule])) {
+                    routine = routines[weekly++];
+                    if (endDays[routine] <= epochDay || isPaused(routine, epochDay, cursors)) {
+                        continue;
+                    }
+                } else {
+                    routine = dueRules[rule++];
+                }
+                if (date == null) {
+                    date = LocalDate.ofEpochDay(epochDay);
+                }
+                out.add(DailyJogak.getFutureRoutineJogakDto(date, titles[routine]));
+            }
+        }
+    }
+
+    // epochDay 당일 포함 쉬는 기간이 아닌 규칙 루틴의 다음 반복일 (쉬는 중이면 쉬는 기간 끝부터 다시 찾음)
+    private long nextActiveDay(int routine, long epochDay, int[] cursors) {
+        long next = rules[routine].nextEpochDay(epochDay);
+        long[] starts = cursors == null ? null : pauseStarts[routine];
+        if (starts == null) {
+            return next;
+        }
+        long[] ends = pauseEnds[routine];
+        int cursor = cursors[routine];
+        while (next != RecurrenceRule.NONE && cursor < starts.length && starts[cursor] <= next) {
+            if (ends[cursor] > next) {
+                next = rules[routine].nextEpochDay(ends[cursor]);
+            }
+            cursor++;
+        }
+        cursors[routine] = cursor;
+        return next;
+    }
+
+    // 매주 반복 루틴이 epochDay에 쉬는지 (날짜 순으로만 호출)
+    private boolean isPaused(int routine, long epochDay, int[] cursors) {
+        long[] ends = cursors == null ? null : pauseEnds[routine];
+        if (ends == null) {
+            return false;
+        }
+        int cursor = cursors[routine];
+        while (cursor < ends.length && ends[cursor] <= epochDay) {
+            cursor++;
+        }
+        cursors[routine] = cursor;
+        return cursor < ends.length && pauseStarts[routine][cursor] <= epochDay;
+    }
+}
@@ -0,0 +1,64 @@
+package com.mogak.spring.domain.jogak;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 루틴 요일 비트마스크 (월요일 = 1번째 비트 ... 일요일 = 7번째 비트)
+ * 비트 연산은 인덱스를 타지 못하므로, "N요일에 하는 루틴"은 N번째 비트가 켜진 마스크 64개에 대한 IN 조건으로 조회
+ */
+public final class Weekdays {
+
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int ALL = (1 << DAYS_IN_WEEK) - 1;
+    private static final List<List<Integer>> MASKS_BY_DAY = new ArrayList<>();
+
+    static {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            List<Integer> masks = new ArrayList<>();
+            for (int mask = 1; mask <= ALL; mask++) {
+                if (contains(mask, day)) {
+                    masks.add(mask);
+                }
+            }
+            MASKS_BY_DAY.add(Collections.unmodifiableList(masks));
+        }
+    }
+
+    private Weekdays() {
+    }
+
+    public static int of(List<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= bit(day);
+        }
+        return mask;
+    }
+
+    public static boolean contains(Integer mask, DayOfWeek day) {
+        return mask != null && (mask & bit(day)) != 0;
+    }
+
+    public static List<String> toDays(Integer mask) {
+        List<String> days = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (contains(mask, day)) {
+                days.add(day.name());
+            }
+        }
+        return days;
+    }
+
+    // date의 요일이 켜진 모든 마스크
+    public static List<Integer> masksOn(LocalDate date) {
+        return MASKS_BY_DAY.get(date.getDayOfWeek().ordinal());
+    }
+
+    private static int bit(DayOfWeek day) {
+        return 1 << day.ordinal();
+    }
+}
@@ -4,6 +4,7 @@ import com.mogak.spring.domain.jogak.Jogak;
 import com.mogak.spring.domain.modarat.Modarat;
 import com.mogak.spring.domain.user.User;
 import com.mogak.spring.global.BaseEntity;
+import com.mogak.spring.global.IdGenerators;
 import lombok.*;
 
 import javax.persistence.*;
@@ -18,7 +19,11 @@ import java.util.Optional;
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Mogak extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "mogak_id_generator")
+    @TableGenerator(name = "mogak_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "mogak",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "mogak_id")
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
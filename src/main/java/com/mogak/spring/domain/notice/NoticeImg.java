@@ -1,6 +1,7 @@
 package com.mogak.spring.domain.notice;
 
 import com.mogak.spring.global.BaseEntity;
+import com.mogak.spring.global.IdGenerators;
 import lombok.*;
 
 import javax.persistence.*;
@@ -12,7 +13,11 @@ import javax.persistence.*;
 @Table(name = "notice_img")
 @Entity
 public class NoticeImg extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notice_img_id_generator")
+    @TableGenerator(name = "notice_img_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "notice_img",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "notice_img_id")
     private Long id;
     @Column(nullable = false)
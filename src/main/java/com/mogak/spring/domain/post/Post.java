@@ -1,6 +1,7 @@
 package com.mogak.spring.domain.post;
 
 import com.mogak.spring.global.BaseEntity;
+import com.mogak.spring.global.IdGenerators;
 import com.mogak.spring.domain.jogak.Jogak;
 import com.mogak.spring.domain.mogak.Mogak;
 import com.mogak.spring.domain.user.User;
@@ -17,7 +18,11 @@ import java.util.List;
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
+    @TableGenerator(name = "post_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "post",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "post_id")
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.mogak.spring.domain.post;
 
 import com.mogak.spring.global.BaseEntity;
+import com.mogak.spring.global.IdGenerators;
 import com.mogak.spring.domain.user.User;
 import lombok.*;
 
@@ -14,7 +15,10 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostComment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_comment_id_generator")
+    @TableGenerator(name = "post_comment_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "post_comment",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "comment_id")
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.mogak.spring.domain.post;
 
 import com.mogak.spring.global.BaseEntity;
+import com.mogak.spring.global.IdGenerators;
 import lombok.*;
 
 import javax.persistence.*;
@@ -12,7 +13,11 @@ import javax.persistence.*;
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostImg extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_img_id_generator")
+    @TableGenerator(name = "post_img_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "post_img",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "post_img_id")
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.mogak.spring.domain.post;
 
 import com.mogak.spring.global.BaseEntity;
+import com.mogak.spring.global.IdGenerators;
 import com.mogak.spring.domain.user.User;
 import lombok.*;
 
@@ -13,7 +14,11 @@ import javax.persistence.*;
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostLike extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_like_id_generator")
+    @TableGenerator(name = "post_like_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "post_like",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "like_id")
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,76 @@
+package com.mogak.spring.domain.stat;
+
+import com.mogak.spring.global.BaseEntity;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 조각별 한 달치 데일리 조각 이력 비트맵 (히트맵용)
+ * 1일 = 1번째 비트, scheduledDays는 데일리 조각이 생성된 날, achievedDays는 달성한 날
+ * 1년 히트맵을 조각마다 최대 12 row로 읽어서 데일리 조각을 날짜별로 다시 세지 않음
+ */
+@Builder
+@Getter
+@Table(name = "achievement_bitmap",
+        uniqueConstraints = @UniqueConstraint(name = "uk_achievement_bitmap_jogak_month", columnNames = {"jogak_id", "bitmap_month"}),
+        indexes = @Index(name = "idx_achievement_bitmap_user_month", columnList = "user_id, bitmap_month"))
+@Entity
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AchievementBitmap extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "achievement_bitmap_id")
+    private Long id;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Column(name = "jogak_id", nullable = false)
+    private Long jogakId;
+    // yyyyMM
+    @Column(name = "bitmap_month", nullable = false)
+    private Integer bitmapMonth;
+    @Builder.Default
+    @Column(name = "scheduled_days", nullable = false)
+    private Integer scheduledDays = 0;
+    @Builder.Default
+    @Column(name = "achieved_days", nullable = false)
+    private Integer achievedDays = 0;
+
+    public static AchievementBitmap of(Long userId, Long jogakId, int bitmapMonth) {
+        return AchievementBitmap.builder()
+                .userId(userId)
+                .jogakId(jogakId)
+                .bitmapMonth(bitmapMonth)
+                .build();
+    }
+
+    public static int monthOf(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    public static int bitOf(LocalDate date) {
+        return 1 << (date.getDayOfMonth() - 1);
+    }
+
+    public void mark(LocalDate date, boolean achieved) {
+        scheduledDays |= bitOf(date);
+        if (achieved) {
+            achievedDays |= bitOf(date);
+        }
+    }
+
+    /**
+     * 켜진 날짜마다 year 1월 1일부터의 칸에 1씩 더함 (유저 히트맵은 조각들을 더해서 날짜별 조각 수)
+     * */
+    public void addTo(int year, int[] scheduled, int[] achieved) {
+        int offset = LocalDate.of(year, bitmapMonth % 100, 1).getDayOfYear() - 1;
+        for (int bits = scheduledDays; bits != 0; bits &= bits - 1) {
+            scheduled[offset + Integer.numberOfTrailingZeros(bits)]++;
+        }
+        for (int bits = achievedDays; bits != 0; bits &= bits - 1) {
+            achieved[offset + Integer.numberOfTrailingZeros(bits)]++;
+        }
+    }
+}
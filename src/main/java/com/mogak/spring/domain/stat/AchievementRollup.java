@@ -0,0 +1,33 @@
+package com.mogak.spring.domain.stat;
+
+import com.mogak.spring.global.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 보관 테이블로 옮긴 달의 조각별 데일리 조각 수 / 달성 수
+ * 종료된 조각 판정처럼 개수만 필요한 집계는 보관 테이블을 읽지 않고 이 row로 더함
+ */
+@Getter
+@Table(name = "achievement_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_achievement_rollup_jogak_month", columnNames = {"jogak_id", "rollup_month"}))
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AchievementRollup extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "achievement_rollup_id")
+    private Long id;
+    @Column(name = "jogak_id", nullable = false)
+    private Long jogakId;
+    // yyyyMM
+    @Column(name = "rollup_month", nullable = false)
+    private Integer rollupMonth;
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount;
+    @Column(name = "achieved_count", nullable = false)
+    private Integer achievedCount;
+}
@@ -0,0 +1,122 @@
+package com.mogak.spring.domain.stat;
+
+import com.mogak.spring.global.BaseEntity;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 조각/모각/모다라트별 달성 통계
+ * 데일리 조각이 생성된 날을 한 칸(slot)으로 보고, 칸에 달성한 데일리 조각이 하나라도 있으면 달성한 칸
+ * 연속 달성은 달성한 칸이 이어진 수이고, 달성하지 못한 칸 다음 칸이 생성될 때 끊김 (오늘 칸은 아직 달성 전이어도 유지)
+ * 데일리 조각 생성/달성 때 SQL로 누적해서 조회 시 전체 이력을 다시 세지 않음
+ */
+@Builder
+@Getter
+@Table(name = "achievement_stat",
+        uniqueConstraints = @UniqueConstraint(name = "uk_achievement_stat_target", columnNames = {"scope", "target_id"}))
+@Entity
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AchievementStat extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "achievement_stat_id")
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatScope scope;
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+    // 생성된 데일리 조각 수
+    @Builder.Default
+    private Integer totalCount = 0;
+    // 달성한 데일리 조각 수
+    @Builder.Default
+    private Integer achievedCount = 0;
+    // 마지막 칸의 데일리 조각 수 (같은 날 다시 생성 집계할 때 이미 센 만큼 빼기 위해 둠)
+    @Builder.Default
+    private Integer slotCount = 0;
+    // 마지막 칸의 달성한 데일리 조각 수 (취소로 마지막 칸이 미달성이 되는지 판단하기 위해 둠)
+    @Builder.Default
+    private Integer slotAchievedCount = 0;
+    @Builder.Default
+    private Integer currentStreak = 0;
+    @Builder.Default
+    private Integer longestStreak = 0;
+    private LocalDate lastSlotDate;
+    private LocalDate lastAchievedDate;
+    // 마지막 칸을 처음 달성하기 직전의 마지막 달성일/최장 연속 달성 (마지막 칸 달성 취소 때 이력 없이 되돌림)
+    private LocalDate previousAchievedDate;
+    private Integer previousLongestStreak;
+
+    public static AchievementStat of(StatScope scope, Long targetId) {
+        return AchievementStat.builder()
+                .scope(scope)
+                .targetId(targetId)
+                .build();
+    }
+
+    /**
+     * 달성률(%) - 생성된 데일리 조각이 없으면 0
+     * */
+    public int getAchievementRate() {
+        return totalCount == 0 ? 0 : achievedCount * 100 / totalCount;
+    }
+
+    /**
+     * today 기준 연속 달성 수
+     * 마지막 칸을 달성하지 못했고 그 칸이 이미 지났으면 끊긴 것으로 봄
+     * */
+    public int getCurrentStreak(LocalDate today) {
+        if (lastSlotDate == null) {
+            return 0;
+        }
+        if (lastSlotDate.equals(lastAchievedDate) || !lastSlotDate.isBefore(today)) {
+            return currentStreak;
+        }
+        return 0;
+    }
+
+    /**
+     * 날짜순 하루치 이력으로 전체 다시 계산 (생성/달성 누적과 같은 규칙)
+     * */
+    public void rebuild(List<DailyAchievement> days) {
+        int total = 0;
+        int achieved = 0;
+        int streak = 0;
+        int longest = 0;
+        LocalDate achievedDate = null;
+        LocalDate previousAchievedDate = null;
+        int previousLongest = 0;
+        for (int i = 0; i < days.size(); i++) {
+            DailyAchievement day = days.get(i);
+            if (i == days.size() - 1) {
+                previousAchievedDate = achievedDate;
+                previousLongest = longest;
+            }
+            total += day.getTotal();
+            achieved += day.getAchieved();
+            if (day.isAchieved()) {
+                streak++;
+                longest = Math.max(longest, streak);
+                achievedDate = day.getDate();
+            } else if (i < days.size() - 1) {
+                streak = 0;
+            }
+        }
+        DailyAchievement last = days.isEmpty() ? null : days.get(days.size() - 1);
+        this.totalCount = total;
+        this.achievedCount = achieved;
+        this.slotCount = last == null ? 0 : last.getTotal();
+        this.slotAchievedCount = last == null ? 0 : last.getAchieved();
+        this.currentStreak = streak;
+        this.longestStreak = longest;
+        this.lastSlotDate = last == null ? null : last.getDate();
+        this.lastAchievedDate = achievedDate;
+        this.previousAchievedDate = previousAchievedDate;
+        this.previousLongestStreak = previousLongest;
+    }
+}
@@ -0,0 +1,21 @@
+package com.mogak.spring.domain.stat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 통계 대상의 하루치 데일리 조각 수 / 달성한 데일리 조각 수 (통계 재계산용)
+ */
+@Getter
+@AllArgsConstructor
+public class DailyAchievement {
+    private LocalDate date;
+    private int total;
+    private int achieved;
+
+    public boolean isAchieved() {
+        return achieved > 0;
+    }
+}
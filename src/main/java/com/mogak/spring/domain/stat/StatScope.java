@@ -0,0 +1,8 @@
+package com.mogak.spring.domain.stat;
+
+/**
+ * 달성 통계를 쌓는 단위
+ */
+public enum StatScope {
+    JOGAK, MOGAK, MODARAT
+}
@@ -1,6 +1,7 @@
 package com.mogak.spring.domain.user;
 
 import com.mogak.spring.global.BaseEntity;
+import com.mogak.spring.global.IdGenerators;
 import lombok.*;
 
 import javax.persistence.*;
@@ -12,7 +13,11 @@ import javax.persistence.*;
 @AllArgsConstructor(access= AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Follow extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "follow_id_generator")
+    @TableGenerator(name = "follow_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "follow",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "follow_id")
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
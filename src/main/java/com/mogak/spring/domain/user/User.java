@@ -6,16 +6,19 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.time.ZoneId;
 
 @Builder
 @Getter
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_timezone", columnList = "timezone"))
 @Entity
 //@SQLDelete(sql = "UPDATE users SET deleted = true WHERE id=?")
 //@Where(clause = "deleted=false")
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
+    public static final String DEFAULT_TIMEZONE = "Asia/Seoul";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id", nullable = false)
@@ -37,6 +40,7 @@ public class User extends BaseEntity {
     private String validation;
     @Enumerated(EnumType.STRING)
     private Role role;
+    private String timezone;
 
 
     public void updateNickname(String nickname) {
@@ -56,6 +60,15 @@ public class User extends BaseEntity {
         this.email = email;
     }
 
+    public void updateTimezone(String timezone) {
+        this.timezone = timezone;
+    }
+
+    // 타임존을 설정하지 않은 유저는 서버 기본 타임존 사용
+    public ZoneId getZoneId() {
+        return ZoneId.of(timezone == null ? DEFAULT_TIMEZONE : timezone);
+    }
+
     public void updateValidation(String validation) {
         this.validation = validation;
     }
@@ -0,0 +1,17 @@
+package com.mogak.spring.global;
+
+/**
+ * 테이블 기반 id 생성 설정 (MySQL/H2 공통)
+ * IDENTITY는 INSERT를 바로 실행해야 id를 알 수 있어서 JDBC batch insert가 꺼지므로,
+ * 한 번에 ALLOCATION_SIZE개씩 id를 할당받아 INSERT를 모아서 실행한다
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
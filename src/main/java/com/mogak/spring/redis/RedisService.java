@@ -1,12 +1,15 @@
 package com.mogak.spring.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -33,7 +36,23 @@ public class RedisService {
         redisTemplate.delete(key);
     }
 
+    // 키가 없을 때만 저장 (SET NX PX)
+    public boolean setValuesIfAbsent(String key, String value, long time) {
+        ValueOperations<String, String> values = redisTemplate.opsForValue();
+        return Boolean.TRUE.equals(values.setIfAbsent(key, value, Duration.ofMillis(time)));
+    }
 
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
 
+    public String getHashValue(String key, String field) {
+        HashOperations<String, String, String> hashes = redisTemplate.opsForHash();
+        return hashes.get(key, field);
+    }
 
+    // 여러 명령을 원자적으로 처리해야 하는 경우 lua 스크립트 실행
+    public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+        return (T) redisTemplate.execute(script, keys, (Object[]) args);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.mogak.spring.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이밍 휠
+ * 만료 시각을 tick 단위로 나눈 값으로 버킷을 정해 O(1)로 등록하고, tick마다 현재 버킷만 확인해서 만료된 작업을 실행
+ * 휠 한 바퀴보다 먼 작업은 남은 바퀴 수(rounds)를 하나씩 줄여가며 대기
+ * 등록은 여러 스레드에서 가능하고, 버킷은 worker 스레드만 다룬다
+ */
+@Slf4j
+public class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Deque<Timeout<T>>> buckets;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> expiryHandler;
+    private final AtomicInteger size = new AtomicInteger();
+    private final Thread worker;
+    private volatile boolean running;
+    private volatile long startNanos;
+    // worker 스레드에서만 접근
+    private long tick;
+
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize, Consumer<T> expiryHandler) {
+        if (tickDuration.isZero() || tickDuration.isNegative() || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickDuration과 wheelSize는 0보다 커야 합니다");
+        }
+        int normalizedSize = Integer.highestOneBit(wheelSize) == wheelSize ? wheelSize : Integer.highestOneBit(wheelSize) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = normalizedSize - 1;
+        this.buckets = new ArrayList<>(normalizedSize);
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        this.expiryHandler = expiryHandler;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        startNanos = System.nanoTime();
+        running = true;
+        worker.start();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * delay 이후에 만료되도록 등록 (0 이하면 다음 tick에 만료)
+     * */
+    public void schedule(T task, Duration delay) {
+        if (!running) {
+            throw new IllegalStateException("시작하지 않은 타이밍 휠입니다");
+        }
+        long deadlineNanos = System.nanoTime() - startNanos + Math.max(0, delay.toNanos());
+        pending.add(new Timeout<>(task, deadlineNanos));
+        size.incrementAndGet();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                return;
+            }
+            transferPending();
+            expire(buckets.get((int) (tick & mask)));
+            tick++;
+        }
+    }
+
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            long expiryTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (expiryTick - tick) / buckets.size();
+            // 이미 지난 작업은 현재 버킷에 넣어서 바로 만료
+            long targetTick = Math.max(expiryTick, tick);
+            buckets.get((int) (targetTick & mask)).add(timeout);
+        }
+    }
+
+    private void expire(Deque<Timeout<T>> bucket) {
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            iterator.remove();
+            size.decrementAndGet();
+            try {
+                expiryHandler.accept(timeout.task);
+            } catch (RuntimeException e) {
+                log.warn("타이밍 휠 작업 실행 실패", e);
+            }
+        }
+    }
+
+    private static final class Timeout<T> {
+        private final T task;
+        private final long deadlineNanos;
+        private long remainingRounds;
+
+        private Timeout(T task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.mogak.spring.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬용 sender - 실제로 발송하지 않고 로그만 남김
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminder.sender", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSender implements ReminderSender {
+
+    @Override
+    public void send(Reminder reminder) {
+        log.info("조각 알림 - user: {}, jogak: {}, title: {}, 예정 시각: {}",
+                reminder.getUserId(), reminder.getJogakId(), reminder.getTitle(), reminder.getDueAt());
+    }
+}
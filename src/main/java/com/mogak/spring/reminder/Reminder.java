@@ -0,0 +1,15 @@
+package com.mogak.spring.reminder;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class Reminder {
+    private final Long jogakId;
+    private final Long userId;
+    private final String title;
+    private final Instant dueAt;
+}
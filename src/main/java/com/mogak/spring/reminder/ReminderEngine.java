@@ -0,0 +1,188 @@
+package com.mogak.spring.reminder;
+
+import com.mogak.spring.domain.jogak.Weekdays;
+import com.mogak.spring.repository.JogakRepository;
+import com.mogak.spring.repository.UserRepository;
+import com.mogak.spring.repository.query.RecurringJogak;
+import com.mogak.spring.scheduler.SchedulerLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 루틴 조각 알림 엔진
+ * 다음 1분 동안 울릴 알림을 DB에서 배치로 읽어 타이밍 휠에 등록하고, 휠이 만료시킨 알림을 sender로 발송
+ * 1분 구간마다 한 서버만 읽어오도록 스케줄러 락으로 구간을 나눠 가짐
+ */
+@Slf4j
+@Component
+public class ReminderEngine {
+
+    private static final String LOAD_JOB = "loadReminder";
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final JogakRepository jogakRepository;
+    private final UserRepository userRepository;
+    private final ReminderSender reminderSender;
+    private final SchedulerLock schedulerLock;
+    private final Clock clock;
+    private final int batchSize;
+    private final HashedTimingWheel<Reminder> wheel;
+    private final ExecutorService senderExecutor;
+    private final Timer lateness;
+    private final Counter loaded;
+    private final Counter sent;
+    private final Counter failed;
+
+    public ReminderEngine(JogakRepository jogakRepository,
+                          UserRepository userRepository,
+                          ReminderSender reminderSender,
+                          SchedulerLock schedulerLock,
+                          Clock clock,
+                          MeterRegistry meterRegistry,
+                          @Value("${reminder.batch-size:1000}") int batchSize,
+                          @Value("${reminder.tick-duration:100}") long tickMillis,
+                          @Value("${reminder.wheel-size:1024}") int wheelSize,
+                          @Value("${reminder.sender-threads:4}") int senderThreads) {
+        this.jogakRepository = jogakRepository;
+        this.userRepository = userRepository;
+        this.reminderSender = reminderSender;
+        this.schedulerLock = schedulerLock;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.wheel = new HashedTimingWheel<>("reminder-wheel", Duration.ofMillis(tickMillis), wheelSize, this::dispatch);
+        this.senderExecutor = Executors.newFixedThreadPool(senderThreads);
+        this.lateness = Timer.builder("reminder.lateness")
+                .description("알림 예정 시각 대비 발송 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.loaded = Counter.builder("reminder.loaded").description("휠에 등록한 알림 수").register(meterRegistry);
+        this.sent = Counter.builder("reminder.sent").description("발송한 알림 수").register(meterRegistry);
+        this.failed = Counter.builder("reminder.failed").description("발송 실패한 알림 수").register(meterRegistry);
+        Gauge.builder("reminder.pending", wheel, HashedTimingWheel::size)
+                .description("휠에서 대기중인 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @Scheduled 작업이 시작되기 전에 휠을 먼저 시작 (시작 전 등록은 실패해서 구간의 알림이 빠짐)
+     * */
+    @PostConstruct
+    public void startWheel() {
+        wheel.start();
+    }
+
+    /**
+     * 서버가 뜨면 아직 아무 서버도 읽지 않은 현재 구간을 읽어옴
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCurrentWindow() {
+        loadWindow(clock.instant().truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    /**
+     * 매 분 30초에 다음 1분 구간의 알림을 미리 등록
+     * */
+    @Scheduled(cron = "30 * * * * *")
+    public void loadNextWindow() {
+        loadWindow(clock.instant().truncatedTo(ChronoUnit.MINUTES).plus(WINDOW));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        senderExecutor.shutdown();
+    }
+
+    private void loadWindow(Instant windowStart) {
+        schedulerLock.runExclusively(LOAD_JOB, windowStart.toString(), lease -> {
+            // 같은 순간에 현지 시각이 같은 타임존끼리 묶어서 조회
+            Map<LocalDateTime, List<String>> timezonesByLocalStart = userRepository.findAllTimezones().stream()
+                    .collect(Collectors.groupingBy(timezone -> LocalDateTime.ofInstant(windowStart, ZoneId.of(timezone))));
+            int count = 0;
+            for (Map.Entry<LocalDateTime, List<String>> entry : timezonesByLocalStart.entrySet()) {
+                List<String> timezones = entry.getValue();
+                ZoneId zone = ZoneId.of(timezones.get(0));
+                LocalDateTime localStart = entry.getKey();
+                LocalDateTime localEnd = localStart.plus(WINDOW);
+                if (localEnd.toLocalDate().equals(localStart.toLocalDate())) {
+                    count += loadSegment(timezones, zone, localStart.toLocalDate(), localStart.toLocalTime(), localEnd.toLocalTime());
+                } else {
+                    // 현지 자정을 넘는 구간은 날짜별로 나눠서 조회
+                    count += loadSegment(timezones, zone, localStart.toLocalDate(), localStart.toLocalTime(), null);
+                    count += loadSegment(timezones, zone, localEnd.toLocalDate(), LocalTime.MIDNIGHT, localEnd.toLocalTime());
+                }
+            }
+            log.debug("알림 등록 - 구간: {}, {}건", windowStart, count);
+        });
+    }
+
+    private int loadSegment(List<String> timezones, ZoneId zone, LocalDate date, LocalTime fromTime, LocalTime toTime) {
+        int count = 0;
+        long afterId = 0;
+        while (true) {
+            List<ReminderTarget> targets = jogakRepository.findReminderTargets(timezones, date,
+                    Weekdays.masksOn(date), fromTime, toTime, afterId, PageRequest.of(0, batchSize));
+            count += schedule(targets, zone, date);
+            if (targets.size() < batchSize) {
+                break;
+            }
+            afterId = targets.get(targets.size() - 1).getJogakId();
+        }
+        // 규칙 루틴은 구간 안의 후보를 컴파일한 일정으로 거름
+        List<Long> dueJogakIds = RecurringJogak.dueOn(
+                jogakRepository.findRecurringReminderJogaks(timezones, date, fromTime, toTime), date);
+        if (!dueJogakIds.isEmpty()) {
+            count += schedule(jogakRepository.findReminderTargetsByIds(dueJogakIds), zone, date);
+        }
+        return count;
+    }
+
+    private int schedule(List<ReminderTarget> targets, ZoneId zone, LocalDate date) {
+        Instant now = clock.instant();
+        for (ReminderTarget target : targets) {
+            Instant dueAt = date.atTime(target.getReminderTime()).atZone(zone).toInstant();
+            wheel.schedule(Reminder.builder()
+                    .jogakId(target.getJogakId())
+                    .userId(target.getUserId())
+                    .title(target.getTitle())
+                    .dueAt(dueAt)
+                    .build(), Duration.between(now, dueAt));
+        }
+        loaded.increment(targets.size());
+        return targets.size();
+    }
+
+    // 휠 스레드가 막히지 않도록 발송은 별도 스레드에서
+    private void dispatch(Reminder reminder) {
+        senderExecutor.execute(() -> {
+            try {
+                reminderSender.send(reminder);
+                sent.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("조각 알림 발송 실패 - jogak: {}", reminder.getJogakId(), e);
+            } finally {
+                lateness.record(Duration.between(reminder.getDueAt(), clock.instant()));
+            }
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package com.mogak.spring.reminder;
+
+/**
+ * 알림 발송 방식 (푸시, 메일 등)
+ * 실패하면 예외를 던져서 실패 지표에 집계되도록 한다
+ */
+public interface ReminderSender {
+
+    void send(Reminder reminder);
+}
@@ -0,0 +1,18 @@
+package com.mogak.spring.reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+/**
+ * 알림 대상 루틴 조각 조회용 projection
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderTarget {
+    private final Long jogakId;
+    private final Long userId;
+    private final String title;
+    private final LocalTime reminderTime;
+}
@@ -0,0 +1,100 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.stat.AchievementBitmap;
+import com.mogak.spring.repository.query.DailyJogakHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 비트 연산자가 MySQL(|, &)과 H2(BITOR, BITAND)에서 달라서 비트 켜기/끄기는 나눗셈과 MOD로 비트를 확인하고 더하거나 뺌
+ */
+public interface AchievementBitmapRepository extends JpaRepository<AchievementBitmap, Long> {
+
+    /**
+     * day에 데일리 조각이 있는 조각 중 그 달 비트맵이 없는 조각에 빈 비트맵 생성
+     * user id가 [fromUserId, toUserId] 범위인 데일리 조각만 대상 (배치 청크 단위)
+     * */
+    @Modifying
+    @Query(value = "INSERT INTO achievement_bitmap " +
+            "(user_id, jogak_id, bitmap_month, scheduled_days, achieved_days, created_at, updated_at) " +
+            "SELECT DISTINCT d.user_id, d.jogak_id, :month, 0, 0, :now, :now FROM daily_jogak d " +
+            "WHERE d.target_date = :day AND d.user_id BETWEEN :fromUserId AND :toUserId " +
+            "AND NOT EXISTS (SELECT 1 FROM achievement_bitmap b WHERE b.jogak_id = d.jogak_id AND b.bitmap_month = :month)",
+            nativeQuery = true)
+    int insertMissingBitmaps(@Param("day") LocalDate day,
+                             @Param("month") int month,
+                             @Param("fromUserId") Long fromUserId,
+                             @Param("toUserId") Long toUserId,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * day에 데일리 조각이 있는 조각들의 day 비트를 한 번의 UPDATE로 켬 (이미 켜져 있으면 그대로)
+     * */
+    @Modifying
+    @Query(value = "UPDATE achievement_bitmap SET " +
+            "scheduled_days = scheduled_days + CASE WHEN MOD(FLOOR(scheduled_days / :bit), 2) = 0 THEN :bit ELSE 0 END, " +
+            "updated_at = :now " +
+            "WHERE bitmap_month = :month AND jogak_id IN (SELECT d.jogak_id FROM daily_jogak d " +
+            "WHERE d.target_date = :day AND d.user_id BETWEEN :fromUserId AND :toUserId)", nativeQuery = true)
+    int markScheduled(@Param("day") LocalDate day,
+                      @Param("month") int month,
+                      @Param("bit") int bit,
+                      @Param("fromUserId") Long fromUserId,
+                      @Param("toUserId") Long toUserId,
+                      @Param("now") LocalDateTime now);
+
+    // 조각 하나의 day 비트를 켬, 비트맵이 없으면 0 (새로 생성)
+    @Modifying
+    @Query(value = "UPDATE achievement_bitmap SET " +
+            "scheduled_days = scheduled_days + CASE WHEN MOD(FLOOR(scheduled_days / :bit), 2) = 0 THEN :bit ELSE 0 END, " +
+            "updated_at = :now " +
+            "WHERE jogak_id = :jogakId AND bitmap_month = :month", nativeQuery = true)
+    int markJogakScheduled(@Param("jogakId") Long jogakId,
+                           @Param("month") int month,
+                           @Param("bit") int bit,
+                           @Param("now") LocalDateTime now);
+
+    // 비트맵이 없으면 0 (재계산)
+    @Modifying
+    @Query(value = "UPDATE achievement_bitmap SET " +
+            "achieved_days = achieved_days + CASE WHEN MOD(FLOOR(achieved_days / :bit), 2) = 0 THEN :bit ELSE 0 END, " +
+            "updated_at = :now " +
+            "WHERE jogak_id = :jogakId AND bitmap_month = :month " +
+            "AND MOD(FLOOR(scheduled_days / :bit), 2) = 1", nativeQuery = true)
+    int markAchieved(@Param("jogakId") Long jogakId,
+                     @Param("month") int month,
+                     @Param("bit") int bit,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE achievement_bitmap SET " +
+            "achieved_days = achieved_days - CASE WHEN MOD(FLOOR(achieved_days / :bit), 2) = 1 THEN :bit ELSE 0 END, " +
+            "updated_at = :now " +
+            "WHERE jogak_id = :jogakId AND bitmap_month = :month " +
+            "AND MOD(FLOOR(scheduled_days / :bit), 2) = 1", nativeQuery = true)
+    int unmarkAchieved(@Param("jogakId") Long jogakId,
+                       @Param("month") int month,
+                       @Param("bit") int bit,
+                       @Param("now") LocalDateTime now);
+
+    // [fromMonth, toMonth] (yyyyMM) 비트맵 ((jogak_id, bitmap_month) unique 인덱스)
+    List<AchievementBitmap> findAllByJogakIdAndBitmapMonthBetween(Long jogakId, Integer fromMonth, Integer toMonth);
+
+    // ((user_id, bitmap_month) 인덱스)
+    List<AchievementBitmap> findAllByUserIdAndBitmapMonthBetween(Long userId, Integer fromMonth, Integer toMonth);
+
+    @Query("SELECT NEW com.mogak.spring.repository.query.DailyJogakHistory(d.jogak.id, d.user.id, d.targetDate, d.isAchievement) " +
+            "FROM DailyJogak d WHERE d.jogak.id IN :jogakIds")
+    List<DailyJogakHistory> findDailyHistory(@Param("jogakIds") Collection<Long> jogakIds);
+
+    @Modifying
+    @Query("DELETE FROM AchievementBitmap b WHERE b.jogakId IN :jogakIds")
+    int deleteAllByJogakIds(@Param("jogakIds") Collection<Long> jogakIds);
+}
@@ -0,0 +1,61 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.stat.AchievementRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AchievementRollupRepository extends JpaRepository<AchievementRollup, Long> {
+
+    // MySQL/H2 공통 yyyyMM
+    String MONTH_OF_TARGET_DATE = "(YEAR(d.target_date) * 100 + MONTH(d.target_date))";
+    String IN_CHUNK = "d.daily_jogak_id IN (:dailyJogakIds) AND d.jogak_id = r.jogak_id AND " + MONTH_OF_TARGET_DATE + " = r.rollup_month";
+
+    /**
+     * 보관할 데일리 조각들의 (조각, 월) 중 rollup이 없는 것에 빈 row 생성
+     * */
+    @Modifying
+    @Query(value = "INSERT INTO achievement_rollup (jogak_id, rollup_month, total_count, achieved_count, created_at, updated_at) " +
+            "SELECT DISTINCT d.jogak_id, " + MONTH_OF_TARGET_DATE + ", 0, 0, :now, :now FROM daily_jogak d " +
+            "WHERE d.daily_jogak_id IN (:dailyJogakIds) AND d.jogak_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM achievement_rollup r WHERE r.jogak_id = d.jogak_id " +
+            "AND r.rollup_month = " + MONTH_OF_TARGET_DATE + ")", nativeQuery = true)
+    int insertMissingRollups(@Param("dailyJogakIds") Collection<Long> dailyJogakIds,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 보관할 데일리 조각 수 / 달성 수를 (조각, 월) rollup에 더함
+     * 옮기기(INSERT)/지우기(DELETE)와 같은 트랜잭션에서 실행하므로 같은 데일리 조각을 두 번 더하지 않음
+     * */
+    @Modifying
+    @Query(value = "UPDATE achievement_rollup r SET " +
+            "total_count = r.total_count + (SELECT COUNT(*) FROM daily_jogak d WHERE " + IN_CHUNK + "), " +
+            "achieved_count = r.achieved_count + (SELECT COUNT(*) FROM daily_jogak d WHERE " + IN_CHUNK + " AND d.is_achievement = true), " +
+            "updated_at = :now " +
+            "WHERE EXISTS (SELECT 1 FROM daily_jogak d WHERE " + IN_CHUNK + ")", nativeQuery = true)
+    int addCounts(@Param("dailyJogakIds") Collection<Long> dailyJogakIds,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 보관된 데일리 조각을 달성/취소하면 보관할 때 더해 둔 (조각, 월) 달성 수도 증감
+     * */
+    @Modifying
+    @Query(value = "UPDATE achievement_rollup r SET achieved_count = r.achieved_count + :delta, updated_at = :now " +
+            "WHERE r.jogak_id = (SELECT d.jogak_id FROM daily_jogak_archive d WHERE d.daily_jogak_id = :dailyJogakId) " +
+            "AND r.rollup_month = (SELECT " + MONTH_OF_TARGET_DATE + " FROM daily_jogak_archive d WHERE d.daily_jogak_id = :dailyJogakId)",
+            nativeQuery = true)
+    int addAchieved(@Param("dailyJogakId") Long dailyJogakId,
+                    @Param("delta") int delta,
+                    @Param("now") LocalDateTime now);
+
+    List<AchievementRollup> findAllByJogakIdOrderByRollupMonth(Long jogakId);
+
+    @Modifying
+    @Query("DELETE FROM AchievementRollup r WHERE r.jogakId IN :jogakIds")
+    int deleteAllByJogakIds(@Param("jogakIds") Collection<Long> jogakIds);
+}
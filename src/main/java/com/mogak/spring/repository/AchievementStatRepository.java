@@ -0,0 +1,91 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.stat.AchievementStat;
+import com.mogak.spring.domain.stat.StatScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AchievementStatRepository extends JpaRepository<AchievementStat, Long>, AchievementStatRepositoryCustom {
+
+    Optional<AchievementStat> findByScopeAndTargetId(StatScope scope, Long targetId);
+
+    // 재계산 중에 달성 누적이 끼어들지 않도록 row lock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AchievementStat s WHERE s.scope = :scope AND s.targetId IN :targetIds")
+    List<AchievementStat> findAllForUpdate(@Param("scope") StatScope scope,
+                                           @Param("targetIds") Collection<Long> targetIds);
+
+    /**
+     * 데일리 조각 하나가 생성된 day 칸 누적 - day가 마지막 칸이거나 새 칸일 때만 변경 (지난 칸 생성, 통계 row가 없으면 0을 받고 재계산)
+     * 새 칸이면 직전 칸을 달성하지 못한 경우 연속 달성을 끊음 (syncDay와 같은 규칙을 대상 하나에만 적용)
+     * */
+    @Modifying
+    @Query(value = "UPDATE achievement_stat SET " +
+            "current_streak = CASE WHEN last_slot_date < :day " +
+            "AND (last_achieved_date IS NULL OR last_achieved_date < last_slot_date) " +
+            "THEN 0 ELSE current_streak END, " +
+            "total_count = total_count + 1, " +
+            "slot_count = CASE WHEN last_slot_date = :day THEN slot_count + 1 ELSE 1 END, " +
+            "slot_achieved_count = CASE WHEN last_slot_date = :day THEN slot_achieved_count ELSE 0 END, " +
+            "last_slot_date = :day, updated_at = :now " +
+            "WHERE scope = :scope AND target_id = :targetId " +
+            "AND (last_slot_date IS NULL OR last_slot_date <= :day)", nativeQuery = true)
+    int addGenerated(@Param("scope") String scope,
+                     @Param("targetId") Long targetId,
+                     @Param("day") LocalDate day,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * day 칸의 달성 누적 - day가 마지막 칸일 때만 변경 (지난 칸 달성은 0을 받고 재계산)
+     * 칸의 첫 달성이면 연속 달성 +1, 취소 때 되돌릴 수 있게 직전 마지막 달성일/최장 연속 달성을 남김
+     * SET은 MySQL이 앞에서 바꾼 값을 이어서 쓰므로 아직 바뀌지 않은 컬럼만 참조하는 순서로 둠
+     * */
+    @Modifying
+    @Query(value = "UPDATE achievement_stat SET " +
+            "previous_longest_streak = CASE WHEN last_achieved_date IS NULL OR last_achieved_date < :day " +
+            "THEN longest_streak ELSE previous_longest_streak END, " +
+            "previous_achieved_date = CASE WHEN last_achieved_date IS NULL OR last_achieved_date < :day " +
+            "THEN last_achieved_date ELSE previous_achieved_date END, " +
+            "longest_streak = CASE WHEN (last_achieved_date IS NULL OR last_achieved_date < :day) " +
+            "AND current_streak >= longest_streak THEN current_streak + 1 ELSE longest_streak END, " +
+            "current_streak = CASE WHEN last_achieved_date IS NULL OR last_achieved_date < :day " +
+            "THEN current_streak + 1 ELSE current_streak END, " +
+            "last_achieved_date = :day, achieved_count = achieved_count + 1, " +
+            "slot_achieved_count = slot_achieved_count + 1, updated_at = :now " +
+            "WHERE scope = :scope AND target_id = :targetId AND last_slot_date = :day", nativeQuery = true)
+    int addAchievement(@Param("scope") String scope,
+                       @Param("targetId") Long targetId,
+                       @Param("day") LocalDate day,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * day 칸의 달성 취소 - day가 달성한 마지막 칸일 때만 변경 (지난 칸 취소는 0을 받고 재계산)
+     * 칸의 마지막 달성이 취소되면 연속 달성 -1, 마지막 달성일/최장 연속 달성은 칸을 처음 달성하기 전 값으로 되돌림
+     * */
+    @Modifying
+    @Query(value = "UPDATE achievement_stat SET " +
+            "current_streak = CASE WHEN slot_achieved_count = 1 THEN current_streak - 1 ELSE current_streak END, " +
+            "longest_streak = CASE WHEN slot_achieved_count = 1 THEN previous_longest_streak ELSE longest_streak END, " +
+            "last_achieved_date = CASE WHEN slot_achieved_count = 1 THEN previous_achieved_date ELSE last_achieved_date END, " +
+            "achieved_count = achieved_count - 1, slot_achieved_count = slot_achieved_count - 1, updated_at = :now " +
+            "WHERE scope = :scope AND target_id = :targetId AND last_slot_date = :day AND last_achieved_date = :day " +
+            "AND slot_achieved_count > 0 AND previous_longest_streak IS NOT NULL", nativeQuery = true)
+    int cancelAchievement(@Param("scope") String scope,
+                          @Param("targetId") Long targetId,
+                          @Param("day") LocalDate day,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM AchievementStat s WHERE s.scope = :scope AND s.targetId = :targetId")
+    int deleteByTarget(@Param("scope") StatScope scope, @Param("targetId") Long targetId);
+}
@@ -0,0 +1,41 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.stat.DailyAchievement;
+import com.mogak.spring.domain.stat.StatScope;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 통계 단위(조각/모각/모다라트)마다 daily_jogak에서 대상 id를 꺼내는 컬럼만 달라서 SQL을 단위별로 조립
+ */
+public interface AchievementStatRepositoryCustom {
+
+    /**
+     * day에 데일리 조각이 있는 대상 중 통계 row가 없는 대상에 빈 row 생성
+     * user id가 [fromUserId, toUserId] 범위인 데일리 조각만 대상 (배치 청크 단위)
+     * */
+    int insertMissingStats(StatScope scope, LocalDate day, Long fromUserId, Long toUserId, LocalDateTime now);
+
+    /**
+     * day 칸의 데일리 조각 수를 다시 세서 누적 (이미 센 칸이면 차이만 더하므로 재실행해도 중복 집계되지 않음)
+     * 새 칸이면 직전 칸을 달성하지 못한 경우 연속 달성을 끊음
+     * day보다 뒤 칸이 이미 있는 대상은 건드리지 않음 (findStaleTargetIds로 찾아서 재계산)
+     * */
+    int syncDay(StatScope scope, LocalDate day, Long fromUserId, Long toUserId, LocalDateTime now);
+
+    List<Long> findStaleTargetIds(StatScope scope, LocalDate day, Long fromUserId, Long toUserId);
+
+    /**
+     * 대상별 날짜순 하루치 데일리 조각 수 / 달성 수
+     * */
+    Map<Long, List<DailyAchievement>> findDailyAchievements(StatScope scope, Collection<Long> targetIds);
+
+    /**
+     * afterId 보다 큰 대상(조각/모각/모다라트) id를 오름차순으로 최대 limit개 조회 (재계산 배치용 keyset)
+     * */
+    List<Long> findTargetIds(StatScope scope, long afterId, int limit);
+}
@@ -0,0 +1,160 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.stat.DailyAchievement;
+import com.mogak.spring.domain.stat.StatScope;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class AchievementStatRepositoryImpl implements AchievementStatRepositoryCustom {
+
+    // 유저/날짜 범위의 데일리 조각 ((user_id, target_date) 인덱스)
+    private static final String DAY_RANGE = "d.target_date = :day AND d.user_id BETWEEN :fromUserId AND :toUserId";
+
+    private final EntityManager em;
+
+    @Override
+    public int insertMissingStats(StatScope scope, LocalDate day, Long fromUserId, Long toUserId, LocalDateTime now) {
+        String target = target(scope);
+        return em.createNativeQuery("INSERT INTO achievement_stat " +
+                        "(scope, target_id, total_count, achieved_count, slot_count, slot_achieved_count, current_streak, longest_streak, created_at, updated_at) " +
+                        "SELECT DISTINCT :scope, " + target + ", 0, 0, 0, 0, 0, 0, :now, :now " +
+                        "FROM " + source(scope) + " " +
+                        "WHERE " + DAY_RANGE + " AND " + target + " IS NOT NULL " +
+                        "AND NOT EXISTS (SELECT 1 FROM achievement_stat s WHERE s.scope = :scope AND s.target_id = " + target + ")")
+                .setParameter("scope", scope.name())
+                .setParameter("day", day)
+                .setParameter("fromUserId", fromUserId)
+                .setParameter("toUserId", toUserId)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    @Override
+    public int syncDay(StatScope scope, LocalDate day, Long fromUserId, Long toUserId, LocalDateTime now) {
+        String target = target(scope);
+        String dayCount = "(SELECT COUNT(*) FROM " + source(scope) + " WHERE " + target + " = s.target_id AND d.target_date = :day)";
+        // MySQL은 SET을 앞에서부터 적용하므로 아직 바뀌지 않은 컬럼만 참조하도록 last_slot_date를 마지막에 변경
+        return em.createNativeQuery("UPDATE achievement_stat s SET " +
+                        "current_streak = CASE WHEN s.last_slot_date < :day " +
+                        "AND (s.last_achieved_date IS NULL OR s.last_achieved_date < s.last_slot_date) " +
+                        "THEN 0 ELSE s.current_streak END, " +
+                        "total_count = s.total_count + " + dayCount + " " +
+                        "- CASE WHEN s.last_slot_date = :day THEN s.slot_count ELSE 0 END, " +
+                        "slot_count = " + dayCount + ", " +
+                        "slot_achieved_count = CASE WHEN s.last_slot_date = :day THEN s.slot_achieved_count ELSE 0 END, " +
+                        "last_slot_date = :day, updated_at = :now " +
+                        "WHERE s.scope = :scope AND (s.last_slot_date IS NULL OR s.last_slot_date <= :day) " +
+                        "AND s.target_id IN (SELECT " + target + " FROM " + source(scope) + " WHERE " + DAY_RANGE + ")")
+                .setParameter("scope", scope.name())
+                .setParameter("day", day)
+                .setParameter("fromUserId", fromUserId)
+                .setParameter("toUserId", toUserId)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Long> findStaleTargetIds(StatScope scope, LocalDate day, Long fromUserId, Long toUserId) {
+        String target = target(scope);
+        List<?> ids = em.createNativeQuery("SELECT s.target_id FROM achievement_stat s " +
+                        "WHERE s.scope = :scope AND s.last_slot_date > :day " +
+                        "AND s.target_id IN (SELECT " + target + " FROM " + source(scope) + " WHERE " + DAY_RANGE + ")")
+                .setParameter("scope", scope.name())
+                .setParameter("day", day)
+                .setParameter("fromUserId", fromUserId)
+                .setParameter("toUserId", toUserId)
+                .getResultList();
+        return toLongs(ids);
+    }
+
+    @Override
+    public Map<Long, List<DailyAchievement>> findDailyAchievements(StatScope scope, Collection<Long> targetIds) {
+        Map<Long, List<DailyAchievement>> history = new HashMap<>();
+        if (targetIds.isEmpty()) {
+            return history;
+        }
+        String target = target(scope);
+        // 보관 테이블로 옮긴 달도 연속 달성 계산에 필요해서 두 테이블을 각각 대상으로 거른 뒤 합침
+        String rowsOf = "SELECT " + target + " AS target_id, d.target_date, d.is_achievement " +
+                "FROM %s WHERE " + target + " IN (:targetIds)";
+        List<?> rows = em.createNativeQuery("SELECT h.target_id, h.target_date, COUNT(*), " +
+                        "SUM(CASE WHEN h.is_achievement = true THEN 1 ELSE 0 END) " +
+                        "FROM (" + String.format(rowsOf, source(scope, "daily_jogak")) + " UNION ALL " +
+                        String.format(rowsOf, source(scope, "daily_jogak_archive")) + ") h " +
+                        "GROUP BY h.target_id, h.target_date " +
+                        "ORDER BY h.target_id, h.target_date")
+                .setParameter("targetIds", targetIds)
+                .getResultList();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            history.computeIfAbsent(((Number) columns[0]).longValue(), id -> new ArrayList<>())
+                    .add(new DailyAchievement(toLocalDate(columns[1]),
+                            ((Number) columns[2]).intValue(), ((Number) columns[3]).intValue()));
+        }
+        return history;
+    }
+
+    @Override
+    public List<Long> findTargetIds(StatScope scope, long afterId, int limit) {
+        String table;
+        String id;
+        switch (scope) {
+            case JOGAK:
+                table = "jogak";
+                id = "jogak_id";
+                break;
+            case MOGAK:
+                table = "mogak";
+                id = "mogak_id";
+                break;
+            default:
+                table = "modarat";
+                id = "modarat_id";
+        }
+        List<?> ids = em.createNativeQuery("SELECT " + id + " FROM " + table + " WHERE " + id + " > :afterId ORDER BY " + id)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+        return toLongs(ids);
+    }
+
+    // 대상 id를 꺼낼 데일리 조각 FROM 절 (별칭 d)
+    private static String source(StatScope scope) {
+        return source(scope, "daily_jogak");
+    }
+
+    private static String source(StatScope scope, String table) {
+        if (scope == StatScope.MODARAT) {
+            return table + " d JOIN mogak m ON m.mogak_id = d.mogak_id";
+        }
+        return table + " d";
+    }
+
+    private static String target(StatScope scope) {
+        switch (scope) {
+            case JOGAK:
+                return "d.jogak_id";
+            case MOGAK:
+                return "d.mogak_id";
+            default:
+                return "m.modarat_id";
+        }
+    }
+
+    private static List<Long> toLongs(List<?> ids) {
+        return ids.stream()
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toList());
+    }
+
+    private static LocalDate toLocalDate(Object date) {
+        return date instanceof LocalDate ? (LocalDate) date : ((Date) date).toLocalDate();
+    }
+}
@@ -0,0 +1,75 @@
+package com.mogak.spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * MySQL에서 daily_jogak_archive를 압축 + target_date 월 단위 RANGE 파티션으로 관리
+ * daily_jogak은 외래키와 IDENTITY id 때문에 MySQL 파티션을 쓸 수 없어서, 지난 달을 보관 테이블로 옮기는 방식으로 나눔
+ * H2(테스트)에서는 보관 테이블 하나가 모든 달을 담고 아무것도 하지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DailyJogakArchivePartitions {
+
+    private static final String TABLE = "daily_jogak_archive";
+    private static final String MAX_PARTITION = "p_max";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션이 없는 보관 테이블을 압축 + 파티션 테이블로 변경 (한 번만)
+     * 파티션 키는 모든 unique 키에 들어가야 해서 PK를 (daily_jogak_id, target_date)로 바꿈
+     * */
+    public void partitionByMonth() {
+        if (!isMySql() || countPartitions() > 0) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ROW_FORMAT=COMPRESSED, " +
+                "DROP PRIMARY KEY, ADD PRIMARY KEY (daily_jogak_id, target_date)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE COLUMNS(target_date) " +
+                "(PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        log.info("데일리 조각 보관 테이블 파티션 생성");
+    }
+
+    /**
+     * beforeDate(월 첫날) 직전 달까지 담는 파티션을 p_max에서 떼어냄 (이미 있으면 그대로)
+     * 보관 배치가 옮기기 전에 실행해서 옮긴 row가 p_max에 쌓이지 않게 함
+     * */
+    public void addPartition(LocalDate beforeDate) {
+        if (!isMySql() || countPartitions() == 0) {
+            return;
+        }
+        String name = YearMonth.from(beforeDate).minusMonths(1).format(PARTITION_NAME);
+        Integer exists = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.partitions " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name = ?", Integer.class, TABLE, name);
+        if (exists != null && exists > 0) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                "PARTITION " + name + " VALUES LESS THAN ('" + beforeDate + "'), " +
+                "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        log.info("데일리 조각 보관 파티션 추가 - {}", name);
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    private int countPartitions() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.partitions " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL", Integer.class, TABLE);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,49 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.jogak.DailyJogakArchive;
+import com.mogak.spring.repository.query.DailyJogakHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DailyJogakArchiveRepository extends JpaRepository<DailyJogakArchive, Long>, DailyJogakArchiveRepositoryCustom {
+
+    // id를 그대로 옮김 (보관 전에 받은 dailyJogakId로도 같은 row)
+    @Modifying
+    @Query(value = "INSERT INTO daily_jogak_archive " +
+            "(daily_jogak_id, mogak_id, jogak_id, user_id, mogak_category, title, is_achievement, is_routine, target_date, created_at, updated_at) " +
+            "SELECT d.daily_jogak_id, d.mogak_id, d.jogak_id, d.user_id, d.mogak_category, d.title, d.is_achievement, d.is_routine, " +
+            "d.target_date, d.created_at, d.updated_at " +
+            "FROM daily_jogak d WHERE d.daily_jogak_id IN (:dailyJogakIds)", nativeQuery = true)
+    int copyFromDailyJogak(@Param("dailyJogakIds") Collection<Long> dailyJogakIds);
+
+    // DailyJogakRepository.updateAchievement와 같음 (지난 달 데일리 조각 달성/취소)
+    @Modifying
+    @Query("UPDATE DailyJogakArchive d SET d.isAchievement = :achievement, d.updatedAt = :now " +
+            "WHERE d.id = :dailyJogakId AND d.isAchievement <> :achievement")
+    int updateAchievement(@Param("dailyJogakId") Long dailyJogakId,
+                          @Param("achievement") boolean achievement,
+                          @Param("now") LocalDateTime now);
+
+    @Query("SELECT NEW com.mogak.spring.repository.query.DailyJogakHistory(d.jogakId, d.userId, d.targetDate, d.isAchievement) " +
+            "FROM DailyJogakArchive d WHERE d.jogakId IN :jogakIds")
+    List<DailyJogakHistory> findDailyHistory(@Param("jogakIds") Collection<Long> jogakIds);
+
+    // DailyJogakRepository.updateJogakFields와 같음 (지난 달 캘린더도 바뀐 제목으로)
+    @Modifying
+    @Query("UPDATE DailyJogakArchive d SET d.title = :title, d.isRoutine = :isRoutine, d.updatedAt = :now " +
+            "WHERE d.jogakId = :jogakId AND (d.title <> :title OR d.isRoutine <> :isRoutine)")
+    int updateJogakFields(@Param("jogakId") Long jogakId,
+                          @Param("title") String title,
+                          @Param("isRoutine") Boolean isRoutine,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM DailyJogakArchive d WHERE d.jogakId = :jogakId")
+    int deleteAllByJogakId(@Param("jogakId") Long jogakId);
+}
@@ -0,0 +1,13 @@
+package com.mogak.spring.repository;
+
+import java.time.LocalDate;
+
+public interface DailyJogakArchiveRepositoryCustom {
+
+    /**
+     * day의 데일리 조각이 보관 테이블에 있을 수 있는지
+     * 보관 배치는 보관 기준일(DailyJogakArchive.archiveBefore) 이전만 옮기므로 MAX(target_date)를 조회하지 않고 날짜만 비교
+     * 기준일은 배치 실행 전에 넘어가므로 어느 서버에서 배치가 돌든 옮겨진 날짜를 놓치지 않음
+     * */
+    boolean mayBeArchived(LocalDate day);
+}
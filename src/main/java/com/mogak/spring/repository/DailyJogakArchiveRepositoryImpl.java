@@ -0,0 +1,24 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.jogak.DailyJogakArchive;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+public class DailyJogakArchiveRepositoryImpl implements DailyJogakArchiveRepositoryCustom {
+
+    // 배치 runKey를 정하는 것과 같은 Clock(TimeConfig)으로 오늘을 계산
+    private final Clock clock;
+    private final int hotMonths;
+
+    public DailyJogakArchiveRepositoryImpl(Clock clock, @Value("${daily-jogak.hot-months:2}") int hotMonths) {
+        this.clock = clock;
+        this.hotMonths = hotMonths;
+    }
+
+    @Override
+    public boolean mayBeArchived(LocalDate day) {
+        return day.isBefore(DailyJogakArchive.archiveBefore(LocalDate.now(clock), hotMonths));
+    }
+}
@@ -2,33 +2,79 @@ package com.mogak.spring.repository;
 
 import com.mogak.spring.domain.jogak.DailyJogak;
 import com.mogak.spring.domain.jogak.Jogak;
-import com.mogak.spring.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
-public interface DailyJogakRepository extends JpaRepository<DailyJogak, Long> {
-    @Query("SELECT j FROM DailyJogak j WHERE j.createdAt BETWEEN :startDate AND :endDate")
-    List<DailyJogak> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+public interface DailyJogakRepository extends JpaRepository<DailyJogak, Long>, DailyJogakRepositoryCustom {
 
-    @Query("SELECT j FROM DailyJogak j WHERE j.createdAt BETWEEN :startDateTime AND :endDateTime AND j.jogak = :jogak")
-    Optional<DailyJogak> findByCreatedAtBetweenAndId(@Param("startDateTime") LocalDateTime startDateTime,
-                                                     @Param("endDateTime") LocalDateTime endDateTime,
-                                                     @Param("jogak") Jogak jogak
-    );
+    // targetDate가 조각의 쉬는 기간이 아님 ((jogak_id, start_at) 인덱스, 쉬는 조각을 따로 읽지 않고 INSERT ... SELECT 안에서 거름)
+    String NOT_PAUSED = "NOT EXISTS (SELECT 1 FROM jogak_pause p " +
+            "WHERE p.jogak_id = j.jogak_id AND p.start_at <= :targetDate AND p.end_at > :targetDate) ";
 
-    @Query("SELECT j from DailyJogak j " +
-            "JOIN FETCH j.mogak jm JOIN FETCH jm.user " +
-            "WHERE jm.user = :user and j.createdAt BETWEEN :today AND :tomorrow")
-    List<DailyJogak> findDailyJogaks(@Param(value = "user") User user,
-                                     @Param(value = "today") LocalDateTime today,
-                                     @Param(value = "tomorrow") LocalDateTime tomorrow);
+    /**
+     * user_id 컬럼 추가 전 데이터 이관 - 모각의 유저로 채움
+     * */
+    @Modifying
+    @Query(value = "UPDATE daily_jogak d SET user_id = (SELECT m.user_id FROM mogak m WHERE m.mogak_id = d.mogak_id) " +
+            "WHERE d.user_id IS NULL", nativeQuery = true)
+    int fillLegacyUserIds();
+
+    /**
+     * target_date 컬럼 추가 전 데이터 이관 - 같은 날 중복 생성된 데일리 조각 중 먼저 생성된 것만 남김
+     * */
+    @Modifying
+    @Query(value = "DELETE FROM daily_jogak WHERE daily_jogak_id IN (" +
+            "SELECT duplicated_id FROM (" +
+            "SELECT d.daily_jogak_id AS duplicated_id FROM daily_jogak d " +
+            "JOIN daily_jogak o ON o.jogak_id = d.jogak_id " +
+            "AND COALESCE(o.target_date, CAST(o.created_at AS DATE)) = CAST(d.created_at AS DATE) " +
+            "AND (o.target_date IS NOT NULL OR o.daily_jogak_id < d.daily_jogak_id) " +
+            "WHERE d.target_date IS NULL) duplicated)", nativeQuery = true)
+    int deleteDuplicatedLegacyDailyJogaks();
+
+    @Modifying
+    @Query(value = "UPDATE daily_jogak SET target_date = CAST(created_at AS DATE) WHERE target_date IS NULL",
+            nativeQuery = true)
+    int fillLegacyTargetDates();
+
+    // 달성 여부가 다를 때만 변경 (동시에 눌러도 한 요청만 1을 받음)
+    @Modifying
+    @Query("UPDATE DailyJogak d SET d.isAchievement = :achievement, d.updatedAt = :now " +
+            "WHERE d.id = :dailyJogakId AND d.isAchievement <> :achievement")
+    int updateAchievement(@Param("dailyJogakId") Long dailyJogakId,
+                          @Param("achievement") boolean achievement,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 조각 수정 시 데일리 조각에 복사해 둔 제목/루틴 여부를 한 번의 UPDATE로 맞춤 ((jogak_id, target_date) 인덱스)
+     * 값이 이미 같은 row는 건너뛰므로 이력이 쌓인 루틴도 바뀐 row만 쓰고, 엔티티를 읽지 않음
+     * 수정 중인 조각이 먼저 반영되도록 flush 후 실행
+     * */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailyJogak d SET d.title = :title, d.isRoutine = :isRoutine, d.updatedAt = :now " +
+            "WHERE d.jogak.id = :jogakId AND (d.title <> :title OR d.isRoutine <> :isRoutine)")
+    int updateJogakFields(@Param("jogakId") Long jogakId,
+                          @Param("title") String title,
+                          @Param("isRoutine") Boolean isRoutine,
+                          @Param("now") LocalDateTime now);
 
     void deleteAllByJogak(Jogak jogak);
 
-    List<DailyJogak> findAllByJogak(Jogak jogak);
+    // beforeDate 이전 데일리 조각 id (보관 배치용 keyset)
+    @Query("SELECT d.id FROM DailyJogak d WHERE d.targetDate < :beforeDate AND d.id > :afterId ORDER BY d.id")
+    List<Long> findIdsBefore(@Param("beforeDate") LocalDate beforeDate,
+                             @Param("afterId") long afterId,
+                             Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DailyJogak d WHERE d.id IN :dailyJogakIds")
+    int deleteAllByIds(@Param("dailyJogakIds") Collection<Long> dailyJogakIds);
 }
@@ -0,0 +1,60 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.repository.query.DailyJogakAchievementDto;
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 지난 달 데일리 조각은 보관 테이블(daily_jogak_archive)로 옮겨지므로 날짜 범위 조회는 두 테이블을 나눠서 읽음
+ * 데일리 조각 생성은 배치/조회 시점 생성/조각 시작이 동시에 같은 (조각, 날짜)를 넣을 수 있어서
+ * MySQL에서는 INSERT IGNORE로 unique 제약에 걸린 row만 건너뜀 (NOT EXISTS는 미리 거르는 용도)
+ */
+public interface DailyJogakRepositoryCustom {
+
+    /**
+     * 유저의 [startDate, endDate) 데일리 조각을 캘린더에 필요한 컬럼만 날짜, id 순으로 조회 ((user_id, target_date) 인덱스)
+     * 보관됐을 수 있는 범위(DailyJogakArchiveRepository.mayBeArchived)일 때만 보관 테이블도 읽음
+     * */
+    List<JogakResponseDto.GetRoutineJogakDto> findRoutineCalendar(Long userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 데일리 조각 달성/취소 응답용 조회 - daily_jogak에 없으면 보관 테이블
+     * */
+    Optional<DailyJogakAchievementDto> findAchievement(Long dailyJogakId);
+
+    /**
+     * 조각의 targetDate 데일리 조각 응답용 조회 ((jogak_id, target_date) unique 인덱스)
+     * 보관됐을 수 있는 날짜(DailyJogakArchiveRepository.mayBeArchived)면 보관 테이블도 읽음
+     * */
+    Optional<DailyJogakAchievementDto> findAchievement(Long jogakId, LocalDate targetDate);
+
+    /**
+     * 해당 날짜의 데일리 조각이 없고 쉬는 날이 아닐 때만 생성
+     * return 생성한 row 수 (이미 있으면 0)
+     * */
+    int insertDailyJogakIfAbsent(Long jogakId, LocalDate targetDate, LocalDateTime now);
+
+    /**
+     * 요일에 해당하는 진행중인 매주 반복 루틴 조각의 데일리 조각을 한 번의 INSERT ... SELECT로 생성
+     * weekdays는 targetDate 요일이 켜진 마스크 목록 (Weekdays.masksOn)
+     * 해당 타임존이면서 user id가 [fromUserId, toUserId] 범위인 유저들만 대상으로 함 (배치 청크 단위)
+     * 이미 생성된 조각과 쉬는 기간인 조각은 건너뛰므로 재실행해도 중복 생성되지 않음
+     * */
+    int insertRoutineDailyJogaks(LocalDate targetDate, List<Integer> weekdays, List<String> timezones,
+                                 LocalDateTime now, Long fromUserId, Long toUserId);
+
+    /**
+     * 규칙 루틴처럼 반복 여부를 미리 계산한 조각들의 targetDate 데일리 조각을 한 번의 INSERT ... SELECT로 생성
+     * 이미 생성된 조각과 쉬는 기간인 조각은 건너뜀
+     * */
+    int insertDailyJogaksByIds(List<Long> jogakIds, LocalDate targetDate, LocalDateTime now);
+
+    /**
+     * 한 유저의 오늘 요일 진행중인 매주 반복 루틴 조각 중 아직 데일리 조각이 없는 것만 생성
+     * */
+    int insertRoutineDailyJogaksForUser(Long userId, LocalDate targetDate, List<Integer> weekdays, LocalDateTime now);
+}
@@ -0,0 +1,162 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.user.User;
+import com.mogak.spring.repository.query.DailyJogakAchievementDto;
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class DailyJogakRepositoryImpl implements DailyJogakRepositoryCustom {
+
+    private static final String ROUTINE_CALENDAR = "SELECT NEW com.mogak.spring.web.dto.jogakdto.JogakResponseDto$GetRoutineJogakDto(" +
+            "d.id, d.targetDate, d.isAchievement, d.title) FROM %s d " +
+            "WHERE d.%s = :userId AND d.targetDate >= :startDate AND d.targetDate < :endDate " +
+            "ORDER BY d.targetDate, d.id";
+
+    private static final String ACHIEVEMENT = "SELECT NEW com.mogak.spring.repository.query.DailyJogakAchievementDto(" +
+            "d.%s, d.targetDate, j.id, m.id, mo.id, d.id, d.title, m.title, c.name, j.isRoutine, d.isAchievement, j.achievements) ";
+    private static final String HOT_ACHIEVEMENT = String.format(ACHIEVEMENT, "user.id") +
+            "FROM DailyJogak d JOIN d.jogak j JOIN j.mogak m LEFT JOIN m.modarat mo LEFT JOIN j.category c WHERE ";
+    // 보관 테이블은 외래키 없이 id만 있어서 조각을 id로 조인
+    private static final String ARCHIVED_ACHIEVEMENT = String.format(ACHIEVEMENT, "userId") +
+            "FROM DailyJogakArchive d JOIN Jogak j ON j.id = d.jogakId JOIN j.mogak m LEFT JOIN m.modarat mo LEFT JOIN j.category c WHERE ";
+
+    private static final String INSERT_COLUMNS = " daily_jogak " +
+            "(mogak_id, jogak_id, user_id, mogak_category, title, is_achievement, is_routine, target_date, created_at, updated_at) " +
+            "SELECT j.mogak_id, j.jogak_id, m.user_id, j.mogak_category, j.title, false, j.is_routine, :targetDate, :now, :now ";
+    private static final String NOT_CREATED = "AND " + DailyJogakRepository.NOT_PAUSED +
+            "AND NOT EXISTS (SELECT 1 FROM daily_jogak d WHERE d.jogak_id = j.jogak_id AND d.target_date = :targetDate)";
+
+    private final EntityManager em;
+    private final DailyJogakArchiveRepository dailyJogakArchiveRepository;
+
+    @Override
+    public List<JogakResponseDto.GetRoutineJogakDto> findRoutineCalendar(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<JogakResponseDto.GetRoutineJogakDto> calendar = findRoutineCalendar("DailyJogak", "user.id", userId, startDate, endDate);
+        if (!dailyJogakArchiveRepository.mayBeArchived(startDate)) {
+            return calendar;
+        }
+        // 보관 배치가 도는 중이면 같은 달이 두 테이블에 나뉘어 있을 수 있어서 합친 뒤 다시 정렬
+        List<JogakResponseDto.GetRoutineJogakDto> merged = new ArrayList<>(
+                findRoutineCalendar("DailyJogakArchive", "userId", userId, startDate, endDate));
+        merged.addAll(calendar);
+        merged.sort(Comparator.comparing(JogakResponseDto.GetRoutineJogakDto::getDate)
+                .thenComparing(JogakResponseDto.GetRoutineJogakDto::getDailyJogakId));
+        return merged;
+    }
+
+    private List<JogakResponseDto.GetRoutineJogakDto> findRoutineCalendar(String entity, String userPath, Long userId,
+                                                                         LocalDate startDate, LocalDate endDate) {
+        return em.createQuery(String.format(ROUTINE_CALENDAR, entity, userPath), JogakResponseDto.GetRoutineJogakDto.class)
+                .setParameter("userId", userId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<DailyJogakAchievementDto> findAchievement(Long dailyJogakId) {
+        Optional<DailyJogakAchievementDto> achievement = findAchievement(HOT_ACHIEVEMENT + "d.id = :dailyJogakId", dailyJogakId);
+        if (achievement.isPresent()) {
+            return achievement;
+        }
+        // 날짜를 모르므로 daily_jogak에 없을 때만 보관 테이블 (보관할 때 id를 그대로 옮김)
+        return findAchievement(ARCHIVED_ACHIEVEMENT + "d.id = :dailyJogakId", dailyJogakId);
+    }
+
+    @Override
+    public Optional<DailyJogakAchievementDto> findAchievement(Long jogakId, LocalDate targetDate) {
+        Optional<DailyJogakAchievementDto> achievement = findAchievement(
+                HOT_ACHIEVEMENT + "j.id = :jogakId AND d.targetDate = :targetDate", jogakId, targetDate);
+        if (achievement.isPresent() || !dailyJogakArchiveRepository.mayBeArchived(targetDate)) {
+            return achievement;
+        }
+        return findAchievement(ARCHIVED_ACHIEVEMENT + "d.jogakId = :jogakId AND d.targetDate = :targetDate", jogakId, targetDate);
+    }
+
+    private Optional<DailyJogakAchievementDto> findAchievement(String query, Long dailyJogakId) {
+        return em.createQuery(query, DailyJogakAchievementDto.class)
+                .setParameter("dailyJogakId", dailyJogakId)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    private Optional<DailyJogakAchievementDto> findAchievement(String query, Long jogakId, LocalDate targetDate) {
+        return em.createQuery(query, DailyJogakAchievementDto.class)
+                .setParameter("jogakId", jogakId)
+                .setParameter("targetDate", targetDate)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public int insertDailyJogakIfAbsent(Long jogakId, LocalDate targetDate, LocalDateTime now) {
+        return insert("FROM jogak j JOIN mogak m ON m.mogak_id = j.mogak_id " +
+                "WHERE j.jogak_id = :jogakId ", targetDate, now)
+                .setParameter("jogakId", jogakId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int insertRoutineDailyJogaks(LocalDate targetDate, List<Integer> weekdays, List<String> timezones,
+                                        LocalDateTime now, Long fromUserId, Long toUserId) {
+        return insert("FROM jogak j " +
+                "JOIN mogak m ON m.mogak_id = j.mogak_id " +
+                "JOIN users u ON u.user_id = m.user_id " +
+                "WHERE j.weekdays IN (:weekdays) AND j.recurrence_type IS NULL " +
+                "AND j.state = 'ONGOING' AND (j.end_at IS NULL OR j.end_at > :targetDate) " +
+                "AND u.user_id BETWEEN :fromUserId AND :toUserId " +
+                "AND COALESCE(u.timezone, '" + User.DEFAULT_TIMEZONE + "') IN (:timezones) ", targetDate, now)
+                .setParameter("weekdays", weekdays)
+                .setParameter("timezones", timezones)
+                .setParameter("fromUserId", fromUserId)
+                .setParameter("toUserId", toUserId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int insertDailyJogaksByIds(List<Long> jogakIds, LocalDate targetDate, LocalDateTime now) {
+        return insert("FROM jogak j JOIN mogak m ON m.mogak_id = j.mogak_id " +
+                "WHERE j.jogak_id IN (:jogakIds) ", targetDate, now)
+                .setParameter("jogakIds", jogakIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public int insertRoutineDailyJogaksForUser(Long userId, LocalDate targetDate, List<Integer> weekdays, LocalDateTime now) {
+        return insert("FROM jogak j " +
+                "JOIN mogak m ON m.mogak_id = j.mogak_id " +
+                "WHERE j.weekdays IN (:weekdays) AND j.recurrence_type IS NULL AND m.user_id = :userId " +
+                "AND j.state = 'ONGOING' AND (j.end_at IS NULL OR j.end_at > :targetDate) ", targetDate, now)
+                .setParameter("userId", userId)
+                .setParameter("weekdays", weekdays)
+                .executeUpdate();
+    }
+
+    // 진행중인 트랜잭션을 rollback-only로 만드는 unique 제약 예외 대신 MySQL은 중복 row를 건너뛰는 INSERT IGNORE
+    // (H2는 로컬/테스트용이라 NOT EXISTS만 사용)
+    private Query insert(String from, LocalDate targetDate, LocalDateTime now) {
+        String insert = isMySql() ? "INSERT IGNORE INTO" : "INSERT INTO";
+        return em.createNativeQuery(insert + INSERT_COLUMNS + from + NOT_CREATED)
+                .setParameter("targetDate", targetDate)
+                .setParameter("now", now);
+    }
+
+    private boolean isMySql() {
+        return em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+    }
+}
@@ -0,0 +1,64 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.batch.BatchStatus;
+import com.mogak.spring.domain.batch.JobExecution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface JobExecutionRepository extends JpaRepository<JobExecution, Long> {
+
+    Optional<JobExecution> findByJobNameAndRunKey(String jobName, String runKey);
+
+    @Query("SELECT e FROM JobExecution e " +
+            "WHERE e.jobName = :jobName AND e.status <> :completed AND e.createdAt >= :since " +
+            "ORDER BY e.id")
+    List<JobExecution> findIncomplete(@Param("jobName") String jobName,
+                                      @Param("completed") BatchStatus completed,
+                                      @Param("since") LocalDateTime since);
+
+    /**
+     * 더 큰 fencing token으로만 실행을 이어받음
+     * 늦게 깨어난 이전 서버가 더 작은 token으로 덮어쓰지 못하도록 조건부로 갱신
+     * */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobExecution e SET e.fencingToken = :fencingToken, e.status = :started, " +
+            "e.startedAt = COALESCE(e.startedAt, :now) " +
+            "WHERE e.id = :id AND (e.fencingToken IS NULL OR e.fencingToken < :fencingToken)")
+    int claim(@Param("id") Long id,
+              @Param("fencingToken") Long fencingToken,
+              @Param("started") BatchStatus started,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 청크 처리 결과와 체크포인트 저장
+     * fencing token이 다르면(다른 서버가 작업을 이어받은 경우) 갱신하지 않음
+     * */
+    @Modifying
+    @Query("UPDATE JobExecution e SET e.lastProcessedId = :lastProcessedId, " +
+            "e.readCount = e.readCount + :readCount, " +
+            "e.writeCount = e.writeCount + :writeCount, " +
+            "e.chunkCount = e.chunkCount + 1, " +
+            "e.totalChunkMillis = e.totalChunkMillis + :chunkMillis, " +
+            "e.maxChunkMillis = CASE WHEN e.maxChunkMillis < :chunkMillis THEN :chunkMillis ELSE e.maxChunkMillis END " +
+            "WHERE e.id = :id AND e.fencingToken = :fencingToken")
+    int checkpoint(@Param("id") Long id,
+                   @Param("fencingToken") Long fencingToken,
+                   @Param("lastProcessedId") Long lastProcessedId,
+                   @Param("readCount") long readCount,
+                   @Param("writeCount") long writeCount,
+                   @Param("chunkMillis") long chunkMillis);
+
+    @Modifying
+    @Query("UPDATE JobExecution e SET e.status = :failed, e.failureCount = e.failureCount + 1, " +
+            "e.lastError = :error WHERE e.id = :id AND e.fencingToken = :fencingToken")
+    int markFailed(@Param("id") Long id,
+                   @Param("fencingToken") Long fencingToken,
+                   @Param("failed") BatchStatus failed,
+                   @Param("error") String error);
+}
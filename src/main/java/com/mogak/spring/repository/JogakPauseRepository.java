@@ -0,0 +1,32 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.jogak.JogakPause;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JogakPauseRepository extends JpaRepository<JogakPause, Long> {
+
+    List<JogakPause> findAllByJogakIdOrderByStartAt(Long jogakId);
+
+    // [startAt, endAt)와 겹치거나 맞닿은 조각의 쉬는 기간 (합치기용)
+    @Query("SELECT p FROM JogakPause p " +
+            "WHERE p.jogak.id = :jogakId AND p.startAt <= :endAt AND p.endAt >= :startAt " +
+            "ORDER BY p.startAt")
+    List<JogakPause> findTouching(@Param("jogakId") Long jogakId,
+                                  @Param("startAt") LocalDate startAt,
+                                  @Param("endAt") LocalDate endAt);
+
+    // 조각들의 [from, to)와 겹치는 쉬는 기간을 조각, 시작일 순으로 (RoutineProjection)
+    @Query("SELECT p FROM JogakPause p " +
+            "WHERE p.jogak.id IN :jogakIds AND p.startAt < :to AND p.endAt > :from " +
+            "ORDER BY p.jogak.id, p.startAt")
+    List<JogakPause> findOverlapping(@Param("jogakIds") List<Long> jogakIds,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    void deleteAllByJogakId(Long jogakId);
+}
@@ -3,11 +3,11 @@ package com.mogak.spring.repository;
 import com.mogak.spring.domain.jogak.JogakPeriod;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
-
+/**
+ * 요일 비트마스크(Jogak.weekdays) 이전의 조각-요일 테이블, 이관과 조각 삭제 시 정리에만 사용
+ */
 public interface JogakPeriodRepository extends JpaRepository<JogakPeriod, Long> {
 
-    List<JogakPeriod> findAllByJogak_Id(Long jogakId);
     void deleteAllByJogakId(Long jogakId);
 
 }
@@ -0,0 +1,49 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.domain.jogak.Jogak;
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 조각 조회 API 응답 모양 그대로 생성자 조회하는 읽기 전용 쿼리
+ * 모각 제목, 카테고리 이름, 요일을 조인해서 한 번에 가져오기 때문에 조각 수만큼 지연 로딩이 일어나지 않음
+ */
+public interface JogakQueryRepository extends Repository<Jogak, Long>, JogakQueryRepositoryCustom {
+
+    /**
+     * 아직 데일리 조각이 생성되지 않은 미래 day에 진행중이고 쉬지 않는 매주 반복 루틴 조각 (weekdays는 Weekdays.masksOn(day))
+     * */
+    @Query("SELECT NEW com.mogak.spring.web.dto.jogakdto.JogakResponseDto$GetDailyJogakDto(" +
+            "j.id, m.title, c.name, j.title, j.isRoutine) " +
+            "FROM Jogak j JOIN j.mogak m LEFT JOIN j.category c " +
+            "WHERE j.user.id = :userId AND j.weekdays IN :weekdays AND j.recurrenceType IS NULL " +
+            "AND j.state = 'ONGOING' AND (j.endAt IS NULL OR j.endAt > :day) " +
+            "AND NOT EXISTS (SELECT p.id FROM JogakPause p WHERE p.jogak = j AND p.startAt <= :day AND p.endAt > :day) " +
+            "ORDER BY j.id")
+    List<JogakResponseDto.GetDailyJogakDto> findFutureDailyJogaks(@Param("userId") Long userId,
+                                                                 @Param("weekdays") List<Integer> weekdays,
+                                                                 @Param("day") LocalDate day);
+
+    /**
+     * 미래 day에 반복하는 규칙 루틴 조각 (jogakIds는 RecurringJogak.dueOn으로 거른 조각)
+     * */
+    @Query("SELECT NEW com.mogak.spring.web.dto.jogakdto.JogakResponseDto$GetDailyJogakDto(" +
+            "j.id, m.title, c.name, j.title, j.isRoutine) " +
+            "FROM Jogak j JOIN j.mogak m LEFT JOIN j.category c " +
+            "WHERE j.id IN :jogakIds " +
+            "ORDER BY j.id")
+    List<JogakResponseDto.GetDailyJogakDto> findFutureDailyJogaksByIds(@Param("jogakIds") List<Long> jogakIds);
+
+    @Query("SELECT NEW com.mogak.spring.web.dto.jogakdto.JogakResponseDto$DetailJogakDto(" +
+            "j.id, m.title, c.name, j.title, j.isRoutine, j.weekdays, j.recurrenceType, j.recurrenceInterval, j.monthDays, " +
+            "m.color, j.achievements, j.startAt, j.endAt) " +
+            "FROM Jogak j JOIN j.mogak m LEFT JOIN j.category c " +
+            "WHERE j.id = :jogakId")
+    Optional<JogakResponseDto.DetailJogakDto> findJogakDetail(@Param("jogakId") Long jogakId);
+}
@@ -0,0 +1,26 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JogakQueryRepositoryCustom {
+
+    /**
+     * 유저의 일회성 조각 + day에 이미 시작했는지 여부
+     * */
+    List<JogakResponseDto.GetOneTimeJogakDto> findOneTimeJogaks(Long userId, LocalDate day);
+
+    /**
+     * 모각의 day에 진행중인 조각 + day에 이미 시작했는지 여부 (종료일 당일 포함)
+     * includeJudged가 true면 (지난 날짜 조회) 판정이 끝난 조각도 포함
+     * */
+    List<JogakResponseDto.GetJogakDto> findJogaksByMogak(Long mogakId, LocalDate day, boolean includeJudged);
+
+    /**
+     * 유저의 day 데일리 조각 (id 순)
+     * 보관됐을 수 있는 day(DailyJogakArchiveRepository.mayBeArchived)면 보관 테이블도 읽음
+     * */
+    List<JogakResponseDto.GetDailyJogakDto> findDailyJogaks(Long userId, LocalDate day);
+}
@@ -0,0 +1,95 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class JogakQueryRepositoryImpl implements JogakQueryRepositoryCustom {
+
+    /**
+     * day에 이미 시작한 조각인지 여부
+     * (jogak_id, target_date) unique 인덱스로 조각마다 데일리 조각을 최대 한 건만 조인하므로 행이 늘어나지 않음
+     * 보관됐을 수 있는 day면 보관 테이블도 같은 unique 인덱스로 확인
+     * */
+    private static final String ALREADY_ADDED = "CASE WHEN dj.id IS NULL THEN false ELSE true END";
+    private static final String ALREADY_ADDED_OR_ARCHIVED = "CASE WHEN dj.id IS NOT NULL OR EXISTS (" +
+            "SELECT a.id FROM DailyJogakArchive a WHERE a.jogakId = j.id AND a.targetDate = :day) THEN true ELSE false END";
+
+    private static final String ONE_TIME_JOGAKS = "SELECT NEW com.mogak.spring.web.dto.jogakdto.JogakResponseDto$GetOneTimeJogakDto(" +
+            "j.id, m.title, c.name, j.title, j.isRoutine, %s, j.achievements, j.startAt, j.endAt) " +
+            "FROM Jogak j JOIN j.mogak m LEFT JOIN j.category c " +
+            "LEFT JOIN j.dailyJogaks dj ON dj.targetDate = :day " +
+            "WHERE m.user.id = :userId AND j.isRoutine = false " +
+            "ORDER BY m.id, j.id";
+
+    private static final String JOGAKS_BY_MOGAK = "SELECT NEW com.mogak.spring.web.dto.jogakdto.JogakResponseDto$GetJogakDto(" +
+            "j.id, m.title, c.name, j.title, j.isRoutine, j.weekdays, %s, " +
+            "j.achievements, j.startAt, j.endAt) " +
+            "FROM Jogak j JOIN j.mogak m LEFT JOIN j.category c " +
+            "LEFT JOIN j.dailyJogaks dj ON dj.targetDate = :day " +
+            "WHERE m.id = :mogakId AND (j.endAt IS NULL OR j.endAt >= :day) " +
+            "AND (:includeJudged = true OR j.state = 'ONGOING') " +
+            "ORDER BY j.id";
+
+    private static final String DAILY_JOGAKS = "SELECT NEW com.mogak.spring.web.dto.jogakdto.JogakResponseDto$GetDailyJogakDto(" +
+            "d.jogak.id, d.id, m.title, c.name, d.title, d.isRoutine, d.isAchievement) " +
+            "FROM DailyJogak d JOIN d.mogak m LEFT JOIN d.category c " +
+            "WHERE d.user.id = :userId AND d.targetDate = :day " +
+            "ORDER BY d.id";
+
+    // 보관 테이블은 외래키 없이 id만 있어서 모각/카테고리를 id로 조인
+    private static final String ARCHIVED_DAILY_JOGAKS = "SELECT NEW com.mogak.spring.web.dto.jogakdto.JogakResponseDto$GetDailyJogakDto(" +
+            "d.jogakId, d.id, m.title, c.name, d.title, d.isRoutine, d.isAchievement) " +
+            "FROM DailyJogakArchive d JOIN Mogak m ON m.id = d.mogakId LEFT JOIN MogakCategory c ON c.id = d.categoryId " +
+            "WHERE d.userId = :userId AND d.targetDate = :day " +
+            "ORDER BY d.id";
+
+    private final EntityManager em;
+    private final DailyJogakArchiveRepository dailyJogakArchiveRepository;
+
+    @Override
+    public List<JogakResponseDto.GetOneTimeJogakDto> findOneTimeJogaks(Long userId, LocalDate day) {
+        return em.createQuery(String.format(ONE_TIME_JOGAKS, alreadyAdded(day)), JogakResponseDto.GetOneTimeJogakDto.class)
+                .setParameter("userId", userId)
+                .setParameter("day", day)
+                .getResultList();
+    }
+
+    @Override
+    public List<JogakResponseDto.GetJogakDto> findJogaksByMogak(Long mogakId, LocalDate day, boolean includeJudged) {
+        return em.createQuery(String.format(JOGAKS_BY_MOGAK, alreadyAdded(day)), JogakResponseDto.GetJogakDto.class)
+                .setParameter("mogakId", mogakId)
+                .setParameter("day", day)
+                .setParameter("includeJudged", includeJudged)
+                .getResultList();
+    }
+
+    private String alreadyAdded(LocalDate day) {
+        return dailyJogakArchiveRepository.mayBeArchived(day) ? ALREADY_ADDED_OR_ARCHIVED : ALREADY_ADDED;
+    }
+
+    @Override
+    public List<JogakResponseDto.GetDailyJogakDto> findDailyJogaks(Long userId, LocalDate day) {
+        List<JogakResponseDto.GetDailyJogakDto> dailyJogaks = findDailyJogaks(DAILY_JOGAKS, userId, day);
+        if (!dailyJogakArchiveRepository.mayBeArchived(day)) {
+            return dailyJogaks;
+        }
+        List<JogakResponseDto.GetDailyJogakDto> merged = new ArrayList<>(findDailyJogaks(ARCHIVED_DAILY_JOGAKS, userId, day));
+        merged.addAll(dailyJogaks);
+        merged.sort(Comparator.comparing(JogakResponseDto.GetDailyJogakDto::getDailyJogakId));
+        return merged;
+    }
+
+    private List<JogakResponseDto.GetDailyJogakDto> findDailyJogaks(String query, Long userId, LocalDate day) {
+        return em.createQuery(query, JogakResponseDto.GetDailyJogakDto.class)
+                .setParameter("userId", userId)
+                .setParameter("day", day)
+                .getResultList();
+    }
+}
@@ -1,42 +1,187 @@
 package com.mogak.spring.repository;
 
-import com.mogak.spring.domain.jogak.DailyJogak;
 import com.mogak.spring.domain.jogak.Jogak;
 import com.mogak.spring.domain.mogak.Mogak;
 import com.mogak.spring.domain.user.User;
+import com.mogak.spring.reminder.ReminderTarget;
+import com.mogak.spring.repository.query.RecurringJogak;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface JogakRepository extends JpaRepository<Jogak, Long> {
 
-    @Query("SELECT j from Jogak j " +
-            "JOIN FETCH j.mogak jm JOIN FETCH jm.user JOIN FETCH j.jogakPeriods jp JOIN FETCH jp.period " +
-            "WHERE jm.user = :user and jp.period.id = :today")
-    List<Jogak> findDailyRoutineJogaks(@Param(value = "user") User user, @Param(value = "today") int todayNum);
+    // 규칙 루틴 조각 후보 조회 (날짜에 반복하는지는 RecurringJogak.dueOn으로 거름)
+    String RECURRING_JOGAK = "SELECT NEW com.mogak.spring.repository.query.RecurringJogak(" +
+            "j.id, j.recurrenceType, j.recurrenceInterval, j.weekdays, j.monthDays, j.startAt, j.endAt) ";
 
-    @Query(value = "SELECT j FROM Jogak j WHERE :state Is NULL or j.state = :state")
-    List<Jogak> findJogakByState(@Param(value = "state") String state);
+    // date가 조각의 쉬는 기간이 아님 (쉬는 조각은 후보로도 읽지 않음)
+    String NOT_PAUSED_ON_DATE = "NOT EXISTS (SELECT p.id FROM JogakPause p " +
+            "WHERE p.jogak = j AND p.startAt <= :date AND p.endAt > :date) ";
 
-//    @Query(value = "SELECT j FROM Jogak j WHERE j.state = :state " +
-//            "AND j.startTime < CURRENT_DATE AND j.createdAt >= CURRENT_DATE - 1")
-//    List<Jogak> findJogakIsOngoingYesterday(@Param(value = "state") String state);
+    // 오늘 진행중인 모각의 조각 수
+    @Query("SELECT COUNT(j) FROM Jogak j " +
+            "WHERE j.mogak = :mogak AND j.state = 'ONGOING' AND (j.endAt IS NULL OR j.endAt > :today)")
+    long countOngoingJogaks(@Param("mogak") Mogak mogak, @Param("today") LocalDate today);
+
+    /**
+     * 요일 비트마스크 컬럼 추가 전 데이터 이관 - jogak_period의 요일들로 weekdays를 채움
+     * period_id는 요일 번호(월요일 = 1)와 같음
+     * */
+    @Modifying
+    @Query(value = "UPDATE jogak j SET weekdays = (" +
+            "SELECT SUM(DISTINCT POWER(2, jp.period_id - 1)) FROM jogak_period jp WHERE jp.jogak_id = j.jogak_id) " +
+            "WHERE j.weekdays IS NULL AND j.is_routine = true " +
+            "AND EXISTS (SELECT 1 FROM jogak_period jp WHERE jp.jogak_id = j.jogak_id)", nativeQuery = true)
+    int fillLegacyWeekdays();
+
+    // 판정 전 상태가 없는 기존 조각을 진행중으로 채움
+    @Modifying
+    @Query("UPDATE Jogak j SET j.state = 'ONGOING' WHERE j.state IS NULL")
+    int fillLegacyStates();
+
+    // 종료일이 지났는데 아직 판정되지 않은 조각 id를 afterId 이후부터 오름차순 조회 (keyset 페이징)
+    @Query("SELECT j.id FROM Jogak j JOIN j.user u " +
+            "WHERE j.state = 'ONGOING' AND j.endAt <= :today " +
+            "AND COALESCE(u.timezone, '" + User.DEFAULT_TIMEZONE + "') IN :timezones AND j.id > :afterId " +
+            "ORDER BY j.id")
+    List<Long> findEndedJogakIds(@Param("timezones") List<String> timezones,
+                                 @Param("today") LocalDate today,
+                                 @Param("afterId") Long afterId,
+                                 Pageable pageable);
+
+    // 조각의 데일리 조각 수 / 달성 수 (보관한 달은 조각별 월 rollup으로 더함)
+    String TOTAL_COUNT = "((SELECT COUNT(*) FROM daily_jogak d WHERE d.jogak_id = j.jogak_id) + " +
+            "(SELECT COALESCE(SUM(r.total_count), 0) FROM achievement_rollup r WHERE r.jogak_id = j.jogak_id))";
+    String ACHIEVED_COUNT = "((SELECT COUNT(*) FROM daily_jogak d WHERE d.jogak_id = j.jogak_id AND d.is_achievement = true) + " +
+            "(SELECT COALESCE(SUM(r.achieved_count), 0) FROM achievement_rollup r WHERE r.jogak_id = j.jogak_id))";
+
+    /**
+     * 종료일이 지난 조각을 달성률(달성한 데일리 조각 수 / 데일리 조각 수)로 판정해 한 번의 UPDATE로 상태 변경
+     * 달성률이 successRate(%) 이상이면 SUCCESS, 미만이거나 데일리 조각이 없으면 FAIL
+     * 조각 id가 [fromJogakId, toJogakId] 범위이면서 해당 타임존 유저의 조각만 대상으로 함 (배치 청크 단위)
+     * */
+    @Modifying
+    @Query(value = "UPDATE jogak j SET state = CASE " +
+            "WHEN " + TOTAL_COUNT + " > 0 " +
+            "AND " + ACHIEVED_COUNT + " * 100 >= :successRate * " + TOTAL_COUNT + " " +
+            "THEN 'SUCCESS' ELSE 'FAIL' END, updated_at = :now " +
+            "WHERE j.jogak_id BETWEEN :fromJogakId AND :toJogakId " +
+            "AND j.state = 'ONGOING' AND j.end_at <= :today " +
+            "AND j.user_id IN (SELECT u.user_id FROM users u " +
+            "WHERE COALESCE(u.timezone, '" + User.DEFAULT_TIMEZONE + "') IN (:timezones))", nativeQuery = true)
+    int judgeEndedJogaks(@Param("timezones") List<String> timezones,
+                         @Param("today") LocalDate today,
+                         @Param("successRate") int successRate,
+                         @Param("now") LocalDateTime now,
+                         @Param("fromJogakId") Long fromJogakId,
+                         @Param("toJogakId") Long toJogakId);
 
     List<Jogak> findAllByMogak(Mogak mogak);
 
-    @Query("SELECT DISTINCT j FROM Jogak j JOIN FETCH j.jogakPeriods jp JOIN FETCH jp.period p " +
-            "WHERE j.user.id = :userId AND j.isRoutine = true")
-    List<Jogak> findAllRoutineJogaksByUser(@Param("userId") Long userId);
+    // from 이후에도 진행중인 유저의 루틴 조각 조회 (매주 반복 + 규칙 루틴)
+    @Query("SELECT j FROM Jogak j " +
+            "WHERE j.user.id = :userId AND (j.weekdays IS NOT NULL OR j.recurrenceType IS NOT NULL) " +
+            "AND j.state = 'ONGOING' AND (j.endAt IS NULL OR j.endAt > :from)")
+    List<Jogak> findOngoingRoutineJogaksByUser(@Param("userId") Long userId, @Param("from") LocalDate from);
 
     Optional<List<Jogak>> findAllByUserId(Long userId);
 
     void deleteByUserId(Long userId);
 
-    @Query("SELECT j FROM Jogak j " +
-            "JOIN FETCH j.dailyJogaks dj " +
-            "WHERE dj = :dailyJogak")
-    Optional<Jogak> findByDailyJogak(@Param("dailyJogak") DailyJogak dailyJogak);
+    // 데일리 조각의 조각 달성 횟수를 DB에서 증감
+    @Modifying
+    @Query("UPDATE Jogak j SET j.achievements = j.achievements + :delta, j.updatedAt = :now " +
+            "WHERE j.id = (SELECT d.jogak.id FROM DailyJogak d WHERE d.id = :dailyJogakId)")
+    int addAchievements(@Param("dailyJogakId") Long dailyJogakId,
+                        @Param("delta") int delta,
+                        @Param("now") LocalDateTime now);
+
+    // addAchievements와 같음 (보관된 데일리 조각)
+    @Modifying
+    @Query("UPDATE Jogak j SET j.achievements = j.achievements + :delta, j.updatedAt = :now " +
+            "WHERE j.id = (SELECT d.jogakId FROM DailyJogakArchive d WHERE d.id = :dailyJogakId)")
+    int addArchivedAchievements(@Param("dailyJogakId") Long dailyJogakId,
+                                @Param("delta") int delta,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * date(현지 날짜)의 [fromTime, toTime) 사이에 알림을 받는 진행중이고 쉬지 않는 루틴 조각 조회 (keyset 페이징)
+     * toTime이 null이면 자정까지
+     * */
+    @Query("SELECT new com.mogak.spring.reminder.ReminderTarget(j.id, u.id, j.title, j.reminderTime) " +
+            "FROM Jogak j JOIN j.user u " +
+            "WHERE j.weekdays IN :weekdays AND j.recurrenceType IS NULL " +
+            "AND j.reminderTime >= :fromTime AND (:toTime IS NULL OR j.reminderTime < :toTime) " +
+            "AND j.state = 'ONGOING' AND (j.endAt IS NULL OR j.endAt > :date) " +
+            "AND " + NOT_PAUSED_ON_DATE +
+            "AND COALESCE(u.timezone, '" + User.DEFAULT_TIMEZONE + "') IN :timezones AND j.id > :afterId " +
+            "ORDER BY j.id")
+    List<ReminderTarget> findReminderTargets(@Param("timezones") List<String> timezones,
+                                             @Param("date") LocalDate date,
+                                             @Param("weekdays") List<Integer> weekdays,
+                                             @Param("fromTime") LocalTime fromTime,
+                                             @Param("toTime") LocalTime toTime,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    @Query("SELECT new com.mogak.spring.reminder.ReminderTarget(j.id, u.id, j.title, j.reminderTime) " +
+            "FROM Jogak j JOIN j.user u " +
+            "WHERE j.id IN :jogakIds " +
+            "ORDER BY j.id")
+    List<ReminderTarget> findReminderTargetsByIds(@Param("jogakIds") List<Long> jogakIds);
+
+    /**
+     * 해당 타임존이면서 user id가 [fromUserId, toUserId] 범위인 유저의 date에 진행중이고 쉬지 않는 규칙 루틴 조각 (배치 청크 단위)
+     * */
+    @Query(RECURRING_JOGAK +
+            "FROM Jogak j JOIN j.user u " +
+            "WHERE j.recurrenceType IS NOT NULL " +
+            "AND j.state = 'ONGOING' AND (j.endAt IS NULL OR j.endAt > :date) " +
+            "AND " + NOT_PAUSED_ON_DATE +
+            "AND u.id BETWEEN :fromUserId AND :toUserId " +
+            "AND COALESCE(u.timezone, '" + User.DEFAULT_TIMEZONE + "') IN :timezones")
+    List<RecurringJogak> findRecurringJogaks(@Param("timezones") List<String> timezones,
+                                             @Param("date") LocalDate date,
+                                             @Param("fromUserId") Long fromUserId,
+                                             @Param("toUserId") Long toUserId);
+
+    // 유저의 date에 진행중이고 쉬지 않는 규칙 루틴 조각
+    @Query(RECURRING_JOGAK +
+            "FROM Jogak j " +
+            "WHERE j.user.id = :userId AND j.recurrenceType IS NOT NULL " +
+            "AND j.state = 'ONGOING' AND (j.endAt IS NULL OR j.endAt > :date) " +
+            "AND " + NOT_PAUSED_ON_DATE)
+    List<RecurringJogak> findRecurringJogaksByUser(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    /**
+     * date(현지 날짜)의 [fromTime, toTime) 사이에 알림을 받는 진행중이고 쉬지 않는 규칙 루틴 조각
+     * toTime이 null이면 자정까지
+     * */
+    @Query(RECURRING_JOGAK +
+            "FROM Jogak j JOIN j.user u " +
+            "WHERE j.recurrenceType IS NOT NULL " +
+            "AND j.reminderTime >= :fromTime AND (:toTime IS NULL OR j.reminderTime < :toTime) " +
+            "AND j.state = 'ONGOING' AND (j.endAt IS NULL OR j.endAt > :date) " +
+            "AND " + NOT_PAUSED_ON_DATE +
+            "AND COALESCE(u.timezone, '" + User.DEFAULT_TIMEZONE + "') IN :timezones")
+    List<RecurringJogak> findRecurringReminderJogaks(@Param("timezones") List<String> timezones,
+                                                     @Param("date") LocalDate date,
+                                                     @Param("fromTime") LocalTime fromTime,
+                                                     @Param("toTime") LocalTime toTime);
+
+    // 같은 조각의 데일리 조각 생성을 순서대로 처리하기 위한 row lock (조각 시작 동시 요청)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM Jogak j WHERE j.id = :jogakId")
+    Optional<Jogak> findByIdForUpdate(@Param("jogakId") Long jogakId);
 }
@@ -1,8 +1,12 @@
 package com.mogak.spring.repository;
 
 import com.mogak.spring.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,4 +15,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Boolean existsByEmail(String email);
+
+    // 유저들이 사용중인 타임존 목록 (미설정 유저는 기본 타임존)
+    @Query("SELECT DISTINCT COALESCE(u.timezone, '" + User.DEFAULT_TIMEZONE + "') FROM User u")
+    List<String> findAllTimezones();
+
+    // 해당 타임존 유저 id를 afterId 이후부터 오름차순 조회 (keyset 페이징)
+    @Query("SELECT u.id FROM User u " +
+            "WHERE COALESCE(u.timezone, '" + User.DEFAULT_TIMEZONE + "') IN :timezones AND u.id > :afterId " +
+            "ORDER BY u.id")
+    List<Long> findIdsByTimezones(@Param("timezones") List<String> timezones,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
 }
@@ -0,0 +1,27 @@
+package com.mogak.spring.repository.query;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 데일리 조각 달성/취소 응답용 조회 결과
+ * 캐시 무효화에 필요한 유저/날짜와 통계 갱신에 필요한 모각/모다라트 id를 같이 가져옴
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DailyJogakAchievementDto {
+    private Long userId;
+    private LocalDate targetDate;
+    private Long jogakId;
+    private Long mogakId;
+    private Long modaratId;
+    private Long dailyJogakId;
+    private String title;
+    private String mogakTitle;
+    private String category;
+    private Boolean isRoutine;
+    private Boolean isAchievement;
+    private Integer achievements;
+}
@@ -0,0 +1,18 @@
+package com.mogak.spring.repository.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 달성 비트맵 재계산용 데일리 조각 한 건 (조각, 유저, 날짜, 달성 여부)
+ */
+@Getter
+@AllArgsConstructor
+public class DailyJogakHistory {
+    private Long jogakId;
+    private Long userId;
+    private LocalDate targetDate;
+    private Boolean isAchievement;
+}
@@ -0,0 +1,37 @@
+package com.mogak.spring.repository.query;
+
+import com.mogak.spring.domain.jogak.Recurrence;
+import com.mogak.spring.domain.jogak.RecurrenceRule;
+import com.mogak.spring.domain.jogak.RecurrenceType;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매주 반복이 아닌 규칙 루틴 조각 id + 조회 시점에 한 번 컴파일한 반복 일정
+ * 요일 비트마스크처럼 SQL로 거를 수 없어서 후보만 조회한 뒤 날짜에 반복하는 조각만 골라 씀
+ */
+@Getter
+public class RecurringJogak {
+    private final Long jogakId;
+    private final RecurrenceRule rule;
+
+    public RecurringJogak(Long jogakId, RecurrenceType recurrenceType, Integer recurrenceInterval,
+                          Integer weekdays, Integer monthDays, LocalDate startAt, LocalDate endAt) {
+        this.jogakId = jogakId;
+        this.rule = RecurrenceRule.compile(Recurrence.of(recurrenceType, recurrenceInterval, weekdays, monthDays), startAt, endAt);
+    }
+
+    // date에 반복하는 조각 id
+    public static List<Long> dueOn(List<RecurringJogak> jogaks, LocalDate date) {
+        List<Long> jogakIds = new ArrayList<>();
+        for (RecurringJogak jogak : jogaks) {
+            if (jogak.getRule().isDueOn(date)) {
+                jogakIds.add(jogak.getJogakId());
+            }
+        }
+        return jogakIds;
+    }
+}
@@ -1,30 +1,70 @@
 package com.mogak.spring.scheduler;
 
+import com.mogak.spring.batch.DailyJogakArchiveJob;
+import com.mogak.spring.batch.JogakJudgementJob;
+import com.mogak.spring.batch.RoutineJogakJob;
 import com.mogak.spring.service.JogakService;
+import com.mogak.spring.service.RoutineJogakMaterializer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
 @Component
 public class Scheduler {
 
     @Autowired
     private JogakService jogakService;
 
-    @Scheduled(zone = "Asia/Seoul", cron = "1 0 0 * * *")
+    @Autowired
+    private SchedulerLock schedulerLock;
+
+    @Autowired
+    private RoutineJogakMaterializer routineJogakMaterializer;
+
+    @Autowired
+    private DailyJogakArchiveJob dailyJogakArchiveJob;
+
+    @Autowired
+    private Clock clock;
+
+    /**
+     * 매 정시마다 자정이 된 타임존의 루틴 조각 생성
+     * LAZY 모드에서는 조회 시점에 생성하므로 실행하지 않음
+     * */
+    @Scheduled(cron = "1 0 * * * *")
     public void createRoutineJogakByScheduler() {
-        jogakService.createRoutineJogakToday();
+        if (routineJogakMaterializer.isLazyMode()) {
+            return;
+        }
+        String runKey = clock.instant().truncatedTo(ChronoUnit.HOURS).toString();
+        schedulerLock.runExclusively(RoutineJogakJob.NAME, runKey,
+                lease -> jogakService.createRoutineJogakToday(runKey, lease.getToken()));
     }
 
-//    @Scheduled(zone = "Asia/Seoul", cron = "0 1 0 * * *")
-//    public void failJogakMidnightByScheduler() {
-//        jogakService.failRoutineJogakAtMidnight();
-//    }
+    /**
+     * 매 정시마다 새벽 4시가 된 타임존의 종료된 조각 판정
+     * */
+    @Scheduled(cron = "0 5 * * * *")
+    public void judgeEndedJogakByScheduler() {
+        String runKey = clock.instant().truncatedTo(ChronoUnit.HOURS).toString();
+        schedulerLock.runExclusively(JogakJudgementJob.NAME, runKey,
+                lease -> jogakService.judgeEndedJogaks(runKey, lease.getToken()));
+    }
 
-//    @Scheduled(zone = "Asia/Seoul", cron = "0 0 4 * * *")
-//    public void failJogakAtFourByScheduler() {
-//        jogakService.failJogakAtFour();
-//    }
+    /**
+     * 매일 새벽 4시 30분 보관 기간이 지난 데일리 조각을 보관 테이블로 옮김
+     * runKey가 보관 기준일(월 첫날)이라 한 달에 한 번만 실제로 옮기고 나머지 날은 완료된 실행을 확인만 함
+     * */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void archiveDailyJogakByScheduler() {
+        String runKey = dailyJogakArchiveJob.archiveBefore(LocalDate.now(clock)).toString();
+        schedulerLock.runExclusively(DailyJogakArchiveJob.NAME, runKey,
+                lease -> jogakService.archiveDailyJogaks(runKey, lease.getToken()));
+    }
 
 //    @Scheduled(zone = "Asia/Seoul", cron = "0 0 4 * * *")
 //    public void judgeMogakAtFourByScheduler() {
@@ -0,0 +1,192 @@
+package com.mogak.spring.scheduler;
+
+import com.mogak.spring.redis.RedisService;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 스케줄러 작업 락
+ * 여러 서버가 같은 cron에 깨어나도 lease를 잡은 한 대만 작업을 수행하고,
+ * 나머지는 대기하다가 lease가 만료되면(작업 서버가 죽은 경우) 작업을 이어받는다
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private static final String LOCK_PREFIX = "scheduler:lock:";
+    private static final String FENCE_PREFIX = "scheduler:fence:";
+    private static final String DONE_PREFIX = "scheduler:done:";
+    private static final long DONE_EXPIRY = TimeUnit.DAYS.toMillis(2);
+
+    // lease가 비어 있을 때만 fencing token을 올리고 lease 획득, 실패하면 0
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+                    "local token = redis.call('incr', KEYS[2]) " +
+                    "redis.call('set', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+                    "return token", Long.class);
+    // lease 소유자일 때만 만료시간 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "else return 0 end", Long.class);
+    // lease 소유자일 때만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) " +
+                    "else return 0 end", Long.class);
+    // lease 소유자일 때만 완료 표시 후 해제
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('set', KEYS[2], ARGV[2], 'PX', ARGV[3]) " +
+                    "return redis.call('del', KEYS[1]) " +
+                    "else return 0 end", Long.class);
+
+    private final RedisService redisService;
+    private final long leaseTime;
+    private final long standbyTimeout;
+    private final long retryInterval;
+    private final String nodeId;
+    private final ScheduledExecutorService renewalExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    public SchedulerLock(RedisService redisService,
+                         @Value("${scheduler.lock.lease-time:60000}") long leaseTime,
+                         @Value("${scheduler.lock.standby-timeout:1800000}") long standbyTimeout,
+                         @Value("${scheduler.lock.retry-interval:5000}") long retryInterval) {
+        this.redisService = redisService;
+        this.leaseTime = leaseTime;
+        this.standbyTimeout = standbyTimeout;
+        this.retryInterval = retryInterval;
+        this.nodeId = resolveHostName() + "-" + UUID.randomUUID();
+    }
+
+    /**
+     * runKey(ex. 날짜) 단위로 작업을 클러스터에서 한 번만 실행
+     * return True -> 이 서버에서 실행, False -> 다른 서버가 이미 완료
+     * */
+    public boolean runExclusively(String jobName, String runKey, Consumer<Lease> job) {
+        String doneKey = DONE_PREFIX + jobName + ":" + runKey;
+        long deadline = System.currentTimeMillis() + standbyTimeout;
+        while (!redisService.hasKey(doneKey)) {
+            Optional<Lease> lease = tryAcquire(jobName);
+            if (lease.isPresent()) {
+                return runWithLease(lease.get(), doneKey, job);
+            }
+            if (System.currentTimeMillis() > deadline) {
+                log.warn("스케줄러 락 대기 시간 초과 - job: {}, runKey: {}", jobName, runKey);
+                return false;
+            }
+            if (!sleep(retryInterval)) {
+                log.warn("스케줄러 락 대기 중 인터럽트 - job: {}, runKey: {}", jobName, runKey);
+                return false;
+            }
+        }
+        return false;
+    }
+
+    public Optional<Lease> tryAcquire(String jobName) {
+        Long token = redisService.execute(ACQUIRE_SCRIPT, List.of(LOCK_PREFIX + jobName, FENCE_PREFIX + jobName),
+                nodeId, String.valueOf(leaseTime));
+        if (token == null || token == 0L) {
+            return Optional.empty();
+        }
+        return Optional.of(new Lease(jobName, token, nodeId + ":" + token));
+    }
+
+    public boolean renew(Lease lease) {
+        Long result = redisService.execute(RENEW_SCRIPT, List.of(lease.getLockKey()),
+                lease.getValue(), String.valueOf(leaseTime));
+        return result != null && result == 1L;
+    }
+
+    public void release(Lease lease) {
+        redisService.execute(RELEASE_SCRIPT, List.of(lease.getLockKey()), lease.getValue());
+    }
+
+    private boolean runWithLease(Lease lease, String doneKey, Consumer<Lease> job) {
+        // lease를 잡는 사이에 다른 서버가 완료했을 수 있음
+        if (redisService.hasKey(doneKey)) {
+            release(lease);
+            return false;
+        }
+        long renewalPeriod = Math.max(leaseTime / 3, 1);
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(() -> {
+            if (!renew(lease)) {
+                log.warn("스케줄러 lease 연장 실패 - job: {}, token: {}", lease.getJobName(), lease.getToken());
+            }
+        }, renewalPeriod, renewalPeriod, TimeUnit.MILLISECONDS);
+        try {
+            log.info("스케줄러 작업 시작 - job: {}, token: {}", lease.getJobName(), lease.getToken());
+            job.accept(lease);
+            renewal.cancel(false);
+            Long completed = redisService.execute(COMPLETE_SCRIPT, List.of(lease.getLockKey(), doneKey),
+                    lease.getValue(), String.valueOf(lease.getToken()), String.valueOf(DONE_EXPIRY));
+            if (completed == null || completed != 1L) {
+                log.warn("lease가 만료된 뒤 작업이 끝남 - job: {}, token: {}", lease.getJobName(), lease.getToken());
+            }
+            return true;
+        } finally {
+            renewal.cancel(false);
+            release(lease);
+        }
+    }
+
+    /**
+     * return False -> 인터럽트(서버 종료 등)되어 더 기다리지 않음
+     * */
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+
+    /**
+     * 작업 lease
+     * token은 lease를 잡을 때마다 증가하는 fencing token으로, 나중에 잡은 lease일수록 큰 값을 가진다
+     * */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Lease {
+        private final String jobName;
+        private final long token;
+        private final String value;
+
+        private String getLockKey() {
+            return LOCK_PREFIX + jobName;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.mogak.spring.service;
+
+import com.mogak.spring.repository.AchievementRollupRepository;
+import com.mogak.spring.repository.DailyJogakArchiveRepository;
+import com.mogak.spring.repository.DailyJogakRepository;
+import com.mogak.spring.repository.JogakRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 데일리 조각 달성 여부와 조각 달성 횟수를 엔티티를 읽지 않고 UPDATE 두 번으로 변경
+ * 달성 여부는 값이 다를 때만 바꾸는 조건부 UPDATE라서 동시에 눌러도 한 요청만 성공하고,
+ * 달성 횟수는 DB에서 증감하므로 갱신이 유실되지 않음 (항상 데일리 조각 -> 조각 순으로 row lock)
+ * daily_jogak에 없으면 보관된 데일리 조각으로 보고 보관 테이블 + 조각 + 월 rollup을 같은 방식으로 변경
+ */
+@RequiredArgsConstructor
+@Component
+public class AchievementCounter {
+
+    private final DailyJogakRepository dailyJogakRepository;
+    private final DailyJogakArchiveRepository dailyJogakArchiveRepository;
+    private final JogakRepository jogakRepository;
+    private final AchievementRollupRepository achievementRollupRepository;
+    private final Clock clock;
+
+    /**
+     * return True -> 변경, False -> 이미 achievement 상태거나 없는 데일리 조각
+     * */
+    @Transactional
+    public boolean toggle(Long dailyJogakId, boolean achievement) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int delta = achievement ? 1 : -1;
+        if (dailyJogakRepository.updateAchievement(dailyJogakId, achievement, now) == 1) {
+            jogakRepository.addAchievements(dailyJogakId, delta, now);
+            return true;
+        }
+        if (dailyJogakArchiveRepository.updateAchievement(dailyJogakId, achievement, now) == 0) {
+            return false;
+        }
+        jogakRepository.addArchivedAchievements(dailyJogakId, delta, now);
+        achievementRollupRepository.addAchieved(dailyJogakId, delta, now);
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+package com.mogak.spring.service;
+
+import com.mogak.spring.domain.stat.AchievementBitmap;
+import com.mogak.spring.domain.stat.AchievementStat;
+import com.mogak.spring.domain.stat.DailyAchievement;
+import com.mogak.spring.domain.stat.StatScope;
+import com.mogak.spring.repository.AchievementBitmapRepository;
+import com.mogak.spring.repository.AchievementRollupRepository;
+import com.mogak.spring.repository.AchievementStatRepository;
+import com.mogak.spring.repository.DailyJogakArchiveRepository;
+import com.mogak.spring.repository.query.DailyJogakHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 데일리 조각 생성/달성/취소 때 조각, 모각, 모다라트 달성 통계를 함께 갱신
+ * 생성/달성/취소는 대상 row만 SQL로 누적하고, 순서가 어긋난 경우(지난 날짜 생성/달성/취소)만 대상 이력으로 재계산
+ * 히트맵용 조각별 월 비트맵(AchievementBitmap)도 같은 시점에 날짜 비트만 켜고 끔
+ */
+@RequiredArgsConstructor
+@Transactional
+@Component
+public class AchievementStatRecorder {
+
+    private final AchievementStatRepository achievementStatRepository;
+    private final AchievementBitmapRepository achievementBitmapRepository;
+    private final AchievementRollupRepository achievementRollupRepository;
+    private final DailyJogakArchiveRepository dailyJogakArchiveRepository;
+    private final Clock clock;
+
+    /**
+     * day 데일리 조각이 생성된 뒤 호출 - user id가 [fromUserId, toUserId] 범위인 유저의 대상만 갱신 (배치 청크, 몰아서 생성한 경우)
+     * */
+    public void onGenerated(LocalDate day, Long fromUserId, Long toUserId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (StatScope scope : StatScope.values()) {
+            achievementStatRepository.insertMissingStats(scope, day, fromUserId, toUserId, now);
+            achievementStatRepository.syncDay(scope, day, fromUserId, toUserId, now);
+            List<Long> staleIds = achievementStatRepository.findStaleTargetIds(scope, day, fromUserId, toUserId);
+            if (!staleIds.isEmpty()) {
+                rebuild(scope, staleIds);
+            }
+        }
+        int month = AchievementBitmap.monthOf(day);
+        achievementBitmapRepository.insertMissingBitmaps(day, month, fromUserId, toUserId, now);
+        achievementBitmapRepository.markScheduled(day, month, AchievementBitmap.bitOf(day), fromUserId, toUserId, now);
+    }
+
+    /**
+     * 조각 하나의 day 데일리 조각이 생성된 뒤 호출 (조각 생성/시작 등 요청 하나에서 만든 경우)
+     * 유저 범위를 다시 세지 않고 대상 row만 한 칸 누적, 통계 row가 없거나 지난 날짜 생성이면 대상 이력으로 재계산
+     * */
+    public void onJogakGenerated(LocalDate day, Long userId, Long jogakId, Long mogakId, Long modaratId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        targets(jogakId, mogakId, modaratId).forEach((scope, targetId) -> {
+            if (achievementStatRepository.addGenerated(scope.name(), targetId, day, now) == 0) {
+                rebuild(scope, List.of(targetId));
+            }
+        });
+        int month = AchievementBitmap.monthOf(day);
+        if (achievementBitmapRepository.markJogakScheduled(jogakId, month, AchievementBitmap.bitOf(day), now) == 0) {
+            AchievementBitmap bitmap = AchievementBitmap.of(userId, jogakId, month);
+            bitmap.mark(day, false);
+            achievementBitmapRepository.save(bitmap);
+        }
+    }
+
+    /**
+     * day 데일리 조각을 달성한 뒤 호출 (modaratId는 모다라트가 없는 모각이면 null)
+     * */
+    public void onAchieved(LocalDate day, Long jogakId, Long mogakId, Long modaratId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        targets(jogakId, mogakId, modaratId).forEach((scope, targetId) -> {
+            if (achievementStatRepository.addAchievement(scope.name(), targetId, day, now) == 0) {
+                rebuild(scope, List.of(targetId));
+            }
+        });
+        if (achievementBitmapRepository.markAchieved(jogakId, AchievementBitmap.monthOf(day), AchievementBitmap.bitOf(day), now) == 0) {
+            rebuildBitmaps(List.of(jogakId));
+        }
+    }
+
+    /**
+     * 달성 취소 뒤 호출
+     * 달성한 마지막 칸의 취소는 남겨둔 직전 연속 달성 값으로 되돌리고,
+     * 지난 칸 취소는 연속 달성이 어디서 끊기는지 이력을 봐야 알 수 있어서 대상 이력으로 재계산
+     * */
+    public void onCancelled(LocalDate day, Long jogakId, Long mogakId, Long modaratId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        targets(jogakId, mogakId, modaratId).forEach((scope, targetId) -> {
+            if (achievementStatRepository.cancelAchievement(scope.name(), targetId, day, now) == 0) {
+                rebuild(scope, List.of(targetId));
+            }
+        });
+        if (achievementBitmapRepository.unmarkAchieved(jogakId, AchievementBitmap.monthOf(day), AchievementBitmap.bitOf(day), now) == 0) {
+            rebuildBitmaps(List.of(jogakId));
+        }
+    }
+
+    /**
+     * 조각 삭제 뒤 호출 - 조각 통계는 지우고 모각/모다라트는 남은 이력으로 재계산
+     * */
+    public void onJogakDeleted(Long jogakId, Long mogakId, Long modaratId) {
+        achievementStatRepository.deleteByTarget(StatScope.JOGAK, jogakId);
+        achievementBitmapRepository.deleteAllByJogakIds(List.of(jogakId));
+        achievementRollupRepository.deleteAllByJogakIds(List.of(jogakId));
+        targets(null, mogakId, modaratId).forEach((scope, targetId) -> rebuild(scope, List.of(targetId)));
+    }
+
+    public void onDeleted(StatScope scope, Long targetId) {
+        achievementStatRepository.deleteByTarget(scope, targetId);
+    }
+
+    /**
+     * 대상들의 통계를 데일리 조각 이력으로 다시 계산
+     * return 다시 계산한 대상 수
+     * */
+    public int rebuild(StatScope scope, List<Long> targetIds) {
+        // 통계 row lock을 먼저 잡고 이력을 읽어서 그 사이 누적된 달성이 덮어써지지 않게 함
+        Map<Long, AchievementStat> stats = achievementStatRepository.findAllForUpdate(scope, targetIds).stream()
+                .collect(Collectors.toMap(AchievementStat::getTargetId, Function.identity()));
+        Map<Long, List<DailyAchievement>> history = achievementStatRepository.findDailyAchievements(scope, targetIds);
+        List<AchievementStat> created = new ArrayList<>();
+        for (Long targetId : targetIds) {
+            List<DailyAchievement> days = history.getOrDefault(targetId, Collections.emptyList());
+            AchievementStat stat = stats.get(targetId);
+            if (stat == null) {
+                if (days.isEmpty()) {
+                    continue;
+                }
+                stat = AchievementStat.of(scope, targetId);
+                created.add(stat);
+            }
+            stat.rebuild(days);
+        }
+        achievementStatRepository.saveAll(created);
+        return stats.size() + created.size();
+    }
+
+    /**
+     * 조각들의 월 비트맵을 데일리 조각 이력(보관한 달 포함)으로 다시 만듦 (비트맵 도입 전 이력 백필, 비트맵이 없는 달 달성)
+     * return 다시 만든 조각 수
+     * */
+    public int rebuildBitmaps(List<Long> jogakIds) {
+        achievementBitmapRepository.deleteAllByJogakIds(jogakIds);
+        Map<Long, Map<Integer, AchievementBitmap>> bitmaps = new HashMap<>();
+        List<DailyJogakHistory> histories = new ArrayList<>(dailyJogakArchiveRepository.findDailyHistory(jogakIds));
+        histories.addAll(achievementBitmapRepository.findDailyHistory(jogakIds));
+        for (DailyJogakHistory history : histories) {
+            int month = AchievementBitmap.monthOf(history.getTargetDate());
+            bitmaps.computeIfAbsent(history.getJogakId(), id -> new HashMap<>())
+                    .computeIfAbsent(month, m -> AchievementBitmap.of(history.getUserId(), history.getJogakId(), m))
+                    .mark(history.getTargetDate(), Boolean.TRUE.equals(history.getIsAchievement()));
+        }
+        achievementBitmapRepository.saveAll(bitmaps.values().stream()
+                .flatMap(months -> months.values().stream())
+                .collect(Collectors.toList()));
+        return jogakIds.size();
+    }
+
+    private static Map<StatScope, Long> targets(Long jogakId, Long mogakId, Long modaratId) {
+        Map<StatScope, Long> targets = new EnumMap<>(StatScope.class);
+        Optional.ofNullable(jogakId).ifPresent(id -> targets.put(StatScope.JOGAK, id));
+        Optional.ofNullable(mogakId).ifPresent(id -> targets.put(StatScope.MOGAK, id));
+        Optional.ofNullable(modaratId).ifPresent(id -> targets.put(StatScope.MODARAT, id));
+        return targets;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mogak.spring.service;
+
+import com.mogak.spring.domain.stat.StatScope;
+import com.mogak.spring.web.dto.statdto.StatResponseDto;
+
+public interface AchievementStatService {
+
+    StatResponseDto.GetStatDto getStat(StatScope scope, Long targetId);
+
+    StatResponseDto.GetHeatmapDto getJogakHeatmap(Long jogakId, int year);
+
+    StatResponseDto.GetHeatmapDto getUserHeatmap(int year);
+
+    long rebuildAll(String runKey, long fencingToken);
+
+    long backfillBitmaps(String runKey, long fencingToken);
+}
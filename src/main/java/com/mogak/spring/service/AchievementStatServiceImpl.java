@@ -0,0 +1,120 @@
+package com.mogak.spring.service;
+
+import com.mogak.spring.batch.AchievementBitmapBackfillJob;
+import com.mogak.spring.batch.AchievementStatRebuildJob;
+import com.mogak.spring.batch.BatchJobRunner;
+import com.mogak.spring.converter.StatConverter;
+import com.mogak.spring.domain.stat.AchievementStat;
+import com.mogak.spring.domain.stat.StatScope;
+import com.mogak.spring.domain.user.User;
+import com.mogak.spring.exception.BaseException;
+import com.mogak.spring.exception.JogakException;
+import com.mogak.spring.exception.MogakException;
+import com.mogak.spring.exception.UserException;
+import com.mogak.spring.global.ErrorCode;
+import com.mogak.spring.repository.*;
+import com.mogak.spring.web.dto.statdto.StatResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class AchievementStatServiceImpl implements AchievementStatService {
+
+    private final UserRepository userRepository;
+    private final JogakRepository jogakRepository;
+    private final MogakRepository mogakRepository;
+    private final ModaratRepository modaratRepository;
+    private final AchievementStatRepository achievementStatRepository;
+    private final BatchJobRunner batchJobRunner;
+    private final AchievementStatRebuildJob achievementStatRebuildJob;
+    private final AchievementBitmapRepository achievementBitmapRepository;
+    private final AchievementBitmapBackfillJob achievementBitmapBackfillJob;
+    private final Clock clock;
+
+    /**
+     * 누적된 통계 row 하나로 달성률/연속 달성 조회 (데일리 조각이 아직 없으면 0)
+     * */
+    @Override
+    public StatResponseDto.GetStatDto getStat(StatScope scope, Long targetId) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserException(ErrorCode.NOT_EXIST_USER));
+        validateTarget(scope, targetId);
+        AchievementStat stat = achievementStatRepository.findByScopeAndTargetId(scope, targetId)
+                .orElseGet(() -> AchievementStat.of(scope, targetId));
+        return StatConverter.toGetStatDto(stat, LocalDate.now(clock.withZone(user.getZoneId())));
+    }
+
+    /**
+     * 조각의 1년치 월 비트맵(최대 12 row)으로 날짜별 생성/달성 여부 조회
+     * */
+    @Override
+    public StatResponseDto.GetHeatmapDto getJogakHeatmap(Long jogakId, int year) {
+        validateTarget(StatScope.JOGAK, jogakId);
+        return StatConverter.toGetHeatmapDto(year,
+                achievementBitmapRepository.findAllByJogakIdAndBitmapMonthBetween(jogakId, year * 100 + 1, year * 100 + 12));
+    }
+
+    /**
+     * 유저의 모든 조각 비트맵을 더해서 날짜별 데일리 조각 수/달성 수 조회
+     * */
+    @Override
+    public StatResponseDto.GetHeatmapDto getUserHeatmap(int year) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserException(ErrorCode.NOT_EXIST_USER));
+        return StatConverter.toGetHeatmapDto(year,
+                achievementBitmapRepository.findAllByUserIdAndBitmapMonthBetween(user.getId(), year * 100 + 1, year * 100 + 12));
+    }
+
+    private void validateTarget(StatScope scope, Long targetId) {
+        switch (scope) {
+            case JOGAK:
+                if (!jogakRepository.existsById(targetId)) {
+                    throw new JogakException(ErrorCode.NOT_EXIST_JOGAK);
+                }
+                break;
+            case MOGAK:
+                if (!mogakRepository.existsById(targetId)) {
+                    throw new MogakException(ErrorCode.NOT_EXIST_MOGAK);
+                }
+                break;
+            default:
+                if (!modaratRepository.existsById(targetId)) {
+                    throw new BaseException(ErrorCode.NOT_EXIST_MODARAT);
+                }
+        }
+    }
+
+    /**
+     * 조각 -> 모각 -> 모다라트 순으로 전체 통계를 데일리 조각 이력으로 다시 계산
+     * 청크마다 별도 트랜잭션으로 커밋하므로 이 메서드는 트랜잭션 없이 실행
+     * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public long rebuildAll(String runKey, long fencingToken) {
+        long rebuilt = 0;
+        for (StatScope scope : StatScope.values()) {
+            rebuilt += batchJobRunner.run(achievementStatRebuildJob,
+                    AchievementStatRebuildJob.runKey(scope, runKey), fencingToken).getWriteCount();
+        }
+        return rebuilt;
+    }
+
+    /**
+     * 기존 데일리 조각 이력으로 전체 조각의 달성 비트맵 생성 (청크마다 커밋)
+     * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public long backfillBitmaps(String runKey, long fencingToken) {
+        return batchJobRunner.run(achievementBitmapBackfillJob, runKey, fencingToken).getWriteCount();
+    }
+}
@@ -33,7 +33,10 @@ public class AuthService {
     private final MogakRepository mogakRepository;
     private final JogakRepository jogakRepository;
     private final DailyJogakRepository dailyJogakRepository;
+    private final DailyJogakArchiveRepository dailyJogakArchiveRepository;
+    private final AchievementRollupRepository achievementRollupRepository;
     private final JogakPeriodRepository jogakPeriodRepository;
+    private final JogakPauseRepository jogakPauseRepository;
     private final AppleOAuthUserProvider appleOAuthUserProvider;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisService redisService;
@@ -166,7 +169,10 @@ public class AuthService {
         if (optJogaks.isPresent()) {
             for (Jogak jogak : optJogaks.get()) {
                 dailyJogakRepository.deleteAllByJogak(jogak);
+                dailyJogakArchiveRepository.deleteAllByJogakId(jogak.getId());
+                achievementRollupRepository.deleteAllByJogakIds(List.of(jogak.getId()));
                 jogakPeriodRepository.deleteAllByJogakId(jogak.getId());
+                jogakPauseRepository.deleteAllByJogakId(jogak.getId());
             }
         }
         jogakRepository.deleteByUserId(deleteUser.getId());
@@ -8,13 +8,16 @@ import java.util.List;
 
 public interface JogakService {
 
-    void createRoutineJogakToday();
+    int createRoutineJogakToday(String runKey, long fencingToken);
+
+    int judgeEndedJogaks(String runKey, long fencingToken);
+
+    int archiveDailyJogaks(String runKey, long fencingToken);
+
     JogakResponseDto.CreateJogakDto createJogak(JogakRequestDto.CreateJogakDto createJogakDto);
     JogakResponseDto.CreateJogakDto updateJogak(Long jogakId, JogakRequestDto.UpdateJogakDto updateJogakDto);
     JogakResponseDto.GetOneTimeJogakListDto getDailyJogaks(LocalDate day);
     JogakResponseDto.GetDailyJogakListDto getDayJogaks(LocalDate day);
-//    void failRoutineJogakAtMidnight();
-//    void failJogakAtFour();
 
     JogakResponseDto.JogakDailyJogakDto startJogak(Long jogakId);
 
@@ -22,9 +25,17 @@ public interface JogakService {
 
     void deleteJogak(Long jogakId);
 
+    JogakResponseDto.BatchJogakDto batchJogaks(JogakRequestDto.BatchJogakDto batchJogakDto);
+
     List<JogakResponseDto.GetRoutineJogakDto> getRoutineJogaks(LocalDate startDay, LocalDate endDay);
 
     JogakResponseDto.JogakDailyJogakDto failJogak(Long dailyJogakId);
 
     JogakResponseDto.DetailJogakDto getJogakDetail(Long jogakId);
+
+    JogakResponseDto.JogakPauseListDto pauseJogak(Long jogakId, JogakRequestDto.PauseJogakDto pauseJogakDto);
+
+    JogakResponseDto.JogakPauseListDto resumeJogak(Long jogakId, LocalDate startDate, LocalDate endDate);
+
+    JogakResponseDto.JogakPauseListDto getJogakPauses(Long jogakId);
 }
\ No newline at end of file
@@ -1,12 +1,20 @@
 package com.mogak.spring.service;
 
+import com.mogak.spring.batch.BatchJob;
+import com.mogak.spring.batch.BatchJobRunner;
+import com.mogak.spring.batch.DailyJogakArchiveJob;
+import com.mogak.spring.batch.JogakJudgementJob;
+import com.mogak.spring.batch.RoutineJogakJob;
+import com.mogak.spring.cache.CalendarCache;
 import com.mogak.spring.converter.JogakConverter;
-import com.mogak.spring.converter.JogakPeriodConverter;
-import com.mogak.spring.domain.common.Weeks;
-import com.mogak.spring.domain.jogak.DailyJogak;
+import com.mogak.spring.domain.batch.JobExecution;
 import com.mogak.spring.domain.jogak.Jogak;
-import com.mogak.spring.domain.jogak.JogakPeriod;
-import com.mogak.spring.domain.jogak.Period;
+import com.mogak.spring.domain.jogak.JogakPause;
+import com.mogak.spring.domain.jogak.Recurrence;
+import com.mogak.spring.domain.jogak.RecurrenceType;
+import com.mogak.spring.domain.jogak.RoutineProjection;
+import com.mogak.spring.domain.jogak.Weekdays;
+import com.mogak.spring.domain.modarat.Modarat;
 import com.mogak.spring.domain.mogak.Mogak;
 import com.mogak.spring.domain.user.User;
 import com.mogak.spring.exception.BaseException;
@@ -15,20 +23,20 @@ import com.mogak.spring.exception.MogakException;
 import com.mogak.spring.exception.UserException;
 import com.mogak.spring.global.ErrorCode;
 import com.mogak.spring.repository.*;
+import com.mogak.spring.repository.query.DailyJogakAchievementDto;
+import com.mogak.spring.repository.query.RecurringJogak;
 import com.mogak.spring.web.dto.jogakdto.JogakRequestDto;
 import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.*;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -36,140 +44,155 @@ import java.util.stream.IntStream;
 @Service
 public class JogakServiceImpl implements JogakService {
 
+    // 모각별 진행중인 조각 최대 개수
+    private static final int MAX_ONGOING_JOGAKS = 8;
+
     private final UserRepository userRepository;
     private final MogakRepository mogakRepository;
     private final JogakRepository jogakRepository;
+    private final JogakQueryRepository jogakQueryRepository;
     private final JogakPeriodRepository jogakPeriodRepository;
-    private final PeriodRepository periodRepository;
+    private final JogakPauseRepository jogakPauseRepository;
     private final DailyJogakRepository dailyJogakRepository;
+    private final DailyJogakArchiveRepository dailyJogakArchiveRepository;
+    private final RoutineJogakMaterializer routineJogakMaterializer;
+    private final AchievementCounter achievementCounter;
+    private final AchievementStatRecorder achievementStatRecorder;
+    private final BatchJobRunner batchJobRunner;
+    private final RoutineJogakJob routineJogakJob;
+    private final JogakJudgementJob jogakJudgementJob;
+    private final DailyJogakArchiveJob dailyJogakArchiveJob;
+    private final CalendarCache calendarCache;
+    private final Clock clock;
 
     /**
-     * 자정에 Ongoing인 모든 모각 생성
+     * 매 정시마다 실행되어 자정이 된 타임존의 루틴 조각을 청크 단위 배치로 생성
+     * 이전 정시에 실패한 실행이 있으면 체크포인트부터 먼저 이어서 처리
+     * 청크마다 별도 트랜잭션으로 커밋하므로 이 메서드는 트랜잭션 없이 실행
      */
-    @Transactional
-    public void createRoutineJogakToday() {
-        for (User user: userRepository.findAll()) {
-            List<Jogak> jogaks  = jogakRepository.findDailyRoutineJogaks(user, Weeks.getTodayNum());
-            for (Jogak jogak : jogaks) {
-                dailyJogakRepository.save(JogakConverter.toInitialDailyJogak(jogak));
-            }
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public int createRoutineJogakToday(String runKey, long fencingToken) {
+        return runBatchJob(routineJogakJob, runKey, fencingToken);
     }
 
-//    /**
-//     * 자정 1분까지 시작하지 않은 조각 실패 처리
-//     * +) 자정엔 조각 생성 스케줄이 있어서 1분 이후에 처리
-//     */
-//    @Transactional
-//    public void failRoutineJogakAtMidnight() {
-//        List<Jogak> jogaks = jogakRepository.findJogakByState(null);
-//        for (Jogak jogak : jogaks) {
-//            jogak.updateState(JogakState.FAIL);
-//        }
-//    }
+    /**
+     * 매 정시마다 실행되어 새벽 4시가 된 타임존의 종료된 조각을 달성률로 판정
+     * 조각을 메모리에 올리지 않고 id 청크 단위로 집계 + 일괄 UPDATE
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public int judgeEndedJogaks(String runKey, long fencingToken) {
+        return runBatchJob(jogakJudgementJob, runKey, fencingToken);
+    }
 
     /**
-     * 새벽 4시까지 종료를 누르지 않은 조각 실패 처리
+     * 보관 기준일(runKey) 이전 데일리 조각을 조각별 월 rollup을 남기고 보관 테이블로 옮김
+     * 캘린더/하루 조회 결과는 그대로라서 캐시는 비우지 않음
      */
-//    @Transactional
-//    public void failJogakAtFour() {
-//        List<Jogak> jogaks = jogakRepository.findJogakIsOngoingYesterday(JogakState.ONGOING.name());
-//        for (Jogak jogak : jogaks) {
-//            jogak.updateState(JogakState.FAIL);
-//        }
-//    }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public int archiveDailyJogaks(String runKey, long fencingToken) {
+        return runBatchJob(dailyJogakArchiveJob, runKey, fencingToken);
+    }
+
+    private int runBatchJob(BatchJob job, String runKey, long fencingToken) {
+        long written = 0;
+        for (JobExecution resumed : batchJobRunner.resumeIncomplete(job, runKey, fencingToken)) {
+            written += resumed.getWriteCount();
+        }
+        written += batchJobRunner.run(job, runKey, fencingToken).getWriteCount();
+        return Math.toIntExact(written);
+    }
 
     @Transactional
     @Override
     public JogakResponseDto.CreateJogakDto createJogak(JogakRequestDto.CreateJogakDto createJogakDto) {
+        Jogak jogak = saveJogak(createJogakDto, new HashMap<>());
+        // 주기와 오늘이 일치하는 경우
+        if (jogak.isDueOn(createJogakDto.getToday())) {
+            createDailyJogakIfAbsent(jogak, createJogakDto.getToday());
+        }
+        calendarCache.evictFrom(jogak.getUser().getId(), createJogakDto.getToday());
+        return toCreateJogakResponseDto(jogak);
+    }
+
+    /**
+     * 조각 검증 + 저장 (데일리 조각은 만들지 않음)
+     * ongoingCounts: 모각 id별 진행중인 조각 수, 같은 요청 안에서 모각마다 한 번만 COUNT 하기 위해 넘겨받음
+     * */
+    private Jogak saveJogak(JogakRequestDto.CreateJogakDto createJogakDto, Map<Long, Long> ongoingCounts) {
         Mogak mogak = mogakRepository.findById(createJogakDto.getMogakId())
                 .orElseThrow(() -> new MogakException(ErrorCode.NOT_EXIST_MOGAK));
         // 조각 갯수 검증
-        if (!validateJogakNum(mogak)) {
+        long ongoing = ongoingCounts.computeIfAbsent(mogak.getId(),
+                mogakId -> jogakRepository.countOngoingJogaks(mogak, today(mogak.getUser())));
+        if (ongoing >= MAX_ONGOING_JOGAKS) {
             throw new BaseException(ErrorCode.EXCEED_MAX_JOGAK);
         }
-        Jogak jogak = jogakRepository.save(JogakConverter.toInitialJogak(mogak, createJogakDto.getTitle(), createJogakDto.getIsRoutine(), createJogakDto.getToday(), createJogakDto.getEndDate()));
-        validatePeriod(Optional.ofNullable(createJogakDto.getIsRoutine()), Optional.ofNullable(createJogakDto.getDays()));
-
-        // 루틴이 존재할 경우
+        validatePeriod(Optional.ofNullable(createJogakDto.getIsRoutine()), period(createJogakDto.getDays(), createJogakDto.getRecurrence()));
+        Recurrence recurrence = null;
+        // 루틴이 존재할 경우 반복주기 추출
         if (createJogakDto.getIsRoutine()) {
-            List<Period> periods = new ArrayList<>();
-            List<String> requestDays = createJogakDto.getDays();
-            if (requestDays == null) {
-                throw new BaseException(ErrorCode.NOT_EXIST_ROUTINES);
-            }
-            List<String> days = new ArrayList<>();
-            // 반복주기 추출
-            for (String day: requestDays) {
-                Period period = periodRepository.findOneByDays(day)
-                        .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_DAY));
-                periods.add(period);
-                // 주기와 오늘이 일치하는 경우
-                if (dateToNum(createJogakDto.getToday()) == period.getId()) {
-                    dailyJogakRepository.save(JogakConverter.toInitialDailyJogak(jogak));
-                }
-            }
-            // 다대다-조각주기 저장
-            for (Period period: periods) {
-                jogakPeriodRepository.save(
-                        JogakPeriod.builder()
-                                .period(period)
-                                .jogak(jogak)
-                                .build()
-                );
-                days.add(period.getDays());
-            }
-            return JogakConverter.toCreateJogakResponseDto(jogak, days);
+            recurrence = toRecurrence(createJogakDto.getDays(), createJogakDto.getRecurrence(), null);
         }
-        // 루틴이 없는 경우
-        return JogakConverter.toCreateJogakResponseDto(jogak);
+        Jogak jogak = jogakRepository.save(JogakConverter.toInitialJogak(mogak, createJogakDto.getTitle(), createJogakDto.getIsRoutine(), createJogakDto.getToday(), createJogakDto.getEndDate(), createJogakDto.getReminderTime(), recurrence));
+        ongoingCounts.put(mogak.getId(), ongoing + 1);
+        return jogak;
     }
 
-    // 모각의 조각 개수 검증
-    private boolean validateJogakNum(Mogak mogak) {
-        int nowJogakNum = 0;
-        // 현재 유효한 기간 및 종료 날짜가 없는 조각 개수 체크
-        for (Jogak jogak: mogak.getJogaks()) {
-            if (jogak.getEndAt() == null || jogak.getEndAt().isAfter(LocalDate.now()) ) {
-                nowJogakNum++;
-            }
+    private JogakResponseDto.CreateJogakDto toCreateJogakResponseDto(Jogak jogak) {
+        if (jogak.getIsRoutine()) {
+            return JogakConverter.toCreateJogakResponseDto(jogak, jogak.getPeriods());
         }
-        return nowJogakNum < 8;
+        // 루틴이 없는 경우
+        return JogakConverter.toCreateJogakResponseDto(jogak);
     }
 
     @Transactional
     @Override
     public JogakResponseDto.CreateJogakDto updateJogak(Long jogakId, JogakRequestDto.UpdateJogakDto updateJogakDto) {
+        Jogak jogak = modifyJogak(jogakId, updateJogakDto);
+        calendarCache.evictAll(jogak.getUser().getId());
+        return JogakConverter.toCreateJogakResponseDto(jogak);
+    }
+
+    private Jogak modifyJogak(Long jogakId, JogakRequestDto.UpdateJogakDto updateJogakDto) {
         Jogak jogak = jogakRepository.findById(jogakId)
                 .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
-        validatePeriod(Optional.ofNullable(updateJogakDto.getIsRoutine()), Optional.ofNullable(updateJogakDto.getDays()));
-        jogak.update(updateJogakDto.getTitle(), updateJogakDto.getIsRoutine(), updateJogakDto.getEndDate());
-
-        List<DailyJogak> dailyJogaks = dailyJogakRepository.findAllByJogak(jogak);
-
-        if (!dailyJogaks.isEmpty()) {
-            for (DailyJogak dailyJogak : dailyJogaks) {
-                dailyJogak.updateJogak(jogak);
-            }
+        validatePeriod(Optional.ofNullable(updateJogakDto.getIsRoutine()), period(updateJogakDto.getDays(), updateJogakDto.getRecurrence()));
+        String title = jogak.getTitle();
+        Boolean isRoutine = jogak.getIsRoutine();
+        jogak.update(updateJogakDto.getTitle(), updateJogakDto.getIsRoutine(), updateJogakDto.getEndDate(), updateJogakDto.getReminderTime());
+        // 데일리 조각에 복사된 값이 바뀐 경우만 일괄 UPDATE (데일리 조각 수와 무관하게 쿼리 한 번)
+        if (!Objects.equals(title, jogak.getTitle()) || !Objects.equals(isRoutine, jogak.getIsRoutine())) {
+            LocalDateTime now = LocalDateTime.now(clock.withZone(jogak.getUser().getZoneId()));
+            dailyJogakRepository.updateJogakFields(jogak.getId(), jogak.getTitle(), jogak.getIsRoutine(), now);
+            dailyJogakArchiveRepository.updateJogakFields(jogak.getId(), jogak.getTitle(), jogak.getIsRoutine(), now);
         }
 
-        if (updateJogakDto.getDays() != null) {
-            updateJogakPeriod(jogak, updateJogakDto.getDays());
+        if (updateJogakDto.getDays() != null || updateJogakDto.getRecurrence() != null) {
+            updateJogakPeriod(jogak, toRecurrence(updateJogakDto.getDays(), updateJogakDto.getRecurrence(), jogak.getWeekdays()));
         }
         if (updateJogakDto.getIsRoutine() != null && !updateJogakDto.getIsRoutine()) {
-            jogakPeriodRepository.deleteAllByJogakId(jogakId);
+            jogak.updateRecurrence(null);
+            jogakPauseRepository.deleteAllByJogakId(jogak.getId());
         }
+        return jogak;
+    }
 
-        return JogakConverter.toCreateJogakResponseDto(jogak);
+    // 요일 또는 반복 규칙 (루틴 주기 입력)
+    private static Optional<Object> period(List<String> days, JogakRequestDto.RecurrenceDto recurrence) {
+        return Optional.ofNullable(days != null ? days : recurrence);
     }
 
-    private void validatePeriod(Optional<Boolean> isRoutineOptional, Optional<List<String>> daysOptional) {
+    private void validatePeriod(Optional<Boolean> isRoutineOptional, Optional<Object> periodOptional) {
         isRoutineOptional.ifPresent(isRoutine -> {
-            if (isRoutine && daysOptional.isEmpty()) {
+            if (isRoutine && periodOptional.isEmpty()) {
                 throw new JogakException(ErrorCode.NOT_VALID_PERIOD);
             }
         });
-        daysOptional.ifPresent(days -> {
+        periodOptional.ifPresent(period -> {
             if (isRoutineOptional.isEmpty() || !isRoutineOptional.get()) {
                 throw new JogakException(ErrorCode.NOT_VALID_PERIOD);
             }
@@ -179,40 +202,53 @@ public class JogakServiceImpl implements JogakService {
     /**
      * 모각주기 업데이트 메소드
      * */
-    private void updateJogakPeriod(Jogak jogak, List<String> days) {
-        List<Period> periods = new ArrayList<>();
-        int todayNum = dateToNum(LocalDate.now());
+    private void updateJogakPeriod(Jogak jogak, Recurrence recurrence) {
+        // 오늘이 새로 반복일이 된 경우만 오늘 데일리 조각 생성 (원래 반복일이면 이미 생성됐거나 자정 배치/조회 시 생성됨)
+        LocalDate today = today(jogak.getUser());
+        if (jogak.changeRecurrence(recurrence, today)) {
+            createDailyJogakIfAbsent(jogak, today);
+        }
+    }
 
-        for (String day : days) {
-            Period period = periodRepository.findOneByDays(day)
-                    .orElseThrow(() -> new BaseException(ErrorCode.NOT_EXIST_DAY));
-            periods.add(period);
-
-            // 주기와 오늘이 일치하는 경우
-            if (todayNum == period.getId()) {
-                boolean isPeriodAlreadyAssigned = jogak.getJogakPeriods().stream()
-                        .anyMatch(jogakPeriod -> jogakPeriod.getPeriod().equals(period));
-
-                // 오늘 날짜에 해당하는 Period가 JogakPeriods에 존재하지 않는 경우에만 새로운 DailyJogak 저장
-                if (!isPeriodAlreadyAssigned) {
-                    dailyJogakRepository.save(JogakConverter.toInitialDailyJogak(jogak));
+    /**
+     * 루틴 반복 규칙 - recurrence가 없으면 days 요일마다 매주
+     * WEEKLY 규칙에 요일이 없으면 days, 그것도 없으면 currentWeekdays(수정 전 요일) 사용
+     * */
+    private Recurrence toRecurrence(List<String> days, JogakRequestDto.RecurrenceDto recurrenceDto, Integer currentWeekdays) {
+        if (recurrenceDto == null) {
+            return Recurrence.weekly(toWeekdays(days));
+        }
+        switch (recurrenceDto.getType()) {
+            case WEEKLY: {
+                List<String> weekDays = recurrenceDto.getDays() != null ? recurrenceDto.getDays() : days;
+                Integer weekdays = weekDays != null ? Integer.valueOf(toWeekdays(weekDays)) : currentWeekdays;
+                if (weekdays == null || weekdays == 0) {
+                    throw new BaseException(ErrorCode.NOT_EXIST_ROUTINES);
                 }
+                return Recurrence.of(RecurrenceType.WEEKLY, recurrenceDto.getInterval(), weekdays, null);
             }
+            case MONTHLY:
+                if (recurrenceDto.getMonthDays() == null || recurrenceDto.getMonthDays().isEmpty()) {
+                    throw new BaseException(ErrorCode.NOT_EXIST_ROUTINES);
+                }
+                return Recurrence.of(RecurrenceType.MONTHLY, recurrenceDto.getInterval(), null,
+                        Recurrence.toMonthDayMask(recurrenceDto.getMonthDays()));
+            default:
+                return Recurrence.of(RecurrenceType.DAILY, recurrenceDto.getInterval(), null, null);
         }
+    }
 
-        List<JogakPeriod> mogakPeriods = jogakPeriodRepository.findAllByJogak_Id(jogak.getId());
-        int periodSize = periods.size();
-        int mpSize = mogakPeriods.size();
-
-        IntStream.range(0, Math.min(mpSize, periodSize))
-                .forEach(i -> mogakPeriods.get(i).updatePeriod(periods.get(i)));
-        if (mpSize > periodSize) {
-            IntStream.range(periodSize, mpSize)
-                    .forEach(i -> jogakPeriodRepository.delete(mogakPeriods.get(i)));
-        } else {
-            IntStream.range(mpSize, periodSize)
-                    .forEach(i -> jogakPeriodRepository.save(JogakPeriodConverter.toJogakPeriod(periods.get(i), jogak)));
+    // 요일 이름(MONDAY ...) 목록을 요일 비트마스크로 변환
+    private int toWeekdays(List<String> days) {
+        List<DayOfWeek> dayOfWeeks = new ArrayList<>();
+        for (String day : days) {
+            try {
+                dayOfWeeks.add(DayOfWeek.valueOf(day));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new JogakException(ErrorCode.NOT_EXIST_DAY);
+            }
         }
+        return Weekdays.of(dayOfWeeks);
     }
 
     @Override
@@ -220,12 +256,8 @@ public class JogakServiceImpl implements JogakService {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserException(ErrorCode.NOT_EXIST_USER));
-        List<Jogak> jogakList = mogakRepository.findAllByUser(user).stream()
-                .flatMap(mogak -> mogak.getJogaks().stream()
-                        .filter(jogak -> !jogak.getIsRoutine()))
-                .collect(Collectors.toList());
-        List<DailyJogak> dailyJogak = dailyJogakRepository.findDailyJogaks(user, day.atStartOfDay(), day.atStartOfDay().plusDays(1));
-        return JogakConverter.toGetOneTimeJogakListResponseDto(jogakList, dailyJogak);
+        routineJogakMaterializer.materializeIfToday(user, day);
+        return JogakConverter.toGetOneTimeJogakListResponseDto(jogakQueryRepository.findOneTimeJogaks(user.getId(), day));
     }
 
     @Override
@@ -233,18 +265,28 @@ public class JogakServiceImpl implements JogakService {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserException(ErrorCode.NOT_EXIST_USER));
-        if (day.isAfter(LocalDate.now())) {
-            // 미래 루틴 조각 가져오기
-            List<Jogak> userRoutineJogaks = jogakRepository.findDailyRoutineJogaks(user, dateToNum(day));
-            return JogakConverter.toGetDailyJogakListResponseDto(
-                    userRoutineJogaks.stream()
-                            // 여기서 npe 발생
-                            .filter(jogak -> jogak.getEndAt().isAfter(day))
-                            .map(JogakConverter::toDailyJogakResponseDto)
-                            .collect(Collectors.toList()));
+        routineJogakMaterializer.materializeIfToday(user, day);
+        LocalDate today = today(user);
+        return calendarCache.getDay(user.getId(), day, today, () -> {
+            if (day.isAfter(today)) {
+                // 미래 루틴 조각 가져오기
+                return JogakConverter.toGetDailyJogakListResponseDto(getFutureDailyJogaks(user.getId(), day));
+            }
+            return JogakConverter.toGetDailyJogakListResponseDto(jogakQueryRepository.findDailyJogaks(user.getId(), day));
+        });
+    }
+
+    // 미래 day의 매주 반복 루틴 조각 + 컴파일한 일정으로 거른 규칙 루틴 조각 (조각 id 순)
+    private List<JogakResponseDto.GetDailyJogakDto> getFutureDailyJogaks(Long userId, LocalDate day) {
+        List<JogakResponseDto.GetDailyJogakDto> dailyJogaks = jogakQueryRepository.findFutureDailyJogaks(userId, Weekdays.masksOn(day), day);
+        List<Long> dueJogakIds = RecurringJogak.dueOn(jogakRepository.findRecurringJogaksByUser(userId, day), day);
+        if (dueJogakIds.isEmpty()) {
+            return dailyJogaks;
         }
-        return JogakConverter.toGetDailyJogakListResponseDto(dailyJogakRepository.findDailyJogaks(
-                user, day.atStartOfDay(), day.atStartOfDay().plusDays(1)));
+        List<JogakResponseDto.GetDailyJogakDto> merged = new ArrayList<>(dailyJogaks);
+        merged.addAll(jogakQueryRepository.findFutureDailyJogaksByIds(dueJogakIds));
+        merged.sort(Comparator.comparing(JogakResponseDto.GetDailyJogakDto::getJogakId));
+        return merged;
     }
 
     /**
@@ -256,166 +298,305 @@ public class JogakServiceImpl implements JogakService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserException(ErrorCode.NOT_EXIST_USER));
         Long userId = user.getId();
-        List<LocalDate> pastDates = getPastDates(startDate, endDate);
-        List<LocalDate> futureDates = getFutureDates(startDate, endDate);
+        LocalDate today = today(user);
         List<JogakResponseDto.GetRoutineJogakDto> routineJogaks = new ArrayList<>();
 
-        // 오늘 + 이전 가져오기
-        if (!pastDates.isEmpty()) {
-            List<DailyJogak> pastJogaks = dailyJogakRepository.findByDateRange(startDate.atStartOfDay(), endDate.atStartOfDay());
-            routineJogaks.addAll(pastJogaks.stream()
-                    .map(DailyJogak::getRoutineJogakDto)
-                    .collect(Collectors.toList()));
-        }
-
-        // 미래 가져오기
-        if (!futureDates.isEmpty()) {
-            Map<Integer, List<Jogak>> dailyRoutineJogaks = new HashMap<>();
-            // 월~금 루틴 조각 가져오기
-            List<Jogak> userRoutineJogaks = jogakRepository.findAllRoutineJogaksByUser(userId);
-            IntStream.rangeClosed(1, 7).forEach(i -> {
-                List<Jogak> matchingJogaks = userRoutineJogaks.stream()
-                        .filter(jogak -> jogak.getJogakPeriods().stream()
-                                .anyMatch(jogakPeriod -> {
-                                    Period period = jogakPeriod.getPeriod();
-                                    return i == period.getId();
-                                }))
-                        .collect(Collectors.toList());
-                dailyRoutineJogaks.put(i, matchingJogaks);
-                log.debug("루틴 day: " + i + " " + dailyRoutineJogaks.get(i));
-            });
-            // 요일 값 대입
-            for (LocalDate date: futureDates) {
-                dailyRoutineJogaks.get(dateToNum(date))
-                        .forEach(i -> {
-                            log.debug(i.getEndAt() + " , " + date);
-                            // 기간에 해당하지 않는 조각은 가져오지 않는 로직
-                            if (i.getEndAt().isAfter(date)) {
-                                routineJogaks.add(DailyJogak.getFutureRoutineJogakDto(date, i.getTitle()));
-                            }
-                        });
+        // 유저/월 캐시에서 한 달씩 가져와서 [startDate, endDate) 날짜만 담음
+        for (YearMonth month = YearMonth.from(startDate); month.atDay(1).isBefore(endDate); month = month.plusMonths(1)) {
+            YearMonth target = month;
+            for (JogakResponseDto.GetRoutineJogakDto routineJogak
+                    : calendarCache.getRoutines(userId, target, today, () -> getMonthRoutineJogaks(userId, target, today))) {
+                if (!routineJogak.getDate().isBefore(startDate) && routineJogak.getDate().isBefore(endDate)) {
+                    routineJogaks.add(routineJogak);
+                }
             }
         }
         return routineJogaks;
     }
 
-    private List<LocalDate> getPastDates(LocalDate startDate, LocalDate endDate) {
-        LocalDate today = LocalDate.now();
-        List<LocalDate> pastDates = new ArrayList<>();
-        for (LocalDate date = startDate; date.isBefore(endDate); date = date.plusDays(1)) {
-            if (date.isBefore(today)) {
-                pastDates.add(date);
-            }
+    // 한 달의 루틴 캘린더 (오늘까지는 데일리 조각, 내일부터는 진행중인 루틴 조각을 펼쳐서)
+    private List<JogakResponseDto.GetRoutineJogakDto> getMonthRoutineJogaks(Long userId, YearMonth month, LocalDate today) {
+        LocalDate monthStart = month.atDay(1);
+        LocalDate monthEnd = month.plusMonths(1).atDay(1);
+        List<JogakResponseDto.GetRoutineJogakDto> routineJogaks = new ArrayList<>();
+
+        // 오늘 + 이전 가져오기
+        if (!monthStart.isAfter(today)) {
+            routineJogaks.addAll(dailyJogakRepository.findRoutineCalendar(userId, monthStart, monthEnd));
         }
-        return pastDates;
-    }
 
-    private List<LocalDate> getFutureDates(LocalDate startDate, LocalDate endDate) {
-        LocalDate today = LocalDate.now();
-        List<LocalDate> futureDates = new ArrayList<>();
-        for (LocalDate date = startDate; date.isBefore(endDate); date = date.plusDays(1)) {
-            if (date.isAfter(today)) {
-                futureDates.add(date);
-            }
+        // 미래 가져오기
+        LocalDate futureStart = monthStart.isAfter(today) ? monthStart : today.plusDays(1);
+        if (futureStart.isBefore(monthEnd)) {
+            List<Jogak> userRoutineJogaks = jogakRepository.findOngoingRoutineJogaksByUser(userId, futureStart);
+            // 이번 달과 겹치는 쉬는 기간만 한 번에 읽어서 펼칠 때 뺌
+            List<JogakPause> pauses = userRoutineJogaks.isEmpty() ? List.of()
+                    : jogakPauseRepository.findOverlapping(userRoutineJogaks.stream().map(Jogak::getId).collect(Collectors.toList()), futureStart, monthEnd);
+            RoutineProjection.of(userRoutineJogaks, pauses).expandInto(futureStart, monthEnd, routineJogaks);
         }
-        return futureDates;
+        return routineJogaks;
     }
 
     @Transactional
     @Override
     public JogakResponseDto.JogakDailyJogakDto startJogak(Long jogakId) {
-        Jogak jogak = jogakRepository.findById(jogakId)
+        // 두 번 눌러도 두 번째 요청은 첫 요청이 커밋한 데일리 조각을 보고 ALREADY_START_JOGAK
+        Jogak jogak = jogakRepository.findByIdForUpdate(jogakId)
                 .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
-        if (jogak.getIsRoutine() ||
-                dailyJogakRepository.findByCreatedAtBetweenAndId(
-                        LocalDate.now().atStartOfDay(),
-                        LocalDate.now().atStartOfDay().plusDays(1),
-                        jogak).isPresent()) {
+        LocalDate today = today(jogak.getUser());
+        if (jogak.getIsRoutine() || !createDailyJogakIfAbsent(jogak, today)) {
             throw new JogakException(ErrorCode.ALREADY_START_JOGAK);
         }
-        DailyJogak dailyJogak = dailyJogakRepository.save(JogakConverter.toInitialDailyJogak(jogak));
-        return JogakConverter.toJogakDailyJogakDto(jogak, dailyJogak);
+        DailyJogakAchievementDto dailyJogak = dailyJogakRepository.findAchievement(jogakId, today)
+                .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
+        calendarCache.evictMonth(jogak.getUser().getId(), today);
+        return JogakConverter.toJogakDailyJogakDto(dailyJogak);
     }
 
     @Transactional
     @Override
     public JogakResponseDto.JogakDailyJogakDto successJogak(Long dailyJogakId) {
-        DailyJogak dailyJogak = dailyJogakRepository.findById(dailyJogakId)
-                .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
-        Jogak jogak = jogakRepository.findByDailyJogak(dailyJogak)
-                .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
-        if (dailyJogak.getIsAchievement()) {
-            throw new BaseException(ErrorCode.ALREADY_END_JOGAK);
-        }
-
-        updateAchievement(true, jogak, dailyJogak);
-
-        return JogakConverter.toJogakDailyJogakDto(dailyJogak.getJogak(), dailyJogak);
+        DailyJogakAchievementDto result = updateAchievement(dailyJogakId, true, ErrorCode.ALREADY_END_JOGAK);
+        calendarCache.evictMonth(result.getUserId(), result.getTargetDate());
+        return JogakConverter.toJogakDailyJogakDto(result);
     }
 
     @Transactional
     @Override
     public JogakResponseDto.JogakDailyJogakDto failJogak(Long dailyJogakId) {
-        DailyJogak dailyJogak = dailyJogakRepository.findById(dailyJogakId)
-                .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
-        Jogak jogak = jogakRepository.findByDailyJogak(dailyJogak)
+        DailyJogakAchievementDto result = updateAchievement(dailyJogakId, false, ErrorCode.NOT_SUCCESS_DAILY_JOGAK);
+        calendarCache.evictMonth(result.getUserId(), result.getTargetDate());
+        return JogakConverter.toJogakDailyJogakDto(result);
+    }
+
+    /**
+     * 데일리 조각 달성 여부 변경 + 조각 달성 횟수 증감 + 조각/모각/모다라트 달성 통계 갱신
+     * 이미 achievement 상태면 alreadyError
+     * */
+    private DailyJogakAchievementDto updateAchievement(Long dailyJogakId, boolean achievement, ErrorCode alreadyError) {
+        if (!achievementCounter.toggle(dailyJogakId, achievement)) {
+            if (!dailyJogakRepository.existsById(dailyJogakId) && !dailyJogakArchiveRepository.existsById(dailyJogakId)) {
+                throw new JogakException(ErrorCode.NOT_EXIST_JOGAK);
+            }
+            throw new BaseException(alreadyError);
+        }
+        DailyJogakAchievementDto result = dailyJogakRepository.findAchievement(dailyJogakId)
                 .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
-        if (!dailyJogak.getIsAchievement()) {
-            throw new BaseException(ErrorCode.NOT_SUCCESS_DAILY_JOGAK);
+        if (achievement) {
+            achievementStatRecorder.onAchieved(result.getTargetDate(), result.getJogakId(), result.getMogakId(), result.getModaratId());
+        } else {
+            achievementStatRecorder.onCancelled(result.getTargetDate(), result.getJogakId(), result.getMogakId(), result.getModaratId());
         }
-
-        updateAchievement(false, jogak, dailyJogak);
-        
-        return JogakConverter.toJogakDailyJogakDto(dailyJogak.getJogak(), dailyJogak);
+        return result;
     }
 
-    private void updateAchievement(boolean achievement, Jogak jogak, DailyJogak dailyJogak) {
-        dailyJogak.updateAchievement(achievement);
+    @Override
+    public JogakResponseDto.DetailJogakDto getJogakDetail(Long jogakId) {
+        return jogakQueryRepository.findJogakDetail(jogakId)
+                .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
+    }
 
-        // 조각 성공
-        if (achievement) {
-            jogak.increaseAchievements();
-            return;
+    /**
+     * 루틴 조각 쉬는 기간 추가 (endDate가 없으면 startDate 하루만 건너뜀)
+     * 겹치거나 맞닿은 기존 기간과 하나로 합침, 이미 생성된 데일리 조각은 지우지 않음
+     * */
+    @Transactional
+    @Override
+    public JogakResponseDto.JogakPauseListDto pauseJogak(Long jogakId, JogakRequestDto.PauseJogakDto pauseJogakDto) {
+        Jogak jogak = findRoutineJogak(jogakId);
+        LocalDate startAt = pauseJogakDto.getStartDate();
+        LocalDate endAt = pauseEnd(startAt, pauseJogakDto.getEndDate());
+        List<JogakPause> touching = jogakPauseRepository.findTouching(jogakId, startAt, endAt);
+        if (touching.isEmpty()) {
+            jogakPauseRepository.save(JogakConverter.toJogakPause(jogak, startAt, endAt));
+        } else {
+            JogakPause merged = touching.get(0);
+            LocalDate lastEndAt = touching.get(touching.size() - 1).getEndAt();
+            merged.updatePeriod(startAt.isBefore(merged.getStartAt()) ? startAt : merged.getStartAt(),
+                    endAt.isAfter(lastEndAt) ? endAt : lastEndAt);
+            jogakPauseRepository.deleteAllInBatch(touching.subList(1, touching.size()));
         }
+        calendarCache.evictAll(jogak.getUser().getId());
+        return getJogakPauses(jogakId);
+    }
 
-        // 조각 실패
-        jogak.decreaseAchievements();
+    /**
+     * 쉬는 기간에서 [startDate, endDate] 빼기 (기간 가운데를 빼면 앞뒤 두 기간으로 나눔)
+     * 오늘 다시 반복하게 되면 오늘 데일리 조각 생성
+     * */
+    @Transactional
+    @Override
+    public JogakResponseDto.JogakPauseListDto resumeJogak(Long jogakId, LocalDate startDate, LocalDate endDate) {
+        Jogak jogak = findRoutineJogak(jogakId);
+        LocalDate endAt = pauseEnd(startDate, endDate);
+        for (JogakPause pause : jogakPauseRepository.findTouching(jogakId, startDate, endAt)) {
+            boolean keepsHead = pause.getStartAt().isBefore(startDate);
+            boolean keepsTail = pause.getEndAt().isAfter(endAt);
+            if (keepsHead && keepsTail) {
+                jogakPauseRepository.save(JogakConverter.toJogakPause(jogak, endAt, pause.getEndAt()));
+                pause.updatePeriod(pause.getStartAt(), startDate);
+            } else if (keepsHead) {
+                pause.updatePeriod(pause.getStartAt(), startDate);
+            } else if (keepsTail) {
+                pause.updatePeriod(endAt, pause.getEndAt());
+            } else {
+                jogakPauseRepository.delete(pause);
+            }
+        }
+        LocalDate today = today(jogak.getUser());
+        if (!today.isBefore(startDate) && today.isBefore(endAt) && jogak.isDueOn(today)) {
+            // 데일리 조각 INSERT가 바뀐 쉬는 기간을 보도록 먼저 반영
+            jogakPauseRepository.flush();
+            createDailyJogakIfAbsent(jogak, today);
+        }
+        calendarCache.evictAll(jogak.getUser().getId());
+        return getJogakPauses(jogakId);
     }
 
     @Override
-    public JogakResponseDto.DetailJogakDto getJogakDetail(Long jogakId) {
+    public JogakResponseDto.JogakPauseListDto getJogakPauses(Long jogakId) {
+        return JogakConverter.toJogakPauseListDto(jogakId, jogakPauseRepository.findAllByJogakIdOrderByStartAt(jogakId));
+    }
+
+    private Jogak findRoutineJogak(Long jogakId) {
         Jogak jogak = jogakRepository.findById(jogakId)
                 .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
-        Mogak mogak = mogakRepository.findByJogak(jogak)
-                .orElseThrow(() -> new BaseException(ErrorCode.NOT_EXIST_MOGAK));
+        if (!jogak.getIsRoutine()) {
+            throw new JogakException(ErrorCode.NOT_VALID_DAILY_JOGAK);
+        }
+        return jogak;
+    }
 
-        if (jogak.getIsRoutine()) {
-            List<String> periods = periodRepository.findPeriodsByJogak(jogak).stream()
-                    .map(Period::getDays)
-                    .collect(Collectors.toList());
-            return JogakConverter.toGetJogakDetailResponseDto(jogak, mogak.getColor(), periods);
+    // 마지막으로 쉬는 날짜(포함) -> 다시 반복하는 날짜, 없으면 하루만
+    private static LocalDate pauseEnd(LocalDate startDate, LocalDate endDate) {
+        if (endDate == null) {
+            return startDate.plusDays(1);
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new JogakException(ErrorCode.INVERSE_START_END);
         }
-        return JogakConverter.toGetJogakDetailResponseDto(jogak, mogak.getColor());
+        return endDate.plusDays(1);
     }
 
     @Transactional
     @Override
     public void deleteJogak(Long jogakId) {
+        Jogak jogak = removeJogak(jogakId);
+        calendarCache.evictAll(jogak.getUser().getId());
+    }
+
+    private Jogak removeJogak(Long jogakId) {
         Jogak jogak = jogakRepository.findById(jogakId)
                 .orElseThrow(() -> new JogakException(ErrorCode.NOT_EXIST_JOGAK));
         jogakPeriodRepository.deleteAllByJogakId(jogakId);
+        jogakPauseRepository.deleteAllByJogakId(jogakId);
         dailyJogakRepository.deleteAllByJogak(jogak);
+        dailyJogakArchiveRepository.deleteAllByJogakId(jogakId);
         jogakRepository.deleteById(jogakId);
+        Modarat modarat = jogak.getMogak().getModarat();
+        achievementStatRecorder.onJogakDeleted(jogakId, jogak.getMogak().getId(), modarat == null ? null : modarat.getId());
+        return jogak;
+    }
+
+    /**
+     * 여러 조각 작업을 순서대로 한 트랜잭션에서 실행 (하나라도 실패하면 전체 롤백)
+     * 모각 조회와 진행중인 조각 수는 요청 안에서 한 번만 읽고, 생성한 조각의 오늘 데일리 조각은 마지막에 몰아서 만들어
+     * 조각 INSERT가 중간 flush 없이 JDBC 배치로 나가고 달성 통계도 유저/날짜별로 한 번만 집계
+     * 새로 만든 조각은 응답을 받기 전까지 id를 모르므로 같은 요청의 다른 작업이 참조할 수 없어 뒤로 미뤄도 결과가 같음
+     * */
+    @Transactional
+    @Override
+    public JogakResponseDto.BatchJogakDto batchJogaks(JogakRequestDto.BatchJogakDto batchJogakDto) {
+        Map<Long, Long> ongoingCounts = new HashMap<>();
+        Map<Jogak, LocalDate> dueJogaks = new LinkedHashMap<>();
+        Set<Long> userIds = new HashSet<>();
+        List<JogakResponseDto.JogakOperationResultDto> results = new ArrayList<>();
+        List<JogakRequestDto.JogakOperationDto> operations = batchJogakDto.getOperations();
+        for (int i = 0; i < operations.size(); i++) {
+            JogakRequestDto.JogakOperationDto operation = operations.get(i);
+            Object result = runOperation(operation, ongoingCounts, dueJogaks, userIds);
+            results.add(JogakConverter.toJogakOperationResultDto(i, operation.getType(), result));
+        }
+        Map<LocalDate, Set<Long>> generated = new TreeMap<>();
+        dueJogaks.forEach((jogak, day) -> {
+            if (insertDailyJogakIfAbsent(jogak, day)) {
+                generated.computeIfAbsent(day, d -> new TreeSet<>()).add(jogak.getUser().getId());
+            }
+        });
+        generated.forEach((day, generatedUserIds) -> generatedUserIds
+                .forEach(userId -> achievementStatRecorder.onGenerated(day, userId, userId)));
+        userIds.forEach(calendarCache::evictAll);
+        return JogakConverter.toBatchJogakResponseDto(results);
+    }
+
+    private Object runOperation(JogakRequestDto.JogakOperationDto operation, Map<Long, Long> ongoingCounts,
+                                Map<Jogak, LocalDate> dueJogaks, Set<Long> userIds) {
+        switch (operation.getType()) {
+            case CREATE: {
+                JogakRequestDto.CreateJogakDto createJogakDto = require(operation.getCreate());
+                Jogak jogak = saveJogak(createJogakDto, ongoingCounts);
+                if (jogak.isDueOn(createJogakDto.getToday())) {
+                    dueJogaks.put(jogak, createJogakDto.getToday());
+                }
+                userIds.add(jogak.getUser().getId());
+                return toCreateJogakResponseDto(jogak);
+            }
+            case UPDATE: {
+                Jogak jogak = modifyJogak(require(operation.getJogakId()), require(operation.getUpdate()));
+                // 종료일이 바뀌면 진행중인 조각 수도 바뀌므로 다음 생성 때 다시 셈
+                ongoingCounts.clear();
+                userIds.add(jogak.getUser().getId());
+                return JogakConverter.toCreateJogakResponseDto(jogak);
+            }
+            case SUCCESS:
+            case FAIL: {
+                boolean achievement = operation.getType() == JogakRequestDto.OperationType.SUCCESS;
+                DailyJogakAchievementDto result = updateAchievement(require(operation.getDailyJogakId()), achievement,
+                        achievement ? ErrorCode.ALREADY_END_JOGAK : ErrorCode.NOT_SUCCESS_DAILY_JOGAK);
+                userIds.add(result.getUserId());
+                return JogakConverter.toJogakDailyJogakDto(result);
+            }
+            case DELETE: {
+                Jogak jogak = removeJogak(require(operation.getJogakId()));
+                ongoingCounts.clear();
+                userIds.add(jogak.getUser().getId());
+                return null;
+            }
+            default:
+                throw new BaseException(ErrorCode.INVALID_PARAMETER_ERROR);
+        }
     }
 
-    private int getTodayNum(LocalDateTime now) {
-        LocalDate today = now.toLocalDate();
-        DayOfWeek dayOfWeek = today.getDayOfWeek();
-        return dayOfWeek.getValue();
+    // 작업 종류에 필요한 값이 빠진 경우
+    private static <T> T require(T value) {
+        if (value == null) {
+            throw new BaseException(ErrorCode.INVALID_PARAMETER_ERROR);
+        }
+        return value;
+    }
+
+    // 유저 타임존 기준 오늘 날짜
+    private LocalDate today(User user) {
+        return LocalDate.now(clock.withZone(user.getZoneId()));
+    }
+
+    /**
+     * 해당 날짜의 데일리 조각이 없을 때만 생성
+     * return True -> 생성, False -> 이미 존재
+     * */
+    private boolean createDailyJogakIfAbsent(Jogak jogak, LocalDate targetDate) {
+        if (!insertDailyJogakIfAbsent(jogak, targetDate)) {
+            return false;
+        }
+        Modarat modarat = jogak.getMogak().getModarat();
+        achievementStatRecorder.onJogakGenerated(targetDate, jogak.getUser().getId(), jogak.getId(),
+                jogak.getMogak().getId(), modarat == null ? null : modarat.getId());
+        return true;
     }
 
-    private int dateToNum(LocalDate date) {
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        return dayOfWeek.getValue();
+    // 데일리 조각만 생성 (달성 통계는 호출한 쪽에서 집계)
+    private boolean insertDailyJogakIfAbsent(Jogak jogak, LocalDate targetDate) {
+        LocalDateTime now = LocalDateTime.now(clock.withZone(jogak.getUser().getZoneId()));
+        return dailyJogakRepository.insertDailyJogakIfAbsent(jogak.getId(), targetDate, now) > 0;
     }
 }
@@ -3,6 +3,7 @@ package com.mogak.spring.service;
 import com.mogak.spring.converter.ModaratConverter;
 import com.mogak.spring.domain.modarat.Modarat;
 import com.mogak.spring.domain.mogak.Mogak;
+import com.mogak.spring.domain.stat.StatScope;
 import com.mogak.spring.domain.user.User;
 import com.mogak.spring.exception.BaseException;
 import com.mogak.spring.exception.UserException;
@@ -30,6 +31,7 @@ public class ModaratServiceImpl implements ModaratService {
     private final ModaratRepository modaratRepository;
     private final MogakRepository mogakRepository;
     private final MogakService mogakService;
+    private final AchievementStatRecorder achievementStatRecorder;
 
     @Transactional
     @Override
@@ -47,6 +49,7 @@ public class ModaratServiceImpl implements ModaratService {
         List<Mogak> mogaks = mogakRepository.findAllByModaratId(modaratId);
         mogaks.forEach(mogak -> mogakService.deleteMogak(mogak.getId()));
         modaratRepository.delete(modarat);
+        achievementStatRecorder.onDeleted(StatScope.MODARAT, modaratId);
     }
 
     @Transactional
@@ -1,12 +1,12 @@
 package com.mogak.spring.service;
 
-import com.mogak.spring.converter.JogakConverter;
+import com.mogak.spring.cache.CalendarCache;
 import com.mogak.spring.converter.MogakConverter;
-import com.mogak.spring.domain.jogak.DailyJogak;
 import com.mogak.spring.domain.jogak.Jogak;
 import com.mogak.spring.domain.modarat.Modarat;
 import com.mogak.spring.domain.mogak.Mogak;
 import com.mogak.spring.domain.mogak.MogakCategory;
+import com.mogak.spring.domain.stat.StatScope;
 import com.mogak.spring.domain.user.User;
 import com.mogak.spring.exception.BaseException;
 import com.mogak.spring.exception.MogakException;
@@ -21,10 +21,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -35,11 +35,16 @@ public class MogakServiceImpl implements MogakService {
     private final MogakRepository mogakRepository;
     private final MogakCategoryRepository categoryRepository;
     private final JogakRepository jogakRepository;
+    private final JogakQueryRepository jogakQueryRepository;
     private final JogakService jogakService;
     private final DailyJogakRepository dailyJogakRepository;
     private final PostRepository postRepository;
     private final PostImgRepository postImgRepository;
     private final PostCommentRepository postCommentRepository;
+    private final RoutineJogakMaterializer routineJogakMaterializer;
+    private final AchievementStatRecorder achievementStatRecorder;
+    private final CalendarCache calendarCache;
+    private final Clock clock;
 
     /**
      * 모각 생성
@@ -146,6 +151,8 @@ public class MogakServiceImpl implements MogakService {
             jogakList.forEach(jogak -> jogak.updateCategory(category));
         });
         mogak.update(request.getTitle(), request.getSmallCategory(), request.getColor());
+        // 날짜별 데일리 조각 응답에 모각 제목이 들어있음
+        calendarCache.evictAll(mogak.getUser().getId());
         return MogakConverter.toGetMogakDto(mogak);
     }
 
@@ -227,23 +234,21 @@ public class MogakServiceImpl implements MogakService {
 //            postRepository.deleteAllByMogak(mogak);
 //        }
         mogakRepository.deleteById(mogakId);
+        achievementStatRecorder.onDeleted(StatScope.MOGAK, mogakId);
+        // 지난 데일리 조각까지 함께 지워짐
+        calendarCache.evictAll(mogak.getUser().getId());
     }
 
     @Override
     public List<JogakResponseDto.GetJogakDto> getJogaks(Long mogakId, LocalDate day) {
         User user = userRepository.findByEmail(SecurityContextHolder.getContext().getAuthentication().getName())
                 .orElseThrow(() -> new UserException(ErrorCode.NOT_EXIST_USER));
-        Mogak mogak = mogakRepository.findById(mogakId)
-                .orElseThrow(() -> new BaseException(ErrorCode.NOT_EXIST_MOGAK));
-        List<DailyJogak> dailyJogak = dailyJogakRepository.findDailyJogaks(user, day.atStartOfDay(), day.atStartOfDay().plusDays(1));
-        return mogak.getJogaks().stream()
-                .filter(jogak -> jogak.getEndAt() == null || jogak.getEndAt().isAfter(day.minusDays(1)))
-                .map(jogak -> JogakConverter.toGetJogakResponseDto(jogak, findCorrespondingDailyJogak(jogak, dailyJogak)))
-                .collect(Collectors.toList());
-    }
-
-    private static Boolean findCorrespondingDailyJogak(Jogak jogak, List<DailyJogak> dailyJogaks) {
-        return dailyJogaks.stream()
-                .anyMatch(dailyJogak -> dailyJogak.getJogak().equals(jogak));
+        if (!mogakRepository.existsById(mogakId)) {
+            throw new BaseException(ErrorCode.NOT_EXIST_MOGAK);
+        }
+        routineJogakMaterializer.materializeIfToday(user, day);
+        // 지난 날짜는 이미 판정이 끝난 조각도 보여줌
+        boolean includeJudged = day.isBefore(LocalDate.now(clock.withZone(user.getZoneId())));
+        return jogakQueryRepository.findJogaksByMogak(mogakId, day, includeJudged);
     }
 }
@@ -0,0 +1,97 @@
+package com.mogak.spring.service;
+
+import com.mogak.spring.cache.CalendarCache;
+import com.mogak.spring.domain.jogak.RoutineGenerationMode;
+import com.mogak.spring.domain.jogak.Weekdays;
+import com.mogak.spring.domain.user.User;
+import com.mogak.spring.redis.RedisService;
+import com.mogak.spring.repository.DailyJogakRepository;
+import com.mogak.spring.repository.JogakRepository;
+import com.mogak.spring.repository.query.RecurringJogak;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LAZY 모드에서 오늘의 루틴 데일리 조각을 조회 시점에 생성
+ * 조회 트랜잭션은 readOnly이므로 별도 트랜잭션에서 INSERT 한다
+ */
+@Slf4j
+@Component
+public class RoutineJogakMaterializer {
+
+    private static final String MATERIALIZED_PREFIX = "routine:materialized:";
+    private static final long MATERIALIZED_EXPIRY = TimeUnit.DAYS.toMillis(2);
+
+    private final DailyJogakRepository dailyJogakRepository;
+    private final JogakRepository jogakRepository;
+    private final RedisService redisService;
+    private final AchievementStatRecorder achievementStatRecorder;
+    private final CalendarCache calendarCache;
+    private final Clock clock;
+    private final RoutineGenerationMode generationMode;
+
+    public RoutineJogakMaterializer(DailyJogakRepository dailyJogakRepository,
+                                    JogakRepository jogakRepository,
+                                    RedisService redisService,
+                                    AchievementStatRecorder achievementStatRecorder,
+                                    CalendarCache calendarCache,
+                                    Clock clock,
+                                    @Value("${jogak.routine.generation-mode:NIGHTLY}") RoutineGenerationMode generationMode) {
+        this.dailyJogakRepository = dailyJogakRepository;
+        this.jogakRepository = jogakRepository;
+        this.redisService = redisService;
+        this.achievementStatRecorder = achievementStatRecorder;
+        this.calendarCache = calendarCache;
+        this.clock = clock;
+        this.generationMode = generationMode;
+    }
+
+    public boolean isLazyMode() {
+        return generationMode == RoutineGenerationMode.LAZY;
+    }
+
+    /**
+     * 조회 날짜가 유저의 오늘이면 아직 없는 루틴 데일리 조각 생성
+     * 유저/날짜별로 한 번만 INSERT 하도록 redis에 생성 여부 기록
+     * */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void materializeIfToday(User user, LocalDate day) {
+        if (!isLazyMode()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock.withZone(user.getZoneId()));
+        LocalDate today = now.toLocalDate();
+        if (!today.equals(day)) {
+            return;
+        }
+        String key = MATERIALIZED_PREFIX + user.getId() + ":" + today;
+        if (!redisService.setValuesIfAbsent(key, "1", MATERIALIZED_EXPIRY)) {
+            return;
+        }
+        try {
+            int created = dailyJogakRepository.insertRoutineDailyJogaksForUser(
+                    user.getId(), today, Weekdays.masksOn(today), now);
+            List<Long> dueJogakIds = RecurringJogak.dueOn(jogakRepository.findRecurringJogaksByUser(user.getId(), today), today);
+            if (!dueJogakIds.isEmpty()) {
+                created += dailyJogakRepository.insertDailyJogaksByIds(dueJogakIds, today, now);
+            }
+            log.debug("루틴 데일리 조각 지연 생성 - user: {}, {}건", user.getId(), created);
+            if (created > 0) {
+                achievementStatRecorder.onGenerated(today, user.getId(), user.getId());
+                calendarCache.evictMonth(user.getId(), today);
+            }
+        } catch (RuntimeException e) {
+            redisService.deleteValues(key);
+            throw e;
+        }
+    }
+}
@@ -16,6 +16,8 @@ public interface UserService {
     String getProfileImgName();
   
     void updateJob(UserRequestDto.UpdateJobDto jobDto);
+
+    void updateTimezone(UserRequestDto.UpdateTimezoneDto timezoneDto);
   
     User getUserByEmail(String email);
   
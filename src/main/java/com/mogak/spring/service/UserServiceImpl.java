@@ -1,5 +1,6 @@
 package com.mogak.spring.service;
 
+import com.mogak.spring.cache.CalendarCache;
 import com.mogak.spring.domain.user.Address;
 import com.mogak.spring.domain.user.Job;
 import com.mogak.spring.domain.user.User;
@@ -20,6 +21,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
 import java.util.Optional;
 
 import static com.mogak.spring.web.dto.userdto.UserRequestDto.*;
@@ -33,6 +36,7 @@ public class UserServiceImpl implements UserService {
     private final AddressRepository addressRepository;
     private final JwtTokenHandler jwtTokenHandler;
     private final JwtTokenProvider jwtTokenProvider;
+    private final CalendarCache calendarCache;
 
     @Transactional
     @Override
@@ -104,6 +108,21 @@ public class UserServiceImpl implements UserService {
         user.updateJob(job);
     }
 
+    @Transactional
+    @Override
+    public void updateTimezone(UpdateTimezoneDto timezoneDto) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserException(ErrorCode.NOT_EXIST_USER));
+        try {
+            user.updateTimezone(ZoneId.of(timezoneDto.getTimezone()).getId());
+        } catch (DateTimeException e) {
+            throw new UserException(ErrorCode.NOT_VALID_TIMEZONE);
+        }
+        // 캐시한 달력은 이전 타임존의 오늘을 기준으로 지난 날/앞으로의 루틴을 나눠서 계산됨
+        calendarCache.evictAll(user.getId());
+    }
+
 
     protected void verifyEmail(String email) {
         if (!Regex.EMAIL_REGEX.matchRegex(email, "EMAIL"))
@@ -1,11 +1,14 @@
 package com.mogak.spring.web.controller;
 
+import com.mogak.spring.domain.stat.StatScope;
 import com.mogak.spring.exception.ErrorResponse;
 import com.mogak.spring.global.BaseResponse;
 import com.mogak.spring.global.ErrorCode;
+import com.mogak.spring.service.AchievementStatService;
 import com.mogak.spring.service.JogakService;
 import com.mogak.spring.web.dto.jogakdto.JogakRequestDto;
 import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import com.mogak.spring.web.dto.statdto.StatResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,20 +20,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.springframework.format.annotation.DateTimeFormat.ISO;
 
 @Tag(name = "조각 API", description = "조각 API 명세서")
+@Validated
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/modarats/mogaks/jogaks")
 public class JogakController {
     private final JogakService jogakService;
+    private final AchievementStatService achievementStatService;
 
     @Operation(summary = "조각 생성", description = "조각을 생성합니다",
             security = @SecurityRequirement(name = "Bearer Authentication"),
@@ -58,6 +66,36 @@ public class JogakController {
         return ResponseEntity.ok(new BaseResponse<>(jogakService.getJogakDetail(jogakId)));
     }
 
+    @Operation(summary = "조각 달성 통계 조회", description = "조각의 달성률과 연속 달성 일수를 조회합니다",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            parameters = @Parameter(name = "jogakId", description = "조각 ID"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 조각",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            })
+    @GetMapping("/{jogakId}/stats")
+    public ResponseEntity<BaseResponse<StatResponseDto.GetStatDto>> getJogakStat(@PathVariable Long jogakId) {
+        return ResponseEntity.ok(new BaseResponse<>(achievementStatService.getStat(StatScope.JOGAK, jogakId)));
+    }
+
+    @Operation(summary = "조각 달성 히트맵 조회", description = "조각의 1년치 날짜별 생성/달성 여부를 조회합니다",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            parameters = @Parameter(name = "jogakId", description = "조각 ID"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "범위를 벗어난 연도",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 조각",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            })
+    @GetMapping("/{jogakId}/heatmap")
+    public ResponseEntity<BaseResponse<StatResponseDto.GetHeatmapDto>> getJogakHeatmap(
+            @PathVariable Long jogakId,
+            @Parameter(description = "조회할 연도", example = "2024") @RequestParam @Min(2000) @Max(9999) int year) {
+        return ResponseEntity.ok(new BaseResponse<>(achievementStatService.getJogakHeatmap(jogakId, year)));
+    }
+
 
     @Operation(summary = "일회성 조각 조회", description = "일회성 조각들을 조회하는 API",
             security = @SecurityRequirement(name = "Bearer Authentication"),
@@ -181,4 +219,67 @@ public class JogakController {
         return ResponseEntity.ok(new BaseResponse<>(ErrorCode.SUCCESS));
     }
 
+    @Operation(summary = "루틴 조각 쉬기", description = "루틴 조각을 [startDate, endDate] 동안 쉬거나 endDate 없이 startDate 하루만 건너뜁니다. 이미 생성된 데일리 조각은 그대로 둡니다",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            parameters = @Parameter(name = "jogakId", description = "조각 ID"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "합쳐진 쉬는 기간 목록 반환"),
+                    @ApiResponse(responseCode = "400", description = "루틴이 아닌 조각, 시작 날짜와 종료 날짜 역전",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 조각",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            })
+    @PostMapping("/{jogakId}/pauses")
+    public ResponseEntity<BaseResponse<JogakResponseDto.JogakPauseListDto>> pauseJogak(@PathVariable Long jogakId,
+                                                                                      @Valid @RequestBody JogakRequestDto.PauseJogakDto pauseJogakDto) {
+        return ResponseEntity.ok(new BaseResponse<>(jogakService.pauseJogak(jogakId, pauseJogakDto)));
+    }
+
+    @Operation(summary = "루틴 조각 다시 시작", description = "쉬는 기간에서 [startDate, endDate]를 빼고 다시 반복합니다",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            parameters = @Parameter(name = "jogakId", description = "조각 ID"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "남은 쉬는 기간 목록 반환"),
+                    @ApiResponse(responseCode = "400", description = "루틴이 아닌 조각, 시작 날짜와 종료 날짜 역전",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 조각",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            })
+    @DeleteMapping("/{jogakId}/pauses")
+    public ResponseEntity<BaseResponse<JogakResponseDto.JogakPauseListDto>> resumeJogak(
+            @PathVariable Long jogakId,
+            @Parameter(description = "다시 반복할 첫 날짜. format: YYYY-MM-DD", example = "2024-02-14")
+            @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate startDate,
+            @Parameter(description = "다시 반복할 마지막 날짜(선택, 없으면 하루). format: YYYY-MM-DD", example = "2024-02-20")
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(new BaseResponse<>(jogakService.resumeJogak(jogakId, startDate, endDate)));
+    }
+
+    @Operation(summary = "루틴 조각 쉬는 기간 조회", description = "루틴 조각의 쉬는 기간을 시작 날짜 순으로 조회합니다",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            parameters = @Parameter(name = "jogakId", description = "조각 ID"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+            })
+    @GetMapping("/{jogakId}/pauses")
+    public ResponseEntity<BaseResponse<JogakResponseDto.JogakPauseListDto>> getJogakPauses(@PathVariable Long jogakId) {
+        return ResponseEntity.ok(new BaseResponse<>(jogakService.getJogakPauses(jogakId)));
+    }
+
+    @Operation(summary = "조각 일괄 처리", description = "조각 생성/수정/성공/실패/삭제 작업 목록을 순서대로 한 번에 처리합니다. 하나라도 실패하면 전체가 취소되고 실패한 작업의 에러를 반환합니다",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "작업 순서대로 처리 결과 반환"),
+                    @ApiResponse(responseCode = "400", description = "작업에 필요한 입력값 누락, 진행중인 조각 수 초과",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 모각, 존재하지 않는 조각",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "이미 종료한 조각, 성공하지 않은 데일리 조각",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            })
+    @PostMapping("/batch")
+    public ResponseEntity<BaseResponse<JogakResponseDto.BatchJogakDto>> batchJogaks(@Valid @RequestBody JogakRequestDto.BatchJogakDto batchJogakDto) {
+        return ResponseEntity.ok(new BaseResponse<>(jogakService.batchJogaks(batchJogakDto)));
+    }
+
 }
@@ -2,13 +2,17 @@ package com.mogak.spring.web.controller;
 
 import com.mogak.spring.converter.ModaratConverter;
 import com.mogak.spring.domain.modarat.Modarat;
+import com.mogak.spring.domain.stat.StatScope;
 import com.mogak.spring.exception.ErrorResponse;
 import com.mogak.spring.global.BaseResponse;
 import com.mogak.spring.login.AuthHandler;
 import com.mogak.spring.repository.query.SingleDetailModaratDto;
+import com.mogak.spring.service.AchievementStatService;
 import com.mogak.spring.service.ModaratService;
 import com.mogak.spring.web.dto.modaratdto.ModaratRequestDto;
+import com.mogak.spring.web.dto.statdto.StatResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -30,6 +34,7 @@ import static com.mogak.spring.web.dto.modaratdto.ModaratResponseDto.ModaratDto;
 @RequestMapping("/api/modarats")
 public class ModaratController {
     private final ModaratService modaratService;
+    private final AchievementStatService achievementStatService;
     private final AuthHandler authHandler;
 
     @Operation(summary = "모다라트 생성", description = "입력값을 이용해 모다라트를 생성합니다",
@@ -82,6 +87,19 @@ public class ModaratController {
         return ResponseEntity.status(HttpStatus.OK).body(new BaseResponse<>(modaratService.getDetailModarat(modaratId)));
     }
 
+    @Operation(summary = "모다라트 달성 통계 조회", description = "모다라트에 속한 조각들의 달성률과 연속 달성 일수를 조회합니다",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            parameters = @Parameter(name = "modaratId", description = "모다라트 ID"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 모다라트",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            })
+    @GetMapping("/{modaratId}/stats")
+    public ResponseEntity<BaseResponse<StatResponseDto.GetStatDto>> getModaratStat(@PathVariable Long modaratId) {
+        return ResponseEntity.ok(new BaseResponse<>(achievementStatService.getStat(StatScope.MODARAT, modaratId)));
+    }
+
     @Operation(summary = "모다라트 리스트 조회", description = "사용자의 모다라트 리스트를 조회합니다",
             security = @SecurityRequirement(name = "Bearer Authentication"),
             responses = {
@@ -1,12 +1,15 @@
 package com.mogak.spring.web.controller;
 
+import com.mogak.spring.domain.stat.StatScope;
 import com.mogak.spring.exception.ErrorResponse;
 import com.mogak.spring.global.BaseResponse;
 import com.mogak.spring.global.ErrorCode;
+import com.mogak.spring.service.AchievementStatService;
 import com.mogak.spring.service.MogakService;
 import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
 import com.mogak.spring.web.dto.mogakdto.MogakRequestDto;
 import com.mogak.spring.web.dto.mogakdto.MogakResponseDto;
+import com.mogak.spring.web.dto.statdto.StatResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,6 +34,7 @@ import java.util.List;
 @RequestMapping("/api/modarats")
 public class MogakController {
     private final MogakService mogakService;
+    private final AchievementStatService achievementStatService;
 
     @Operation(summary = "모각 생성", description = "입력값을 이용해 모각을 생성합니다",
             security = @SecurityRequirement(name = "Bearer Authentication"),
@@ -119,4 +123,17 @@ public class MogakController {
             @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         return ResponseEntity.ok(new BaseResponse<>(mogakService.getJogaks(mogakId, date)));
     }
+
+    @Operation(summary = "모각 달성 통계 조회", description = "모각에 속한 조각들의 달성률과 연속 달성 일수를 조회합니다",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            parameters = @Parameter(name = "mogakId", description = "모각 ID"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 모각",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            })
+    @GetMapping("/mogaks/{mogakId}/stats")
+    public ResponseEntity<BaseResponse<StatResponseDto.GetStatDto>> getMogakStat(@PathVariable Long mogakId) {
+        return ResponseEntity.ok(new BaseResponse<>(achievementStatService.getStat(StatScope.MOGAK, mogakId)));
+    }
 }
@@ -5,11 +5,14 @@ import com.mogak.spring.exception.ErrorResponse;
 import com.mogak.spring.global.BaseResponse;
 import com.mogak.spring.global.ErrorCode;
 import com.mogak.spring.login.AuthHandler;
+import com.mogak.spring.service.AchievementStatService;
 import com.mogak.spring.service.AwsS3Service;
 import com.mogak.spring.service.UserService;
+import com.mogak.spring.web.dto.statdto.StatResponseDto;
 import com.mogak.spring.web.dto.userdto.UserRequestDto;
 import com.mogak.spring.web.dto.userdto.UserResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,14 +21,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 
 import static com.mogak.spring.web.dto.userdto.UserRequestDto.*;
 
 @Tag(name = "유저 API", description = "유저 API 명세서")
+@Validated
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/users")
@@ -33,6 +40,7 @@ public class UserController {
     private final UserService userService;
     private final AwsS3Service awsS3Service;
     private final AuthHandler authHandler;
+    private final AchievementStatService achievementStatService;
     private static String dirName = "profile";
 
     @Operation(summary = "닉네임 검증", description = "PathVariable로 입력받은 닉네임을 검증합니다",
@@ -102,6 +110,21 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(new BaseResponse<>(getUserDto));
     }
 
+    @Operation(summary = "달성 히트맵 조회", description = "유저의 1년치 날짜별 데일리 조각 수와 달성 수를 조회합니다",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "범위를 벗어난 연도",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 유저",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            })
+    @GetMapping("/heatmap")
+    public ResponseEntity<BaseResponse<StatResponseDto.GetHeatmapDto>> getUserHeatmap(
+            @Parameter(description = "조회할 연도", example = "2024") @RequestParam @Min(2000) @Max(9999) int year) {
+        return ResponseEntity.ok(new BaseResponse<>(achievementStatService.getUserHeatmap(year)));
+    }
+
 
     @Operation(summary = "닉네임 변경", description = "유저의 닉네임을 변경합니다",
             security = @SecurityRequirement(name = "Bearer Authentication"),
@@ -131,6 +154,21 @@ public class UserController {
         return ResponseEntity.ok(new BaseResponse<>(ErrorCode.SUCCESS));
     }
 
+    @Operation(summary = "타임존 변경", description = "루틴 조각 생성 기준이 되는 유저의 타임존을 변경합니다 (ex. Asia/Seoul)",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "타임존 변경 성공"),
+                    @ApiResponse(responseCode = "400", description = "올바르지 않은 타임존",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 유저",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            })
+    @PutMapping("/profile/timezone")
+    public ResponseEntity<BaseResponse<ErrorCode>> updateTimezone(@Valid @RequestBody UpdateTimezoneDto timezoneDto) {
+        userService.updateTimezone(timezoneDto);
+        return ResponseEntity.ok(new BaseResponse<>(ErrorCode.SUCCESS));
+    }
+
     //프로필 이미지 변경
     @Operation(summary = "프로필사진 변경", description = "유저의 프로필 사진을 변경합니다",
             responses = {
@@ -1,12 +1,18 @@
 package com.mogak.spring.web.dto.jogakdto;
 
+import com.mogak.spring.domain.jogak.RecurrenceType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 public class JogakRequestDto {
@@ -24,12 +30,18 @@ public class JogakRequestDto {
         @Schema(description = "isRoutine과 연관된 필드로, isRoutine 값이 True이면 여기에 MONDAY, TUESDAY 등의 날짜를 입력하시면 됩니다. " +
                 "isRoutine 값이 False 값인 경우에 이 필드에 값을 입력하면 안됩니다")
         private List<String> days;
+        @Schema(description = "매주 반복이 아닌 루틴의 반복 규칙(선택). 입력하지 않으면 days 요일마다 매주 반복합니다")
+        @Valid
+        private RecurrenceDto recurrence;
         @Schema(description = "오늘의 조각을 생성하기 위해 오늘 날짜를 입력하시면 됩니다 format: YYYY-MM-DD", example = "2024-02-14")
         @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
         private LocalDate today;
         @Schema(description = "조각의 종료 날짜를 입력하시면 됩니다(선택). format: YYYY-MM-DD", example = "2024-02-14")
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
         private LocalDate endDate;
+        @Schema(description = "루틴 조각의 알림 시각을 입력하시면 됩니다(선택). format: HH:mm", example = "09:00", type = "string")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
+        private LocalTime reminderTime;
     }
 
     @Getter
@@ -40,8 +52,69 @@ public class JogakRequestDto {
         @Schema(description = "isRoutine과 연관된 필드로, isRoutine 값이 True이면 여기에 MONDAY, TUESDAY 등의 날짜를 입력하시면 됩니다. " +
                 "isRoutine 값이 False 값인 경우에 이 필드에 값을 입력하면 안됩니다", example = "{MONDAY, TUESDAY, SUNDAY}")
         private List<String> days;
+        @Schema(description = "매주 반복이 아닌 루틴의 반복 규칙(선택)")
+        @Valid
+        private RecurrenceDto recurrence;
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
         private LocalDate endDate;
+        @Schema(description = "루틴 조각의 알림 시각(선택). format: HH:mm", example = "09:00", type = "string")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
+        private LocalTime reminderTime;
     }
 
+    @Getter
+    @Schema(description = "루틴 반복 규칙 DTO (반복 기준일은 조각 시작일)")
+    public static class RecurrenceDto {
+        @NotNull
+        @Schema(description = "DAILY(N일마다), WEEKLY(N주마다 days 요일), MONTHLY(N개월마다 monthDays 날짜) 중 하나를 입력하시면 됩니다")
+        private RecurrenceType type;
+        @Schema(description = "반복 간격 (기본 1)", example = "2")
+        @Min(1) @Max(365)
+        private Integer interval;
+        @Schema(description = "WEEKLY 반복 요일, 입력하지 않으면 조각의 days를 사용합니다", example = "[\"MONDAY\"]")
+        private List<String> days;
+        @Schema(description = "MONTHLY 반복 날짜 (그 달에 없는 날짜는 건너뜁니다)", example = "[1, 15]")
+        private List<@NotNull @Min(1) @Max(31) Integer> monthDays;
+    }
+
+    @Getter
+    @Schema(description = "루틴 조각 쉬는 기간 DTO")
+    public static class PauseJogakDto {
+        @Schema(description = "쉬기 시작하는 날짜 format: YYYY-MM-DD", example = "2024-02-14")
+        @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate startDate;
+        @Schema(description = "마지막으로 쉬는 날짜(포함, 선택). 입력하지 않으면 startDate 하루만 건너뜁니다 format: YYYY-MM-DD", example = "2024-02-20")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate endDate;
+    }
+
+    public enum OperationType {
+        CREATE, UPDATE, SUCCESS, FAIL, DELETE
+    }
+
+    @Getter
+    @Schema(description = "조각 일괄 처리 DTO")
+    public static class BatchJogakDto {
+        @Schema(description = "순서대로 실행할 작업 목록 (최대 50개). 하나라도 실패하면 전체가 취소됩니다")
+        @NotEmpty @Size(max = 50)
+        private List<@Valid @NotNull JogakOperationDto> operations;
+    }
+
+    @Getter
+    @Schema(description = "조각 일괄 처리 작업 DTO")
+    public static class JogakOperationDto {
+        @NotNull
+        @Schema(description = "CREATE, UPDATE, SUCCESS, FAIL, DELETE 중 하나를 입력하시면 됩니다")
+        private OperationType type;
+        @Schema(description = "UPDATE, DELETE 대상 조각 ID")
+        private Long jogakId;
+        @Schema(description = "SUCCESS, FAIL 대상 데일리 조각 ID")
+        private Long dailyJogakId;
+        @Schema(description = "CREATE 입력값")
+        @Valid
+        private CreateJogakDto create;
+        @Schema(description = "UPDATE 입력값")
+        @Valid
+        private UpdateJogakDto update;
+    }
 }
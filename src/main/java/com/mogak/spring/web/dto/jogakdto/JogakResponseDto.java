@@ -1,9 +1,13 @@
 package com.mogak.spring.web.dto.jogakdto;
 
 import com.mogak.spring.domain.jogak.Period;
+import com.mogak.spring.domain.jogak.Recurrence;
+import com.mogak.spring.domain.jogak.RecurrenceType;
+import com.mogak.spring.domain.jogak.Weekdays;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 public class JogakResponseDto {
@@ -19,9 +23,35 @@ public class JogakResponseDto {
         private String title;
         private Boolean isRoutine;
         private List<String> days;
+        // 매주 반복이 아닌 루틴만
+        private RecurrenceDto recurrence;
         private Integer achievements;
         private LocalDate startDate;
         private LocalDate endDate;
+        private LocalTime reminderTime;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RecurrenceDto {
+        private String type;
+        private Integer interval;
+        // MONTHLY 반복 날짜 (요일은 days)
+        private List<Integer> monthDays;
+
+        // 매주 반복(type 없음)이면 null
+        public static RecurrenceDto of(RecurrenceType type, Integer interval, Integer monthDays) {
+            if (type == null) {
+                return null;
+            }
+            return RecurrenceDto.builder()
+                    .type(type.name())
+                    .interval(interval)
+                    .monthDays(type == RecurrenceType.MONTHLY ? Recurrence.toMonthDays(monthDays) : null)
+                    .build();
+        }
     }
 
     @Getter
@@ -35,10 +65,20 @@ public class JogakResponseDto {
         private String title;
         private Boolean isRoutine;
         private List<String> days;
+        // 매주 반복이 아닌 루틴만
+        private RecurrenceDto recurrence;
         private String color;
         private Integer achievements;
         private LocalDate startDate;
         private LocalDate endDate;
+
+        // JogakQueryRepository 생성자 조회, 루틴이 아니면 days는 null
+        public DetailJogakDto(Long jogakId, String mogakTitle, String category, String title, Boolean isRoutine,
+                              Integer weekdays, RecurrenceType recurrenceType, Integer recurrenceInterval, Integer monthDays,
+                              String color, Integer achievements, LocalDate startDate, LocalDate endDate) {
+            this(jogakId, mogakTitle, category, title, isRoutine, Boolean.TRUE.equals(isRoutine) ? Weekdays.toDays(weekdays) : null,
+                    RecurrenceDto.of(recurrenceType, recurrenceInterval, monthDays), color, achievements, startDate, endDate);
+        }
     }
 
     @Getter
@@ -56,11 +96,18 @@ public class JogakResponseDto {
         private Integer achievements;
         private LocalDate startDate;
         private LocalDate endDate;
+
+        // JogakQueryRepository 생성자 조회
+        public GetJogakDto(Long jogakId, String mogakTitle, String category, String title, Boolean isRoutine,
+                           Integer weekdays, Boolean isAlreadyAdded, Integer achievements, LocalDate startDate, LocalDate endDate) {
+            this(jogakId, mogakTitle, category, title, isRoutine, Weekdays.toDays(weekdays),
+                    isAlreadyAdded, achievements, startDate, endDate);
+        }
     }
 
     @Getter
     @Builder
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor // JogakQueryRepository 생성자 조회
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class GetDailyJogakDto {
         private Long jogakId;
@@ -70,11 +117,16 @@ public class JogakResponseDto {
         private String title;
         private Boolean isRoutine;
         private Boolean isAchievement;
+
+        // 아직 생성되지 않은 미래 루틴 조각
+        public GetDailyJogakDto(Long jogakId, String mogakTitle, String category, String title, Boolean isRoutine) {
+            this(jogakId, -1L, mogakTitle, category, title, isRoutine, false);
+        }
     }
 
     @Getter
     @Builder
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor // JogakQueryRepository 생성자 조회
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class GetOneTimeJogakDto {
         private Long jogakId;
@@ -117,7 +169,7 @@ public class JogakResponseDto {
 
     @Getter
     @Builder
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor // DailyJogakRepository.findRoutineCalendar 생성자 조회
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class GetRoutineJogakDto {
         private Long dailyJogakId;
@@ -151,4 +203,45 @@ public class JogakResponseDto {
         private Boolean isAchievement;
         private Integer achievements;
     }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class JogakPauseDto {
+        private LocalDate startDate;
+        // 마지막으로 쉬는 날짜 (포함)
+        private LocalDate endDate;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class JogakPauseListDto {
+        private Long jogakId;
+        private int size;
+        private List<JogakPauseDto> pauses;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class BatchJogakDto {
+        private List<JogakOperationResultDto> results;
+        private Integer size;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class JogakOperationResultDto {
+        // 요청 작업 목록에서의 순서
+        private Integer index;
+        private String type;
+        // CREATE, UPDATE -> CreateJogakDto, SUCCESS, FAIL -> JogakDailyJogakDto, DELETE -> null
+        private Object result;
+    }
 }
@@ -0,0 +1,38 @@
+package com.mogak.spring.web.dto.statdto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class StatResponseDto {
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class GetStatDto {
+        private Long targetId;
+        private Integer totalCount;
+        private Integer achievedCount;
+        // 달성률(%)
+        private Integer achievementRate;
+        private Integer currentStreak;
+        private Integer longestStreak;
+        private LocalDate lastAchievedDate;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class GetHeatmapDto {
+        private Integer year;
+        // scheduled, achieved의 0번째 칸 날짜 (1월 1일)
+        private LocalDate startDate;
+        private Integer scheduledDays;
+        private Integer achievedDays;
+        // 날짜별 데일리 조각 수 / 달성한 조각 수
+        private List<Integer> scheduled;
+        private List<Integer> achieved;
+    }
+}
@@ -54,6 +54,12 @@ public class UserRequestDto {
         private String job;
     }
 
+    @Getter
+    public static class UpdateTimezoneDto {
+        @NotBlank
+        private String timezone;
+    }
+
     @Builder
     @Getter
     public static class UpdateImageDto {
@@ -0,0 +1,160 @@
+package com.mogak.spring.batch;
+
+import com.mogak.spring.config.TimeConfig;
+import com.mogak.spring.domain.batch.BatchStatus;
+import com.mogak.spring.domain.batch.JobExecution;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "batch.chunk-size=3")
+@Import({BatchJobRunner.class, TimeConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 청크마다 커밋되는지 확인하기 위해 테스트 트랜잭션 미사용
+class BatchJobRunnerTest {
+
+    @Autowired
+    private BatchJobRunner batchJobRunner;
+
+    @Test
+    @DisplayName("중간에 실패한 작업은 다시 실행하면 마지막 체크포인트부터 이어서 처리한다")
+    void 체크포인트_재개_테스트() {
+        //given - 10건 중 3번째 청크에서 실패
+        ListJob job = new ListJob("resume", 10, 3);
+        assertThatThrownBy(() -> batchJobRunner.run(job, "2024-02-14", 1L))
+                .isInstanceOf(IllegalStateException.class);
+
+        //when
+        JobExecution execution = batchJobRunner.run(job, "2024-02-14", 2L);
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        softly.assertThat(execution.getLastProcessedId()).isEqualTo(10L);
+        softly.assertThat(execution.getWriteCount()).isEqualTo(10L);
+        softly.assertThat(execution.getFailureCount()).isEqualTo(1);
+        softly.assertThat(job.written).containsExactlyElementsOf(ids(10));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("완료된 작업은 같은 runKey로 다시 실행해도 처리하지 않는다")
+    void 완료_작업_재실행_테스트() {
+        //given
+        ListJob job = new ListJob("completed", 5, 0);
+        batchJobRunner.run(job, "2024-02-14", 1L);
+
+        //when
+        JobExecution execution = batchJobRunner.run(job, "2024-02-14", 2L);
+
+        //then
+        assertThat(execution.isCompleted()).isTrue();
+        assertThat(job.written).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 더 큰 fencing token으로 이어받으면 이전 실행의 청크는 롤백된다")
+    void fencing_token_테스트() {
+        //given - 첫 청크 처리 중 다른 서버가 이어받음
+        List<Long> written = new ArrayList<>();
+        BatchJob job = new BatchJob() {
+            @Override
+            public String getName() {
+                return "fencing";
+            }
+
+            @Override
+            public ChunkStep open(String runKey) {
+                return new ChunkStep() {
+                    @Override
+                    public List<Long> read(long afterId, int chunkSize) {
+                        return ids(5).stream().filter(id -> id > afterId).limit(chunkSize).collect(Collectors.toList());
+                    }
+
+                    @Override
+                    public int write(List<Long> ids) {
+                        if (written.isEmpty()) {
+                            written.add(0L);
+                            batchJobRunner.run(new ListJob("fencing", 0, 0), runKey, 2L);
+                        }
+                        return ids.size();
+                    }
+                };
+            }
+        };
+
+        //when, then
+        assertThatThrownBy(() -> batchJobRunner.run(job, "2024-02-14", 1L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("더 큰 fencing token으로 시작한 실행은 늦게 깨어난 작은 token이 이어받지 못한다")
+    void 작은_fencing_token_시작_테스트() {
+        //given - token 2로 시작한 실행이 두 번째 청크에서 실패
+        ListJob job = new ListJob("stale", 10, 2);
+        assertThatThrownBy(() -> batchJobRunner.run(job, "2024-02-14", 2L))
+                .isInstanceOf(IllegalStateException.class);
+        List<Long> writtenBefore = new ArrayList<>(job.written);
+
+        //when, then
+        assertThatThrownBy(() -> batchJobRunner.run(job, "2024-02-14", 1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("fencing token");
+        assertThat(job.written).isEqualTo(writtenBefore);
+    }
+
+    private static List<Long> ids(long count) {
+        return LongStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+    }
+
+    private static class ListJob implements BatchJob {
+        private final String name;
+        private final List<Long> source;
+        private final int failingChunk;
+        private final List<Long> written = new ArrayList<>();
+        private int chunkCount;
+
+        ListJob(String name, long size, int failingChunk) {
+            this.name = name;
+            this.source = ids(size);
+            this.failingChunk = failingChunk;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public ChunkStep open(String runKey) {
+            return new ChunkStep() {
+                @Override
+                public List<Long> read(long afterId, int chunkSize) {
+                    return source.stream().filter(id -> id > afterId).limit(chunkSize).collect(Collectors.toList());
+                }
+
+                @Override
+                public int write(List<Long> ids) {
+                    if (++chunkCount == failingChunk) {
+                        throw new IllegalStateException("chunk " + chunkCount + " 실패");
+                    }
+                    written.addAll(ids);
+                    return ids.size();
+                }
+            };
+        }
+    }
+}
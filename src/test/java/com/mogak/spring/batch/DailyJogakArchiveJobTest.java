@@ -0,0 +1,168 @@
+package com.mogak.spring.batch;
+
+import com.mogak.spring.config.TimeConfig;
+import com.mogak.spring.domain.batch.JobExecution;
+import com.mogak.spring.domain.jogak.DailyJogak;
+import com.mogak.spring.domain.jogak.Jogak;
+import com.mogak.spring.domain.jogak.JogakState;
+import com.mogak.spring.domain.mogak.Mogak;
+import com.mogak.spring.domain.mogak.MogakCategory;
+import com.mogak.spring.domain.stat.AchievementRollup;
+import com.mogak.spring.domain.stat.StatScope;
+import com.mogak.spring.domain.user.User;
+import com.mogak.spring.repository.*;
+import com.mogak.spring.repository.query.DailyJogakAchievementDto;
+import com.mogak.spring.service.AchievementCounter;
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "batch.chunk-size=2")
+@Import({BatchJobRunner.class, DailyJogakArchiveJob.class, DailyJogakArchivePartitions.class, AchievementCounter.class, TimeConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 청크마다 커밋된 결과를 확인하기 위해 테스트 트랜잭션 미사용
+class DailyJogakArchiveJobTest {
+
+    // 2024-01-10(수)
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 10);
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private BatchJobRunner batchJobRunner;
+    @Autowired
+    private DailyJogakArchiveJob dailyJogakArchiveJob;
+    @Autowired
+    private DailyJogakRepository dailyJogakRepository;
+    @Autowired
+    private DailyJogakArchiveRepository dailyJogakArchiveRepository;
+    @Autowired
+    private AchievementRollupRepository achievementRollupRepository;
+    @Autowired
+    private JogakQueryRepository jogakQueryRepository;
+    @Autowired
+    private AchievementStatRepository achievementStatRepository;
+    @Autowired
+    private AchievementCounter achievementCounter;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM JobExecution").executeUpdate();
+            em.createQuery("DELETE FROM AchievementRollup").executeUpdate();
+            em.createQuery("DELETE FROM DailyJogakArchive").executeUpdate();
+            em.createQuery("DELETE FROM DailyJogak").executeUpdate();
+            em.createQuery("DELETE FROM Jogak").executeUpdate();
+            em.createQuery("DELETE FROM Mogak").executeUpdate();
+            em.createQuery("DELETE FROM User").executeUpdate();
+            em.createQuery("DELETE FROM MogakCategory").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("보관 기준일 이전 데일리 조각은 월 rollup을 남기고 보관 테이블로 옮겨지고, 조회 결과는 그대로다")
+    void 데일리_조각_보관_테스트() {
+        //given - 12월 3일(2일 달성) + 1월 1일
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        User user = transactionTemplate.execute(status -> persistHistory());
+        Long userId = user.getId();
+        List<JogakResponseDto.GetRoutineJogakDto> before = dailyJogakRepository.findRoutineCalendar(userId, DAY.minusMonths(1).withDayOfMonth(1), DAY.plusMonths(1));
+        Long jogakId = transactionTemplate.execute(status -> dailyJogakRepository.findAll().get(0).getJogak().getId());
+
+        //when
+        String runKey = dailyJogakArchiveJob.archiveBefore(DAY.plusMonths(1)).toString();
+        JobExecution execution = batchJobRunner.run(dailyJogakArchiveJob, runKey, 1L);
+
+        //then
+        List<JogakResponseDto.GetRoutineJogakDto> after = dailyJogakRepository.findRoutineCalendar(userId, DAY.minusMonths(1).withDayOfMonth(1), DAY.plusMonths(1));
+        List<AchievementRollup> rollups = achievementRollupRepository.findAllByJogakIdOrderByRollupMonth(jogakId);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(runKey).isEqualTo("2024-01-01");
+        softly.assertThat(execution.getWriteCount()).isEqualTo(3L);
+        softly.assertThat(dailyJogakRepository.count()).isEqualTo(1L);
+        softly.assertThat(dailyJogakArchiveRepository.count()).isEqualTo(3L);
+        softly.assertThat(rollups).extracting(AchievementRollup::getRollupMonth, AchievementRollup::getTotalCount, AchievementRollup::getAchievedCount)
+                .containsExactly(tuple(202312, 3, 2));
+        softly.assertThat(after).hasSize(4);
+        softly.assertThat(ids(after)).containsExactlyElementsOf(ids(before));
+        softly.assertThat(jogakQueryRepository.findDailyJogaks(userId, DAY.minusMonths(1)))
+                .extracting(JogakResponseDto.GetDailyJogakDto::getMogakTitle)
+                .containsExactly("모각");
+        softly.assertThat(achievementStatRepository.findDailyAchievements(StatScope.JOGAK, List.of(jogakId)).get(jogakId)).hasSize(4);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("보관된 날짜도 시작 여부와 달성/취소가 보관 테이블과 월 rollup에 반영된다")
+    void 보관된_데일리_조각_달성_테스트() {
+        //given - 12월 3일 보관 (12월 3일차는 미달성)
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> persistHistory());
+        DailyJogak first = transactionTemplate.execute(status -> dailyJogakRepository.findAll().get(0));
+        Long jogakId = first.getJogak().getId();
+        Long mogakId = first.getMogak().getId();
+        LocalDate december = DAY.minusMonths(1);
+        batchJobRunner.run(dailyJogakArchiveJob, dailyJogakArchiveJob.archiveBefore(DAY.plusMonths(1)).toString(), 1L);
+        Long notAchievedId = dailyJogakRepository.findAchievement(jogakId, december.plusDays(2))
+                .map(DailyJogakAchievementDto::getDailyJogakId)
+                .orElseThrow();
+
+        //when
+        boolean achieved = achievementCounter.toggle(notAchievedId, true);
+        boolean achievedAgain = achievementCounter.toggle(notAchievedId, true);
+
+        //then
+        List<JogakResponseDto.GetJogakDto> jogaks = jogakQueryRepository.findJogaksByMogak(mogakId, december, true);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(achieved).isTrue();
+        softly.assertThat(achievedAgain).isFalse();
+        softly.assertThat(dailyJogakRepository.findAchievement(notAchievedId))
+                .hasValueSatisfying(dailyJogak -> softly.assertThat(dailyJogak.getIsAchievement()).isTrue());
+        softly.assertThat(achievementRollupRepository.findAllByJogakIdOrderByRollupMonth(jogakId))
+                .extracting(AchievementRollup::getAchievedCount)
+                .containsExactly(3);
+        softly.assertThat(jogaks).extracting(JogakResponseDto.GetJogakDto::getIsAlreadyAdded).containsExactly(true);
+        softly.assertAll();
+    }
+
+    private User persistHistory() {
+        MogakCategory category = MogakCategory.builder().name("운동").build();
+        em.persist(category);
+        User user = User.builder().nickname("mogak").email("mogak@mogak.com").validation("ACTIVE").build();
+        em.persist(user);
+        Mogak mogak = Mogak.builder().user(user).title("모각").bigCategory(category).validation("ACTIVE").build();
+        em.persist(mogak);
+        Jogak routine = Jogak.builder().user(user).mogak(mogak).category(category).title("매일 운동")
+                .isRoutine(true).achievements(0).state(JogakState.ONGOING.name()).build();
+        em.persist(routine);
+        LocalDate december = DAY.minusMonths(1);
+        for (LocalDate targetDate : List.of(december, december.plusDays(1), december.plusDays(2), DAY)) {
+            em.persist(DailyJogak.builder().user(user).mogak(mogak).jogak(routine).category(category)
+                    .title(routine.getTitle()).isRoutine(true)
+                    .isAchievement(!targetDate.equals(december.plusDays(2)) && !targetDate.equals(DAY))
+                    .targetDate(targetDate).build());
+        }
+        return user;
+    }
+
+    private static List<Long> ids(List<JogakResponseDto.GetRoutineJogakDto> calendar) {
+        return calendar.stream().map(JogakResponseDto.GetRoutineJogakDto::getDailyJogakId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,44 @@
+package com.mogak.spring.batch;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class LocalHourTimezonesTest {
+
+    // 서머타임으로 자정이 없는 날(시작)과 자정이 두 번인 날(Havana 종료)이 있는 타임존 + 30분 단위 타임존
+    private static final List<String> TIMEZONES = List.of(
+            "America/Santiago", "America/Havana", "Asia/Beirut", "Asia/Kolkata", "Asia/Seoul");
+
+    @Test
+    @DisplayName("서머타임으로 자정이 없거나 두 번인 날도 타임존마다 현지 날짜별로 한 번씩만 선택된다")
+    void 서머타임_자정_선택_테스트() {
+        //given - 2024년 서머타임 시작/종료가 모두 포함된 기간의 매 정시
+        Instant from = Instant.parse("2024-03-01T00:00:00Z");
+        Instant to = Instant.parse("2024-12-01T00:00:00Z");
+        Map<String, Map<LocalDate, Integer>> selected = new HashMap<>();
+
+        //when
+        for (Instant tick = from; tick.isBefore(to); tick = tick.plus(1, ChronoUnit.HOURS)) {
+            LocalHourTimezones.group(tick, 0, TIMEZONES).forEach((date, timezones) -> timezones.forEach(timezone ->
+                    selected.computeIfAbsent(timezone, key -> new HashMap<>()).merge(date, 1, Integer::sum)));
+        }
+
+        //then - 앞뒤 하루를 뺀 기간의 모든 날짜가 정확히 한 번
+        SoftAssertions softly = new SoftAssertions();
+        for (String timezone : TIMEZONES) {
+            Map<LocalDate, Integer> dates = selected.get(timezone);
+            for (LocalDate date = LocalDate.of(2024, 3, 2); date.isBefore(LocalDate.of(2024, 11, 30)); date = date.plusDays(1)) {
+                softly.assertThat(dates.get(date)).as("%s %s", timezone, date).isEqualTo(1);
+            }
+        }
+        softly.assertAll();
+    }
+}
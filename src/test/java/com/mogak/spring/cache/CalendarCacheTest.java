@@ -0,0 +1,199 @@
+package com.mogak.spring.cache;
+
+import com.mogak.spring.redis.RedisService;
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+class CalendarCacheTest {
+
+    // 2024-02-12(월)
+    private static final LocalDate TODAY = LocalDate.of(2024, 2, 12);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisService redisService;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisService = new RedisService(redisTemplate);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("같은 날 다시 조회하면 캐시를 쓰고, 날짜가 바뀌면 오늘/미래가 포함된 달과 날짜만 다시 계산한다")
+    void 캐시_적중_테스트() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CalendarCache calendarCache = newCache(meterRegistry, true);
+        Long userId = 1L;
+        YearMonth january = YearMonth.of(2024, 1);
+        YearMonth february = YearMonth.of(2024, 2);
+        calendarCache.getRoutines(userId, january, TODAY, routines("1월"));
+        calendarCache.getRoutines(userId, february, TODAY, routines("2월"));
+        calendarCache.getDay(userId, TODAY.minusDays(1), TODAY, day());
+        calendarCache.getDay(userId, TODAY, TODAY, day());
+
+        //when
+        loads.set(0);
+        List<JogakResponseDto.GetRoutineJogakDto> cached = calendarCache.getRoutines(userId, february, TODAY, routines("2월"));
+        calendarCache.getDay(userId, TODAY, TODAY, day());
+        int sameDayLoads = loads.getAndSet(0);
+        LocalDate tomorrow = TODAY.plusDays(1);
+        calendarCache.getRoutines(userId, january, tomorrow, routines("1월"));
+        calendarCache.getRoutines(userId, february, tomorrow, routines("2월"));
+        calendarCache.getDay(userId, TODAY.minusDays(1), tomorrow, day());
+        calendarCache.getDay(userId, TODAY, tomorrow, day());
+        int nextDayLoads = loads.get();
+
+        //then - 다음 날에는 2월 캘린더와 어제(계산 당시 오늘)만 다시 계산
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sameDayLoads).isZero();
+        softly.assertThat(cached).extracting(JogakResponseDto.GetRoutineJogakDto::getTitle).containsExactly("2월");
+        softly.assertThat(cached).extracting(JogakResponseDto.GetRoutineJogakDto::getDate).containsExactly(TODAY);
+        softly.assertThat(nextDayLoads).isEqualTo(2);
+        softly.assertThat(meterRegistry.get("calendar.cache.hit.ratio").gauge().value()).isEqualTo(4.0 / 10);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("무효화는 해당 유저의 지정한 달만 지운다")
+    void 무효화_범위_테스트() {
+        //given
+        CalendarCache calendarCache = newCache(new SimpleMeterRegistry(), true);
+        Long userId = 2L;
+        Long otherUserId = 3L;
+        List<YearMonth> months = List.of(YearMonth.of(2024, 1), YearMonth.of(2024, 2), YearMonth.of(2024, 3));
+        months.forEach(month -> calendarCache.getRoutines(userId, month, TODAY, routines("루틴")));
+        calendarCache.getRoutines(otherUserId, months.get(1), TODAY, routines("루틴"));
+
+        //when
+        calendarCache.evictMonth(userId, TODAY);
+        int afterMonth = reloads(calendarCache, userId, months);
+        calendarCache.evictFrom(userId, TODAY);
+        int afterFrom = reloads(calendarCache, userId, months);
+        calendarCache.evictAll(userId);
+        int afterAll = reloads(calendarCache, userId, months);
+        calendarCache.getRoutines(otherUserId, months.get(1), TODAY, routines("루틴"));
+        int otherUser = loads.get();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(afterMonth).isEqualTo(1);
+        softly.assertThat(afterFrom).isEqualTo(2);
+        softly.assertThat(afterAll).isEqualTo(3);
+        softly.assertThat(otherUser).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("계산하는 사이에 무효화되면 계산한 값을 캐시하지 않는다")
+    void 계산_중_무효화_테스트() {
+        //given
+        CalendarCache calendarCache = newCache(new SimpleMeterRegistry(), true);
+        Long userId = 5L;
+        YearMonth february = YearMonth.from(TODAY);
+
+        //when - 무효화 전에 읽은 값으로 계산하는 동안 다른 요청이 조각을 바꾸고 무효화
+        calendarCache.getRoutines(userId, february, TODAY, () -> {
+            calendarCache.evictMonth(userId, TODAY);
+            return routines("변경 전").get();
+        });
+        List<JogakResponseDto.GetRoutineJogakDto> reloaded = calendarCache.getRoutines(userId, february, TODAY, routines("변경 후"));
+        List<JogakResponseDto.GetRoutineJogakDto> cached = calendarCache.getRoutines(userId, february, TODAY, routines("변경 후"));
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(loads.get()).isEqualTo(2);
+        softly.assertThat(reloaded.get(0).getTitle()).isEqualTo("변경 후");
+        softly.assertThat(cached.get(0).getTitle()).isEqualTo("변경 후");
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 다시 계산한다")
+    void 캐시_우회_테스트() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CalendarCache calendarCache = newCache(meterRegistry, false);
+
+        //when
+        calendarCache.getDay(4L, TODAY, TODAY, day());
+        calendarCache.getDay(4L, TODAY, TODAY, day());
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(loads.get()).isEqualTo(2);
+        softly.assertThat(meterRegistry.get("calendar.cache.requests").tag("result", "bypass").tag("view", "day").counter().count())
+                .isEqualTo(2);
+        softly.assertAll();
+    }
+
+    private int reloads(CalendarCache calendarCache, Long userId, List<YearMonth> months) {
+        loads.set(0);
+        months.forEach(month -> calendarCache.getRoutines(userId, month, TODAY, routines("루틴")));
+        return loads.getAndSet(0);
+    }
+
+    private Supplier<List<JogakResponseDto.GetRoutineJogakDto>> routines(String title) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(new JogakResponseDto.GetRoutineJogakDto(-1L, TODAY, false, title));
+        };
+    }
+
+    private Supplier<JogakResponseDto.GetDailyJogakListDto> day() {
+        return () -> {
+            loads.incrementAndGet();
+            return JogakResponseDto.GetDailyJogakListDto.builder()
+                    .dailyJogaks(List.of(new JogakResponseDto.GetDailyJogakDto(1L, "모각", "공부", "조각", true)))
+                    .size(1)
+                    .build();
+        };
+    }
+
+    private static CalendarCache newCache(SimpleMeterRegistry meterRegistry, boolean enabled) {
+        return new CalendarCache(redisService, Jackson2ObjectMapperBuilder.json().build(), meterRegistry, enabled, 60000);
+    }
+}
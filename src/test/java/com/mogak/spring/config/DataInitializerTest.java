@@ -7,12 +7,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 
 @DataJpaTest
+@Import(TimeConfig.class)
 class DataInitializerTest {
 
     @Autowired
@@ -1,10 +1,14 @@
 package com.mogak.spring.domain.jogak;
 
 import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,4 +26,29 @@ class JogakTest {
         softly.assertThat(startOfDay.toLocalTime()).isEqualTo(LocalTime.of(0,0,0));
         softly.assertThat(deadLine.toLocalTime()).isEqualTo(LocalTime.of(4,0,0));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("반복 규칙 변경 시 오늘이 새로 반복일이 됐을 때만 true를 돌려준다")
+    void 반복_규칙_변경_테스트() {
+        //given - 월수금, 2024-02-12(월) 시작
+        LocalDate monday = LocalDate.of(2024, 2, 12);
+        Jogak jogak = Jogak.builder()
+                .isRoutine(true)
+                .startAt(monday)
+                .weekdays(Weekdays.of(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY)))
+                .build();
+
+        //when - 월화로 바꾸면 화요일은 새로 반복일, 월요일은 원래 반복일
+        boolean tuesdayAdded = jogak.changeRecurrence(Recurrence.weekly(Weekdays.of(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY))), monday.plusDays(1));
+        boolean mondayAdded = jogak.changeRecurrence(Recurrence.of(RecurrenceType.WEEKLY, 2, Weekdays.of(List.of(DayOfWeek.MONDAY)), null), monday);
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(tuesdayAdded).isTrue();
+        softly.assertThat(mondayAdded).isFalse();
+        softly.assertThat(jogak.getPeriods()).containsExactly("MONDAY");
+        softly.assertThat(jogak.isDueOn(monday.plusWeeks(1))).isFalse();
+        softly.assertThat(jogak.isDueOn(monday.plusWeeks(2))).isTrue();
+        softly.assertAll();
+    }
+}
@@ -0,0 +1,106 @@
+package com.mogak.spring.domain.jogak;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurrenceRuleTest {
+
+    // 2024-02-12(월)
+    private static final LocalDate START = LocalDate.of(2024, 2, 12);
+
+    @Test
+    @DisplayName("N일마다, 격주 요일, 매월 날짜, 종료일까지 평일 규칙의 다음 반복일을 구한다")
+    void 반복_규칙_테스트() {
+        //given
+        RecurrenceRule everyTwoDays = RecurrenceRule.compile(Recurrence.of(RecurrenceType.DAILY, 2, null, null), START, null);
+        RecurrenceRule everyOtherMonday = RecurrenceRule.compile(
+                Recurrence.of(RecurrenceType.WEEKLY, 2, Weekdays.of(List.of(DayOfWeek.MONDAY)), null), START, null);
+        RecurrenceRule firstAndFifteenth = RecurrenceRule.compile(
+                Recurrence.of(RecurrenceType.MONTHLY, 1, null, Recurrence.toMonthDayMask(List.of(1, 15))), START, null);
+        RecurrenceRule weekdaysUntil = RecurrenceRule.compile(Recurrence.weekly(Weekdays.of(List.of(
+                DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY))),
+                START, LocalDate.of(2024, 2, 21));
+
+        //when, then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(everyTwoDays.nextOccurrences(START.plusDays(1), 3))
+                .containsExactly(LocalDate.of(2024, 2, 14), LocalDate.of(2024, 2, 16), LocalDate.of(2024, 2, 18));
+        softly.assertThat(everyOtherMonday.nextOccurrences(START, 3))
+                .containsExactly(START, LocalDate.of(2024, 2, 26), LocalDate.of(2024, 3, 11));
+        softly.assertThat(everyOtherMonday.isDueOn(LocalDate.of(2024, 2, 19))).isFalse();
+        softly.assertThat(firstAndFifteenth.nextOccurrences(START, 3))
+                .containsExactly(LocalDate.of(2024, 2, 15), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 15));
+        // 종료일 당일부터는 반복하지 않음
+        softly.assertThat(weekdaysUntil.nextOccurrences(LocalDate.of(2024, 2, 16), 5))
+                .containsExactly(LocalDate.of(2024, 2, 16), LocalDate.of(2024, 2, 19), LocalDate.of(2024, 2, 20));
+        // 시작일 이전은 반복하지 않음
+        softly.assertThat(everyTwoDays.next(START.minusDays(10))).isEqualTo(START);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("31일만 반복하면 31일이 없는 달은 건너뛴다")
+    void 없는_날짜_건너뛰기_테스트() {
+        //given - 2개월마다 31일, 1월 시작 -> 1, 3, 5, 7, 9, 11월 중 31일이 있는 달만
+        RecurrenceRule rule = RecurrenceRule.compile(
+                Recurrence.of(RecurrenceType.MONTHLY, 2, null, Recurrence.toMonthDayMask(List.of(31))), LocalDate.of(2024, 1, 1), null);
+
+        //when
+        List<LocalDate> occurrences = rule.nextOccurrences(LocalDate.of(2024, 1, 1), 7);
+
+        //then
+        assertThat(occurrences).containsExactly(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 3, 31), LocalDate.of(2024, 5, 31),
+                LocalDate.of(2024, 7, 31), LocalDate.of(2025, 1, 31), LocalDate.of(2025, 3, 31), LocalDate.of(2025, 5, 31));
+    }
+
+    @Test
+    @DisplayName("다음 반복일 계산은 하루씩 확인한 결과와 같다")
+    void 하루씩_확인과_비교_테스트() {
+        //given
+        Random random = new Random(42);
+        List<RecurrenceRule> rules = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDate from = START.plusDays(random.nextInt(60) - 30);
+            LocalDate until = random.nextBoolean() ? null : from.plusDays(random.nextInt(400));
+            rules.add(RecurrenceRule.compile(randomRecurrence(random), from, until));
+        }
+
+        //when, then
+        SoftAssertions softly = new SoftAssertions();
+        for (RecurrenceRule rule : rules) {
+            List<LocalDate> expected = new ArrayList<>();
+            for (LocalDate date = START.minusDays(40); date.isBefore(START.plusYears(1)); date = date.plusDays(1)) {
+                if (rule.isDueOn(date)) {
+                    expected.add(date);
+                }
+            }
+            List<LocalDate> actual = new ArrayList<>();
+            for (LocalDate date = rule.next(START.minusDays(40)); date != null && date.isBefore(START.plusYears(1)); date = rule.next(date.plusDays(1))) {
+                actual.add(date);
+            }
+            softly.assertThat(actual).isEqualTo(expected);
+        }
+        softly.assertAll();
+    }
+
+    static Recurrence randomRecurrence(Random random) {
+        int interval = 1 + random.nextInt(4);
+        switch (random.nextInt(3)) {
+            case 0:
+                return Recurrence.of(RecurrenceType.DAILY, interval, null, null);
+            case 1:
+                return Recurrence.of(RecurrenceType.WEEKLY, interval, 1 + random.nextInt(127), null);
+            default:
+                return Recurrence.of(RecurrenceType.MONTHLY, interval, null, 1 + random.nextInt(Integer.MAX_VALUE));
+        }
+    }
+}
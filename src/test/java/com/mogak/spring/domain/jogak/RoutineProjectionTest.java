@@ -0,0 +1,119 @@
+package com.mogak.spring.domain.jogak;
+
+import com.mogak.spring.converter.JogakConverter;
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutineProjectionTest {
+
+    @Test
+    @DisplayName("요일과 종료일에 맞는 루틴만 날짜 순으로 펼친다")
+    void 루틴_펼치기_테스트() {
+        //given - 2024-02-12(월) ~ 2024-02-19(월) 전날까지
+        LocalDate from = LocalDate.of(2024, 2, 12);
+        LocalDate to = LocalDate.of(2024, 2, 19);
+        List<Jogak> routines = List.of(
+                routine("월수금", null, DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY),
+                routine("매일", LocalDate.of(2024, 2, 14), DayOfWeek.values()),
+                routine("일요일", null, DayOfWeek.SUNDAY));
+        List<JogakResponseDto.GetRoutineJogakDto> result = new ArrayList<>();
+
+        //when
+        RoutineProjection.of(routines).expandInto(from, to, result);
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(result.stream().map(dto -> dto.getDate().getDayOfMonth() + dto.getTitle()).collect(Collectors.toList()))
+                .containsExactly("12월수금", "12매일", "13매일", "14월수금", "16월수금", "18일요일");
+        softly.assertThat(result).allSatisfy(dto -> {
+            softly.assertThat(dto.getDailyJogakId()).isEqualTo(-1L);
+            softly.assertThat(dto.getIsAchievement()).isFalse();
+        });
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("규칙 루틴이 섞여도 날짜마다 반복 여부를 확인한 결과와 같은 순서로 펼친다")
+    void 규칙_루틴_펼치기_테스트() {
+        //given
+        LocalDate from = LocalDate.of(2024, 2, 12);
+        LocalDate to = from.plusYears(1);
+        Random random = new Random(42);
+        List<Jogak> routines = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Jogak routine = Jogak.builder()
+                    .title("routine" + i)
+                    .isRoutine(true)
+                    .startAt(from.plusDays(random.nextInt(60) - 30))
+                    .endAt(random.nextBoolean() ? null : from.plusDays(random.nextInt(400)))
+                    .build();
+            routine.updateRecurrence(RecurrenceRuleTest.randomRecurrence(random));
+            routines.add(routine);
+        }
+        List<String> expected = new ArrayList<>();
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            for (Jogak routine : routines) {
+                if (routine.getRecurrenceType() == null
+                        ? Weekdays.contains(routine.getWeekdays(), date.getDayOfWeek()) && (routine.getEndAt() == null || routine.getEndAt().isAfter(date))
+                        : routine.isDueOn(date)) {
+                    expected.add(date + routine.getTitle());
+                }
+            }
+        }
+        List<JogakResponseDto.GetRoutineJogakDto> result = new ArrayList<>();
+
+        //when
+        RoutineProjection.of(routines).expandInto(from, to, result);
+
+        //then
+        assertThat(result.stream().map(dto -> dto.getDate() + dto.getTitle()).collect(Collectors.toList()))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("쉬는 기간과 건너뛴 날짜는 빼고 펼친다")
+    void 쉬는_기간_펼치기_테스트() {
+        //given - 2024-02-12(월) ~ 2024-02-26(월) 전날까지
+        LocalDate from = LocalDate.of(2024, 2, 12);
+        LocalDate to = LocalDate.of(2024, 2, 26);
+        Jogak weekly = Jogak.builder().id(1L).title("월수금").isRoutine(true)
+                .weekdays(Weekdays.of(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY)))
+                .build();
+        Jogak everyTwoDays = Jogak.builder().id(2L).title("이틀").isRoutine(true).startAt(from).build();
+        everyTwoDays.updateRecurrence(Recurrence.of(RecurrenceType.DAILY, 2, null, null));
+        List<JogakPause> pauses = List.of(
+                // 월수금: 14(수) 하루 건너뛰고 19 ~ 23 쉼
+                JogakConverter.toJogakPause(weekly, LocalDate.of(2024, 2, 14), LocalDate.of(2024, 2, 15)),
+                JogakConverter.toJogakPause(weekly, LocalDate.of(2024, 2, 19), LocalDate.of(2024, 2, 24)),
+                // 이틀: 14 ~ 19 쉼
+                JogakConverter.toJogakPause(everyTwoDays, LocalDate.of(2024, 2, 14), LocalDate.of(2024, 2, 20)));
+        List<JogakResponseDto.GetRoutineJogakDto> result = new ArrayList<>();
+
+        //when
+        RoutineProjection.of(List.of(weekly, everyTwoDays), pauses).expandInto(from, to, result);
+
+        //then
+        assertThat(result.stream().map(dto -> dto.getDate().getDayOfMonth() + dto.getTitle()).collect(Collectors.toList()))
+                .containsExactly("12월수금", "12이틀", "16월수금", "20이틀", "22이틀", "24이틀");
+    }
+
+    private static Jogak routine(String title, LocalDate endAt, DayOfWeek... days) {
+        return Jogak.builder()
+                .title(title)
+                .isRoutine(true)
+                .weekdays(Weekdays.of(List.of(days)))
+                .endAt(endAt)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.mogak.spring.reminder;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    @Test
+    @DisplayName("등록한 작업은 모두 한 번씩, 지연 시간 이전에는 실행되지 않는다")
+    void 만료_테스트() throws InterruptedException {
+        //given - 휠 한 바퀴(8 * 10ms)보다 먼 작업도 포함
+        int taskCount = 200;
+        CountDownLatch done = new CountDownLatch(taskCount);
+        Map<Integer, Long> firedAt = new ConcurrentHashMap<>();
+        HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, task -> {
+            firedAt.merge(task, System.nanoTime(), (prev, now) -> -1L);
+            done.countDown();
+        });
+        wheel.start();
+        long scheduledAt = System.nanoTime();
+
+        //when
+        for (int i = 0; i < taskCount; i++) {
+            wheel.schedule(i, Duration.ofMillis(i * 2L));
+        }
+        boolean completed = done.await(5, TimeUnit.SECONDS);
+        wheel.stop();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(completed).isTrue();
+        softly.assertThat(firedAt).hasSize(taskCount);
+        softly.assertThat(wheel.size()).isZero();
+        firedAt.forEach((task, at) -> softly.assertThat(at - scheduledAt)
+                .as("task %d", task)
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(task * 2L)));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("지연 시간이 지난 작업은 다음 tick에 바로 실행된다")
+    void 지난_작업_테스트() throws InterruptedException {
+        //given
+        CountDownLatch done = new CountDownLatch(1);
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, task -> done.countDown());
+        wheel.start();
+
+        //when
+        wheel.schedule("late", Duration.ofSeconds(-30));
+
+        //then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        wheel.stop();
+    }
+}
@@ -0,0 +1,91 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.config.TimeConfig;
+import com.mogak.spring.domain.batch.BatchStatus;
+import com.mogak.spring.domain.batch.JobExecution;
+import com.mogak.spring.domain.jogak.JogakPeriod;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.BaseSessionEventListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY / 테이블 기반 id 생성 엔티티를 여러 건 저장할 때 DB 왕복 횟수 비교
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.session.events.auto=com.mogak.spring.repository.JdbcBatchInsertBenchmarkTest$RoundTripCounter"
+})
+@Import(TimeConfig.class)
+class JdbcBatchInsertBenchmarkTest {
+
+    private static final int ROWS = 500;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("테이블 기반 id 생성 엔티티는 INSERT가 batch로 묶여서 DB 왕복이 줄어든다")
+    void batch_insert_왕복_횟수_테스트() {
+        //given
+        em.flush();
+
+        //when
+        RoundTripCounter.reset();
+        long identityStart = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            em.persist(JobExecution.builder().jobName("benchmark").runKey(String.valueOf(i)).status(BatchStatus.STARTED).build());
+        }
+        em.flush();
+        long identityMillis = (System.nanoTime() - identityStart) / 1_000_000;
+        int identityRoundTrips = RoundTripCounter.get();
+
+        RoundTripCounter.reset();
+        long pooledStart = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            em.persist(JogakPeriod.builder().build());
+        }
+        em.flush();
+        long pooledMillis = (System.nanoTime() - pooledStart) / 1_000_000;
+        int pooledRoundTrips = RoundTripCounter.get();
+
+        log.info("{}건 저장 - IDENTITY: 왕복 {}회 {}ms, 테이블 id 생성 + batch: 왕복 {}회 {}ms",
+                ROWS, identityRoundTrips, identityMillis, pooledRoundTrips, pooledMillis);
+
+        //then - IDENTITY는 건마다 1회, 테이블 id 생성은 id 50개 할당마다 조회/갱신 2회 + batch 100건당 1회
+        assertThat(identityRoundTrips).isEqualTo(ROWS);
+        assertThat(pooledRoundTrips).isLessThan(identityRoundTrips / 10);
+    }
+
+    public static class RoundTripCounter extends BaseSessionEventListener {
+        private static final AtomicInteger ROUND_TRIPS = new AtomicInteger();
+
+        static void reset() {
+            ROUND_TRIPS.set(0);
+        }
+
+        static int get() {
+            return ROUND_TRIPS.get();
+        }
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            ROUND_TRIPS.incrementAndGet();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            ROUND_TRIPS.incrementAndGet();
+        }
+    }
+}
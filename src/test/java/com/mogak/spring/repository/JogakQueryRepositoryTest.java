@@ -0,0 +1,203 @@
+package com.mogak.spring.repository;
+
+import com.mogak.spring.config.TimeConfig;
+import com.mogak.spring.domain.jogak.DailyJogak;
+import com.mogak.spring.domain.jogak.Jogak;
+import com.mogak.spring.domain.jogak.JogakState;
+import com.mogak.spring.domain.jogak.Weekdays;
+import com.mogak.spring.domain.mogak.Mogak;
+import com.mogak.spring.domain.mogak.MogakCategory;
+import com.mogak.spring.domain.user.User;
+import com.mogak.spring.web.dto.jogakdto.JogakResponseDto;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 조각 조회 API가 모각/카테고리/데일리 조각 수와 상관없이 쿼리 한 번으로 끝나는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TimeConfig.class)
+class JogakQueryRepositoryTest {
+
+    private static final int MOGAKS = 3;
+    private static final int JOGAKS_PER_MOGAK = 4;
+    // 2024-02-12(월)
+    private static final LocalDate DAY = LocalDate.of(2024, 2, 12);
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private JogakQueryRepository jogakQueryRepository;
+
+    private Statistics statistics;
+    private User user;
+    private Mogak firstMogak;
+    private Jogak routine;
+
+    @BeforeEach
+    void setUp() {
+        MogakCategory category = MogakCategory.builder().name("공부").build();
+        em.persist(category);
+        user = User.builder().nickname("mogak").email("mogak@mogak.com").validation("ACTIVE").build();
+        em.persist(user);
+        // 모각마다 일회성 조각 2개(첫 번째만 오늘 시작), 월수금 루틴 조각 2개(첫 번째만 오늘 생성)
+        for (int i = 0; i < MOGAKS; i++) {
+            Mogak mogak = Mogak.builder().user(user).title("모각" + i).bigCategory(category).color("#000000").validation("ACTIVE").build();
+            em.persist(mogak);
+            if (i == 0) {
+                firstMogak = mogak;
+            }
+            for (int j = 0; j < JOGAKS_PER_MOGAK; j++) {
+                boolean isRoutine = j >= JOGAKS_PER_MOGAK / 2;
+                Jogak jogak = Jogak.builder()
+                        .user(user)
+                        .mogak(mogak)
+                        .category(category)
+                        .title("조각" + i + "-" + j)
+                        .isRoutine(isRoutine)
+                        .weekdays(isRoutine ? Weekdays.of(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY)) : null)
+                        .achievements(0)
+                        .startAt(DAY.minusDays(7))
+                        .state(JogakState.ONGOING.name())
+                        .build();
+                em.persist(jogak);
+                if (isRoutine && routine == null) {
+                    routine = jogak;
+                }
+                if (j % 2 == 0) {
+                    em.persist(DailyJogak.builder()
+                            .user(user)
+                            .mogak(mogak)
+                            .jogak(jogak)
+                            .category(category)
+                            .title(jogak.getTitle())
+                            .isRoutine(isRoutine)
+                            .isAchievement(false)
+                            .targetDate(DAY)
+                            .build());
+                }
+            }
+        }
+        em.flush();
+        em.clear();
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("일회성 조각 목록은 시작 여부까지 쿼리 한 번으로 조회한다")
+    void 일회성_조각_조회_테스트() {
+        //when
+        List<JogakResponseDto.GetOneTimeJogakDto> jogaks = jogakQueryRepository.findOneTimeJogaks(user.getId(), DAY);
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        softly.assertThat(jogaks).hasSize(MOGAKS * JOGAKS_PER_MOGAK / 2);
+        softly.assertThat(jogaks.stream().filter(JogakResponseDto.GetOneTimeJogakDto::getIsAlreadyAdded).count()).isEqualTo(MOGAKS);
+        softly.assertThat(jogaks).allSatisfy(jogak -> {
+            softly.assertThat(jogak.getMogakTitle()).startsWith("모각");
+            softly.assertThat(jogak.getCategory()).isEqualTo("공부");
+        });
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("조각이 많아도 시작 여부는 쿼리 한 번으로 조각마다 한 행씩 매칭된다")
+    void 시작_여부_매칭_테스트() {
+        //given - 한 모각에 일회성 조각 300개, 3개마다 하나씩 오늘 시작
+        Mogak mogak = em.find(Mogak.class, firstMogak.getId());
+        Set<Long> added = new HashSet<>();
+        for (int i = 0; i < 300; i++) {
+            Jogak jogak = Jogak.builder().user(mogak.getUser()).mogak(mogak).category(mogak.getBigCategory())
+                    .title("추가" + i).isRoutine(false).achievements(0).state(JogakState.ONGOING.name()).build();
+            em.persist(jogak);
+            if (i % 3 == 0) {
+                em.persist(DailyJogak.builder().user(mogak.getUser()).mogak(mogak).jogak(jogak).category(mogak.getBigCategory())
+                        .title(jogak.getTitle()).isRoutine(false).isAchievement(false).targetDate(DAY).build());
+                added.add(jogak.getId());
+            }
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        //when
+        List<JogakResponseDto.GetJogakDto> jogaks = jogakQueryRepository.findJogaksByMogak(firstMogak.getId(), DAY, false);
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        softly.assertThat(jogaks).hasSize(JOGAKS_PER_MOGAK + 300);
+        softly.assertThat(jogaks.stream().map(JogakResponseDto.GetJogakDto::getJogakId).distinct().count()).isEqualTo(jogaks.size());
+        softly.assertThat(jogaks.stream().filter(jogak -> jogak.getTitle().startsWith("추가")))
+                .allSatisfy(jogak -> softly.assertThat(jogak.getIsAlreadyAdded()).isEqualTo(added.contains(jogak.getJogakId())));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("데일리 조각 목록은 오늘은 생성된 데일리 조각, 미래는 루틴 조각으로 조각 수와 무관한 쿼리 수로 조회한다")
+    void 데일리_조각_조회_테스트() {
+        //when
+        List<JogakResponseDto.GetDailyJogakDto> today = jogakQueryRepository.findDailyJogaks(user.getId(), DAY);
+        long todayStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        LocalDate wednesday = DAY.plusDays(2);
+        List<JogakResponseDto.GetDailyJogakDto> future = jogakQueryRepository.findFutureDailyJogaks(user.getId(), Weekdays.masksOn(wednesday), wednesday);
+        long futureStatements = statistics.getPrepareStatementCount();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        // 데일리 조각 + 보관한 마지막 날짜 확인 (보관한 날짜가 아니면 보관 테이블은 읽지 않음)
+        softly.assertThat(todayStatements).isEqualTo(2);
+        softly.assertThat(futureStatements).isEqualTo(1);
+        softly.assertThat(today).hasSize(MOGAKS * JOGAKS_PER_MOGAK / 2);
+        softly.assertThat(today).allSatisfy(dailyJogak -> softly.assertThat(dailyJogak.getDailyJogakId()).isPositive());
+        softly.assertThat(future).hasSize(MOGAKS * JOGAKS_PER_MOGAK / 2);
+        softly.assertThat(future).allSatisfy(dailyJogak -> {
+            softly.assertThat(dailyJogak.getDailyJogakId()).isEqualTo(-1L);
+            softly.assertThat(dailyJogak.getIsRoutine()).isTrue();
+            softly.assertThat(dailyJogak.getIsAchievement()).isFalse();
+        });
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("모각의 조각 목록과 조각 상세는 요일까지 쿼리 한 번으로 조회한다")
+    void 모각_조각_상세_조회_테스트() {
+        //when
+        List<JogakResponseDto.GetJogakDto> jogaks = jogakQueryRepository.findJogaksByMogak(firstMogak.getId(), DAY, false);
+        long listStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        JogakResponseDto.DetailJogakDto detail = jogakQueryRepository.findJogakDetail(routine.getId()).orElseThrow();
+        long detailStatements = statistics.getPrepareStatementCount();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(listStatements).isEqualTo(1);
+        softly.assertThat(detailStatements).isEqualTo(1);
+        softly.assertThat(jogaks).hasSize(JOGAKS_PER_MOGAK);
+        softly.assertThat(jogaks.stream().map(JogakResponseDto.GetJogakDto::getIsAlreadyAdded).collect(Collectors.toList()))
+                .containsExactly(true, false, true, false);
+        softly.assertThat(jogaks.get(2).getDays()).containsExactly("MONDAY", "WEDNESDAY", "FRIDAY");
+        softly.assertThat(jogaks.get(0).getDays()).isEmpty();
+        softly.assertThat(detail.getColor()).isEqualTo("#000000");
+        softly.assertThat(detail.getDays()).containsExactly("MONDAY", "WEDNESDAY", "FRIDAY");
+        softly.assertAll();
+    }
+}
@@ -0,0 +1,172 @@
+package com.mogak.spring.scheduler;
+
+import com.mogak.spring.redis.RedisService;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchedulerLockTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisService redisService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisService = new RedisService(redisTemplate);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("여러 서버가 동시에 실행해도 작업은 한 번만 수행된다")
+    void 동시_실행_테스트() throws Exception {
+        //given
+        AtomicInteger executed = new AtomicInteger();
+        List<SchedulerLock> nodes = List.of(newNode(1000), newNode(1000), newNode(1000));
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<Boolean>> results = new CopyOnWriteArrayList<>();
+        for (SchedulerLock node : nodes) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return node.runExclusively("concurrent", "2024-02-14", lease -> {
+                    executed.incrementAndGet();
+                    sleep(200);
+                });
+            }));
+        }
+        start.countDown();
+        int ran = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(5, TimeUnit.SECONDS)) {
+                ran++;
+            }
+        }
+        executor.shutdown();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(executed.get()).isEqualTo(1);
+        softly.assertThat(ran).isEqualTo(1);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("작업 서버가 죽으면 lease 만료 후 대기 서버가 더 큰 토큰으로 이어받는다")
+    void 대기_서버_인계_테스트() {
+        //given - lease를 잡은 뒤 연장 없이 죽은 서버
+        SchedulerLock deadNode = newNode(300);
+        SchedulerLock.Lease deadLease = deadNode.tryAcquire("takeover").orElseThrow();
+        SchedulerLock standby = newNode(300);
+        AtomicLong standbyToken = new AtomicLong();
+
+        //when
+        boolean ran = standby.runExclusively("takeover", "2024-02-14",
+                lease -> standbyToken.set(lease.getToken()));
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(ran).isTrue();
+        softly.assertThat(standbyToken.get()).isGreaterThan(deadLease.getToken());
+        softly.assertThat(deadNode.renew(deadLease)).isFalse();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 완료 표시가 남지 않아 다시 실행할 수 있다")
+    void 실패_후_재실행_테스트() {
+        //given
+        SchedulerLock node = newNode(1000);
+        AtomicInteger executed = new AtomicInteger();
+        try {
+            node.runExclusively("retry", "2024-02-14", lease -> {
+                throw new IllegalStateException("fail");
+            });
+        } catch (IllegalStateException ignored) {
+        }
+
+        //when
+        boolean ran = node.runExclusively("retry", "2024-02-14", lease -> executed.incrementAndGet());
+        boolean ranAgain = node.runExclusively("retry", "2024-02-14", lease -> executed.incrementAndGet());
+
+        //then
+        assertThat(ran).isTrue();
+        assertThat(ranAgain).isFalse();
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lease를 잡지 못한 시도는 토큰을 올리지 않고, 대기 중 인터럽트되면 대기를 멈춘다")
+    void 획득_실패_토큰_인터럽트_테스트() throws Exception {
+        //given
+        SchedulerLock owner = newNode(5000);
+        SchedulerLock standby = new SchedulerLock(redisService, 5000, 30000, 5000);
+        SchedulerLock.Lease lease = owner.tryAcquire("fence").orElseThrow();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        boolean acquired = standby.tryAcquire("fence").isPresent() || standby.tryAcquire("fence").isPresent();
+        Future<Boolean> waiting = executor.submit(() -> standby.runExclusively("fence", "2024-02-14", l -> {}));
+        sleep(200);
+        executor.shutdownNow();
+        boolean ran = waiting.get(1, TimeUnit.SECONDS);
+        owner.release(lease);
+        long nextToken = standby.tryAcquire("fence").orElseThrow().getToken();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(acquired).isFalse();
+        softly.assertThat(ran).isFalse();
+        softly.assertThat(nextToken).isEqualTo(lease.getToken() + 1);
+        softly.assertAll();
+    }
+
+    private static SchedulerLock newNode(long leaseTime) {
+        return new SchedulerLock(redisService, leaseTime, 5000, 50);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.mogak.spring.service;
+
+import com.mogak.spring.config.TimeConfig;
+import com.mogak.spring.domain.jogak.DailyJogak;
+import com.mogak.spring.domain.jogak.Jogak;
+import com.mogak.spring.domain.jogak.JogakState;
+import com.mogak.spring.domain.mogak.Mogak;
+import com.mogak.spring.domain.mogak.MogakCategory;
+import com.mogak.spring.domain.user.User;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 기기에서 동시에 달성/취소를 눌러도 달성 횟수가 유실되지 않는지 확인
+ * 스레드마다 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션 없이 실행
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({AchievementCounter.class, TimeConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AchievementCounterTest {
+
+    private static final int DAILY_JOGAKS = 100;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private AchievementCounter achievementCounter;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long jogakId;
+    private List<Long> dailyJogakIds;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        dailyJogakIds = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            MogakCategory category = MogakCategory.builder().name("운동").build();
+            em.persist(category);
+            User user = User.builder().nickname("mogak").email("mogak@mogak.com").validation("ACTIVE").build();
+            em.persist(user);
+            Mogak mogak = Mogak.builder().user(user).title("모각").bigCategory(category).validation("ACTIVE").build();
+            em.persist(mogak);
+            Jogak jogak = Jogak.builder().user(user).mogak(mogak).category(category).title("매일 운동")
+                    .isRoutine(true).achievements(0).state(JogakState.ONGOING.name()).build();
+            em.persist(jogak);
+            jogakId = jogak.getId();
+            LocalDate day = LocalDate.of(2024, 1, 1);
+            for (int i = 0; i < DAILY_JOGAKS; i++) {
+                DailyJogak dailyJogak = DailyJogak.builder().user(user).mogak(mogak).jogak(jogak).category(category)
+                        .title(jogak.getTitle()).isRoutine(true).isAchievement(false).targetDate(day.plusDays(i)).build();
+                em.persist(dailyJogak);
+                dailyJogakIds.add(dailyJogak.getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM DailyJogak").executeUpdate();
+            em.createQuery("DELETE FROM Jogak").executeUpdate();
+            em.createQuery("DELETE FROM Mogak").executeUpdate();
+            em.createQuery("DELETE FROM User").executeUpdate();
+            em.createQuery("DELETE FROM MogakCategory").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("같은 데일리 조각을 여러 스레드가 동시에 달성/취소해도 한 번씩만 반영되고 달성 횟수가 유실되지 않는다")
+    void 동시_달성_테스트() throws Exception {
+        //when - 모든 스레드가 모든 데일리 조각을 달성, 이후 모두 취소
+        int succeeded = toggleConcurrently(true);
+        int achievedAfterSuccess = achievements();
+        int failed = toggleConcurrently(false);
+        int achievedAfterFail = achievements();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(succeeded).isEqualTo(DAILY_JOGAKS);
+        softly.assertThat(achievedAfterSuccess).isEqualTo(DAILY_JOGAKS);
+        softly.assertThat(failed).isEqualTo(DAILY_JOGAKS);
+        softly.assertThat(achievedAfterFail).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("달성 변경은 엔티티를 읽지 않고 UPDATE 두 번으로 끝난다")
+    void 달성_변경_쿼리_수_테스트() {
+        //given
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        long start = System.nanoTime();
+        for (Long dailyJogakId : dailyJogakIds) {
+            achievementCounter.toggle(dailyJogakId, true);
+        }
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+        log.info("달성 변경 {}건 - {}us, 건당 쿼리 {}회", DAILY_JOGAKS, elapsedMicros,
+                (double) statistics.getPrepareStatementCount() / DAILY_JOGAKS);
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L * DAILY_JOGAKS);
+        softly.assertThat(statistics.getEntityLoadCount()).isZero();
+        softly.assertThat(achievements()).isEqualTo(DAILY_JOGAKS);
+        softly.assertAll();
+    }
+
+    private int toggleConcurrently(boolean achievement) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger toggled = new AtomicInteger();
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            List<Long> ids = new ArrayList<>(dailyJogakIds);
+            Collections.shuffle(ids);
+            results.add(executor.submit(() -> {
+                start.await();
+                for (Long id : ids) {
+                    if (achievementCounter.toggle(id, achievement)) {
+                        toggled.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+        executor.shutdown();
+        log.info("{}스레드 x {}건 동시 {} - {}ms", THREADS, DAILY_JOGAKS, achievement ? "달성" : "취소", elapsedMillis);
+        return toggled.get();
+    }
+
+    private int achievements() {
+        return transactionTemplate.execute(status -> em.createQuery(
+                        "SELECT j.achievements FROM Jogak j WHERE j.id = :id", Integer.class)
+                .setParameter("id", jogakId)
+                .getSingleResult());
+    }
+}
@@ -0,0 +1,274 @@
+package com.mogak.spring.service;
+
+import com.mogak.spring.config.TimeConfig;
+import com.mogak.spring.domain.jogak.DailyJogak;
+import com.mogak.spring.domain.jogak.Jogak;
+import com.mogak.spring.domain.jogak.JogakState;
+import com.mogak.spring.domain.modarat.Modarat;
+import com.mogak.spring.domain.mogak.Mogak;
+import com.mogak.spring.domain.mogak.MogakCategory;
+import com.mogak.spring.domain.stat.AchievementBitmap;
+import com.mogak.spring.domain.stat.AchievementStat;
+import com.mogak.spring.domain.stat.DailyAchievement;
+import com.mogak.spring.domain.stat.StatScope;
+import com.mogak.spring.domain.user.User;
+import com.mogak.spring.repository.AchievementBitmapRepository;
+import com.mogak.spring.repository.AchievementStatRepository;
+import com.mogak.spring.repository.DailyJogakRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 데일리 조각 생성/달성/취소 때 누적한 통계가 이력으로 다시 계산한 값과 같은지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({AchievementStatRecorder.class, TimeConfig.class})
+class AchievementStatRecorderTest {
+
+    // 2024-02-12(월)
+    private static final LocalDate DAY = LocalDate.of(2024, 2, 12);
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private AchievementStatRecorder achievementStatRecorder;
+    @Autowired
+    private AchievementStatRepository achievementStatRepository;
+    @Autowired
+    private DailyJogakRepository dailyJogakRepository;
+    @Autowired
+    private AchievementBitmapRepository achievementBitmapRepository;
+
+    private User user;
+    private Mogak mogak;
+    private Jogak routine;
+    private Jogak oneTime;
+    private Map<StatScope, Long> targets;
+
+    @BeforeEach
+    void setUp() {
+        MogakCategory category = MogakCategory.builder().name("운동").build();
+        em.persist(category);
+        user = User.builder().nickname("mogak").email("mogak@mogak.com").validation("ACTIVE").build();
+        em.persist(user);
+        Modarat modarat = Modarat.builder().user(user).title("모다라트").color("#000000").validation("ACTIVE").build();
+        em.persist(modarat);
+        mogak = Mogak.builder().user(user).modarat(modarat).title("모각").bigCategory(category).validation("ACTIVE").build();
+        em.persist(mogak);
+        routine = Jogak.builder().user(user).mogak(mogak).category(category).title("매일 운동")
+                .isRoutine(true).achievements(0).state(JogakState.ONGOING.name()).build();
+        em.persist(routine);
+        oneTime = Jogak.builder().user(user).mogak(mogak).category(category).title("등록하기")
+                .isRoutine(false).achievements(0).state(JogakState.ONGOING.name()).build();
+        em.persist(oneTime);
+        targets = new HashMap<>();
+        targets.put(StatScope.JOGAK, routine.getId());
+        targets.put(StatScope.MOGAK, mogak.getId());
+        targets.put(StatScope.MODARAT, modarat.getId());
+    }
+
+    @Test
+    @DisplayName("생성/달성/취소를 누적한 통계는 이력으로 다시 계산한 통계와 같다")
+    void 누적_재계산_일치_테스트() {
+        //given - 1, 2일차 달성, 3일차 미달성, 4일차 달성 후 취소했다가 다시 달성, 5일차(오늘)는 생성만
+        // 2일차 한 번 조각과 3일차는 조각 하나 생성 경로로 누적
+        achieve(generate(routine, DAY));
+        achieve(generate(routine, DAY.plusDays(1)));
+        generateOne(oneTime, DAY.plusDays(1));
+        generateOne(routine, DAY.plusDays(2));
+        DailyJogak fourth = generate(routine, DAY.plusDays(3));
+        achieve(fourth);
+        cancel(fourth);
+        achieve(fourth);
+        generate(routine, DAY.plusDays(4));
+        // 같은 날 생성 집계를 다시 실행해도 중복으로 세지 않음
+        achievementStatRecorder.onGenerated(DAY.plusDays(4), user.getId(), user.getId());
+        Map<StatScope, AchievementStat> incremental = loadStats();
+
+        //when
+        targets.forEach((scope, targetId) -> achievementStatRecorder.rebuild(scope, List.of(targetId)));
+        Map<StatScope, AchievementStat> rebuilt = loadStats();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        for (StatScope scope : StatScope.values()) {
+            softly.assertThat(incremental.get(scope))
+                    .usingRecursiveComparison()
+                    .comparingOnlyFields("totalCount", "achievedCount", "slotCount", "slotAchievedCount", "currentStreak", "longestStreak")
+                    .isEqualTo(rebuilt.get(scope));
+        }
+        AchievementStat jogakStat = incremental.get(StatScope.JOGAK);
+        softly.assertThat(jogakStat.getTotalCount()).isEqualTo(5);
+        softly.assertThat(jogakStat.getAchievedCount()).isEqualTo(3);
+        softly.assertThat(jogakStat.getAchievementRate()).isEqualTo(60);
+        softly.assertThat(jogakStat.getLongestStreak()).isEqualTo(2);
+        softly.assertThat(jogakStat.getCurrentStreak()).isEqualTo(1);
+        AchievementStat mogakStat = incremental.get(StatScope.MOGAK);
+        softly.assertThat(mogakStat.getTotalCount()).isEqualTo(6);
+        softly.assertThat(mogakStat.getAchievementRate()).isEqualTo(50);
+        softly.assertThat(mogakStat.getLongestStreak()).isEqualTo(2);
+        softly.assertThat(incremental.get(StatScope.MODARAT).getTotalCount()).isEqualTo(6);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("마지막 칸을 달성하지 못해도 그 날이 지나기 전까지는 연속 달성이 유지된다")
+    void 연속_달성_유지_테스트() {
+        //given - 1, 2일차 달성, 3일차(오늘)는 아직 달성 전
+        AchievementStat stat = AchievementStat.of(StatScope.JOGAK, 1L);
+        stat.rebuild(List.of(
+                new DailyAchievement(DAY, 1, 1),
+                new DailyAchievement(DAY.plusDays(1), 1, 1),
+                new DailyAchievement(DAY.plusDays(2), 1, 0)));
+
+        //when
+        int today = stat.getCurrentStreak(DAY.plusDays(2));
+        int tomorrow = stat.getCurrentStreak(DAY.plusDays(3));
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(today).isEqualTo(2);
+        softly.assertThat(tomorrow).isZero();
+        softly.assertThat(stat.getAchievementRate()).isEqualTo(66);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("달성 통계는 이력을 읽지 않고 대상마다 UPDATE 한 번으로 누적된다")
+    void 달성_누적_쿼리_수_테스트() {
+        //given
+        DailyJogak dailyJogak = generate(routine, DAY);
+        dailyJogakRepository.updateAchievement(dailyJogak.getId(), true, LocalDateTime.now());
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        achievementStatRecorder.onAchieved(DAY, routine.getId(), mogak.getId(), targets.get(StatScope.MODARAT));
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        // 통계 단위마다 한 번 + 조각 달성 비트맵 한 번
+        softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(StatScope.values().length + 1);
+        softly.assertThat(loadStats().get(StatScope.MODARAT).getCurrentStreak()).isEqualTo(1);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("마지막 칸의 달성 취소는 이력을 읽지 않고 직전 연속 달성으로 되돌린다")
+    void 마지막_칸_취소_쿼리_수_테스트() {
+        //given - 1, 2, 3일차 달성
+        achieve(generate(routine, DAY));
+        achieve(generate(routine, DAY.plusDays(1)));
+        DailyJogak third = generate(routine, DAY.plusDays(2));
+        achieve(third);
+        dailyJogakRepository.updateAchievement(third.getId(), false, LocalDateTime.now());
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        achievementStatRecorder.onCancelled(DAY.plusDays(2), routine.getId(), mogak.getId(), targets.get(StatScope.MODARAT));
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        // 통계 단위마다 한 번 + 조각 달성 비트맵 한 번
+        softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(StatScope.values().length + 1);
+        AchievementStat jogakStat = loadStats().get(StatScope.JOGAK);
+        softly.assertThat(jogakStat.getAchievedCount()).isEqualTo(2);
+        softly.assertThat(jogakStat.getCurrentStreak()).isEqualTo(2);
+        softly.assertThat(jogakStat.getLongestStreak()).isEqualTo(2);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("생성/달성/취소로 갱신한 달성 비트맵은 날짜별 비트로 누적되고 이력으로 다시 만든 비트맵과 날짜 수가 같다")
+    void 달성_비트맵_재계산_일치_테스트() {
+        //given - 2월 28일 달성, 29일 달성 후 취소, 3월 1일 달성, 2일은 생성만
+        LocalDate monthEnd = LocalDate.of(2024, 2, 28);
+        achieve(generate(routine, monthEnd));
+        DailyJogak second = generate(routine, monthEnd.plusDays(1));
+        achieve(second);
+        cancel(second);
+        achieve(generate(routine, monthEnd.plusDays(2)));
+        generate(routine, monthEnd.plusDays(3));
+        List<AchievementBitmap> incremental = loadBitmaps();
+
+        //when
+        achievementStatRecorder.rebuildBitmaps(List.of(routine.getId()));
+        List<AchievementBitmap> rebuilt = loadBitmaps();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(incremental).extracting(AchievementBitmap::getBitmapMonth, AchievementBitmap::getScheduledDays, AchievementBitmap::getAchievedDays)
+                .containsExactlyInAnyOrder(
+                        tuple(202402, (1 << 27) | (1 << 28), 1 << 27),
+                        tuple(202403, 0b11, 0b1));
+        // H2에서 읽은 LocalDate가 하루 밀릴 수 있어서 재계산 결과는 날짜 수로 비교
+        softly.assertThat(bitCount(rebuilt, AchievementBitmap::getScheduledDays)).isEqualTo(bitCount(incremental, AchievementBitmap::getScheduledDays));
+        softly.assertThat(bitCount(rebuilt, AchievementBitmap::getAchievedDays)).isEqualTo(bitCount(incremental, AchievementBitmap::getAchievedDays));
+        softly.assertAll();
+    }
+
+    private DailyJogak generate(Jogak jogak, LocalDate day) {
+        DailyJogak dailyJogak = DailyJogak.builder().user(user).mogak(mogak).jogak(jogak).category(jogak.getCategory())
+                .title(jogak.getTitle()).isRoutine(jogak.getIsRoutine()).isAchievement(false).targetDate(day).build();
+        em.persist(dailyJogak);
+        em.flush();
+        achievementStatRecorder.onGenerated(day, user.getId(), user.getId());
+        return dailyJogak;
+    }
+
+    private void generateOne(Jogak jogak, LocalDate day) {
+        DailyJogak dailyJogak = DailyJogak.builder().user(user).mogak(mogak).jogak(jogak).category(jogak.getCategory())
+                .title(jogak.getTitle()).isRoutine(jogak.getIsRoutine()).isAchievement(false).targetDate(day).build();
+        em.persist(dailyJogak);
+        em.flush();
+        achievementStatRecorder.onJogakGenerated(day, user.getId(), jogak.getId(), mogak.getId(), targets.get(StatScope.MODARAT));
+    }
+
+    private void achieve(DailyJogak dailyJogak) {
+        dailyJogakRepository.updateAchievement(dailyJogak.getId(), true, LocalDateTime.now());
+        achievementStatRecorder.onAchieved(dailyJogak.getTargetDate(),
+                dailyJogak.getJogak().getId(), mogak.getId(), targets.get(StatScope.MODARAT));
+    }
+
+    private void cancel(DailyJogak dailyJogak) {
+        dailyJogakRepository.updateAchievement(dailyJogak.getId(), false, LocalDateTime.now());
+        achievementStatRecorder.onCancelled(dailyJogak.getTargetDate(), dailyJogak.getJogak().getId(), mogak.getId(), targets.get(StatScope.MODARAT));
+    }
+
+    private Map<StatScope, AchievementStat> loadStats() {
+        em.flush();
+        em.clear();
+        Map<StatScope, AchievementStat> stats = new HashMap<>();
+        targets.forEach((scope, targetId) ->
+                stats.put(scope, achievementStatRepository.findByScopeAndTargetId(scope, targetId).orElseThrow()));
+        return stats;
+    }
+
+    private List<AchievementBitmap> loadBitmaps() {
+        em.flush();
+        em.clear();
+        return achievementBitmapRepository.findAllByJogakIdAndBitmapMonthBetween(routine.getId(), 202401, 202412);
+    }
+
+    private int bitCount(List<AchievementBitmap> bitmaps, Function<AchievementBitmap, Integer> days) {
+        return bitmaps.stream().mapToInt(bitmap -> Integer.bitCount(days.apply(bitmap))).sum();
+    }
+}
@@ -0,0 +1,137 @@
+package com.mogak.spring.service;
+
+import com.mogak.spring.batch.BatchJobRunner;
+import com.mogak.spring.batch.DailyJogakArchiveJob;
+import com.mogak.spring.batch.JogakJudgementJob;
+import com.mogak.spring.batch.RoutineJogakJob;
+import com.mogak.spring.cache.CalendarCache;
+import com.mogak.spring.config.TimeConfig;
+import com.mogak.spring.domain.jogak.Jogak;
+import com.mogak.spring.domain.jogak.JogakState;
+import com.mogak.spring.domain.mogak.Mogak;
+import com.mogak.spring.domain.mogak.MogakCategory;
+import com.mogak.spring.domain.user.User;
+import com.mogak.spring.exception.JogakException;
+import com.mogak.spring.global.ErrorCode;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 같은 조각의 시작을 동시에 눌러도 데일리 조각은 하나만 생기고 나머지는 ALREADY_START_JOGAK
+ * 스레드마다 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest
+@Import({JogakServiceImpl.class, AchievementCounter.class, AchievementStatRecorder.class, TimeConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JogakStartConcurrencyTest {
+
+    private static final int THREADS = 2;
+
+    @Autowired
+    private JogakService jogakService;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private CalendarCache calendarCache;
+    @MockBean
+    private RoutineJogakMaterializer routineJogakMaterializer;
+    @MockBean
+    private BatchJobRunner batchJobRunner;
+    @MockBean
+    private RoutineJogakJob routineJogakJob;
+    @MockBean
+    private JogakJudgementJob jogakJudgementJob;
+    @MockBean
+    private DailyJogakArchiveJob dailyJogakArchiveJob;
+
+    private TransactionTemplate transactionTemplate;
+    private Long jogakId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            MogakCategory category = MogakCategory.builder().name("운동").build();
+            em.persist(category);
+            User user = User.builder().nickname("mogak").email("mogak@mogak.com").validation("ACTIVE").build();
+            em.persist(user);
+            Mogak mogak = Mogak.builder().user(user).title("모각").bigCategory(category).validation("ACTIVE").build();
+            em.persist(mogak);
+            Jogak jogak = Jogak.builder().user(user).mogak(mogak).category(category).title("한 번 운동")
+                    .isRoutine(false).achievements(0).state(JogakState.ONGOING.name()).build();
+            em.persist(jogak);
+            jogakId = jogak.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM DailyJogak").executeUpdate();
+            em.createQuery("DELETE FROM Jogak").executeUpdate();
+            em.createQuery("DELETE FROM Mogak").executeUpdate();
+            em.createQuery("DELETE FROM User").executeUpdate();
+            em.createQuery("DELETE FROM MogakCategory").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("같은 조각을 두 스레드가 동시에 시작하면 하나만 성공하고 나머지는 이미 시작한 조각 에러")
+    void 동시_시작_테스트() throws Exception {
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return jogakService.startJogak(jogakId);
+            }));
+        }
+        start.countDown();
+        int started = 0;
+        List<String> errors = new ArrayList<>();
+        for (Future<?> result : results) {
+            try {
+                result.get(30, TimeUnit.SECONDS);
+                started++;
+            } catch (ExecutionException e) {
+                errors.add(((JogakException) e.getCause()).getCode());
+            }
+        }
+        executor.shutdown();
+
+        //then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(started).isEqualTo(1);
+        softly.assertThat(errors).containsExactly(ErrorCode.ALREADY_START_JOGAK.getCode());
+        softly.assertThat(dailyJogaks()).isEqualTo(1L);
+        softly.assertAll();
+    }
+
+    private long dailyJogaks() {
+        return transactionTemplate.execute(status -> em.createQuery(
+                        "SELECT COUNT(d) FROM DailyJogak d WHERE d.jogak.id = :id", Long.class)
+                .setParameter("id", jogakId)
+                .getSingleResult());
+    }
+}